@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.bench;
+
+import com.jcabi.github.JsonBackend;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Parsing of JSON pages.
+ *
+ * <p>Compares {@link JsonBackend.Standard} with {@link JsonBackend.Jackson}
+ * on pages of 30 and 100 issues. Single objects are in
+ * {@link ObjectBench}.</p>
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class JsonBench {
+
+    /**
+     * Issues per page.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Param({"30", "100"})
+    public int items;
+
+    /**
+     * Backend.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Param({"standard", "jackson"})
+    public String backend;
+
+    /**
+     * Page.
+     */
+    private byte[] page;
+
+    /**
+     * Backend to parse with.
+     */
+    private JsonBackend parser;
+
+    /**
+     * Prepare.
+     */
+    @Setup
+    public void setup() {
+        this.page = Pages.issues(this.items).getBytes(StandardCharsets.UTF_8);
+        if ("jackson".equals(this.backend)) {
+            this.parser = new JsonBackend.Jackson();
+        } else {
+            this.parser = new JsonBackend.Standard();
+        }
+    }
+
+    /**
+     * Parse a page and read the title of every issue.
+     * @param hole Blackhole
+     */
+    @Benchmark
+    public void parsePage(final Blackhole hole) {
+        for (final JsonValue value : this.parser.array(this.page)) {
+            hole.consume(((JsonObject) value).getString("title"));
+        }
+    }
+}
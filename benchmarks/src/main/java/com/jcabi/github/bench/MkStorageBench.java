@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.bench;
+
+import com.jcabi.github.Issue;
+import com.jcabi.github.Repo;
+import com.jcabi.github.mock.MkGithub;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads and writes of the mock storage, at different document sizes.
+ *
+ * <p>The storage is filled with 10 or 100 issues, then the title of
+ * one of them is read or changed. Every write rewrites the whole XML
+ * document, while every read parses it, so both grow with the number
+ * of issues. There is no run with 1000 issues: since every issue
+ * created rewrites the document too, filling the storage takes longer
+ * than all the other benchmarks together.</p>
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MkStorageBench {
+
+    /**
+     * Issues in the storage.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Param({"10", "100"})
+    public int issues;
+
+    /**
+     * Issue to read and write.
+     */
+    private Issue.Smart issue;
+
+    /**
+     * Number of writes so far.
+     */
+    private long writes;
+
+    /**
+     * Prepare.
+     * @throws IOException If fails
+     */
+    @Setup
+    public void setup() throws IOException {
+        final Repo repo = new MkGithub().randomRepo();
+        Issue last = null;
+        for (int idx = 0; idx < this.issues; ++idx) {
+            last = repo.issues().create(
+                String.format("Issue number %d", idx), "body"
+            );
+        }
+        this.issue = new Issue.Smart(last);
+    }
+
+    /**
+     * Read the title.
+     * @return Title
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public String read() throws IOException {
+        return this.issue.title();
+    }
+
+    /**
+     * Change the title.
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public void write() throws IOException {
+        this.writes += 1L;
+        this.issue.title(String.format("Title %d", this.writes % 2L));
+    }
+}
@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.bench;
+
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+
+/**
+ * JSON documents, shaped like the ones Github returns.
+ *
+ * @since 2.0
+ */
+final class Pages {
+
+    /**
+     * Utility class.
+     */
+    private Pages() {
+        // intentionally empty
+    }
+
+    /**
+     * Page of issues.
+     * @param count How many issues
+     * @return JSON array
+     */
+    static String issues(final int count) {
+        final JsonArrayBuilder page = Json.createArrayBuilder();
+        for (int idx = 1; idx <= count; ++idx) {
+            page.add(Pages.issue(idx));
+        }
+        return page.build().toString();
+    }
+
+    /**
+     * Issue.
+     * @param number Number of it
+     * @return JSON object
+     */
+    static JsonObject issue(final int number) {
+        final String url = String.format(
+            "https://api.github.com/repos/jcabi/jcabi-github/issues/%d",
+            number
+        );
+        return Json.createObjectBuilder()
+            .add("url", url)
+            .add("html_url", url.replace("api.", "").replace("/repos", ""))
+            .add("id", 1_000_000 + number)
+            .add("number", number)
+            .add("title", String.format("Issue number %d", number))
+            .add(
+                "user",
+                Json.createObjectBuilder()
+                    .add("login", "yegor256")
+                    .add("id", 526_301)
+                    .add("type", "User")
+                    .add("site_admin", false)
+            )
+            .add(
+                "labels",
+                Json.createArrayBuilder().add(
+                    Json.createObjectBuilder()
+                        .add("name", "bug")
+                        .add("color", "f29513")
+                )
+            )
+            .add("state", "open")
+            .add("locked", false)
+            .addNull("assignee")
+            .add("comments", number % 7)
+            .add("created_at", "2024-01-01T00:00:00Z")
+            .add("updated_at", "2024-01-02T00:00:00Z")
+            .addNull("closed_at")
+            .add("author_association", "OWNER")
+            .add(
+                "body",
+                "Steps to reproduce, expected and actual behaviour."
+            )
+            .build();
+    }
+}
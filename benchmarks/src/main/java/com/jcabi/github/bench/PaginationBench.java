@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.bench;
+
+import com.jcabi.github.Bulk;
+import com.jcabi.github.Coordinates;
+import com.jcabi.github.Issue;
+import com.jcabi.github.RtGithub;
+import com.jcabi.github.RtValuePagination;
+import com.jcabi.github.Smarts;
+import com.jcabi.http.Request;
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Pagination and Smart accessors over {@link FakeRequest}.
+ *
+ * <p>Every benchmark goes through a page of 30 or 100 issues, as
+ * {@link RtValuePagination} returns them, and the Smart decorators
+ * read fields of every issue, with {@link Bulk} keeping the JSON of
+ * the page, so no further requests are made.</p>
+ *
+ * @since 2.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class PaginationBench {
+
+    /**
+     * Issues per page.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Param({"30", "100"})
+    public int items;
+
+    /**
+     * Request returning the page.
+     */
+    private Request request;
+
+    /**
+     * Prepare.
+     */
+    @Setup
+    public void setup() {
+        this.request = new FakeRequest().withBody(Pages.issues(this.items));
+    }
+
+    /**
+     * Iterate a page of raw JSON objects.
+     * @param hole Blackhole
+     */
+    @Benchmark
+    public void iteratePage(final Blackhole hole) {
+        for (final JsonObject json : new RtValuePagination<JsonObject,
+            JsonObject>(this.request, object -> object)) {
+            hole.consume(json);
+        }
+    }
+
+    /**
+     * Iterate a page of issues and read them with Smart accessors.
+     * @param hole Blackhole
+     * @throws IOException If fails
+     */
+    @Benchmark
+    public void readSmarts(final Blackhole hole) throws IOException {
+        final Iterable<Issue.Smart> issues = new Smarts<>(
+            new Bulk<>(
+                new RtGithub(this.request).repos()
+                    .get(new Coordinates.Simple("jcabi", "jcabi-github"))
+                    .issues()
+                    .iterate(Collections.emptyMap())
+            )
+        );
+        for (final Issue.Smart issue : issues) {
+            hole.consume(issue.title());
+            hole.consume(issue.state());
+            hole.consume(issue.isOpen());
+        }
+    }
+}
@@ -0,0 +1,331 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.immutable.Array;
+import com.jcabi.immutable.ArrayMap;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.xml.bind.DatatypeConverter;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Commit of many files at once, made through the Git Data API.
+ *
+ * <p>Instead of one commit per file, which {@link Contents} makes,
+ * all blobs are created in parallel, then a single tree is created on
+ * top of the tree of the branch head, a single commit is made and
+ * the branch is fast-forwarded to it:</p>
+ *
+ * <pre> final Commit commit = new BatchCommit(repo.git(), "master")
+ *   .with("config/a.yml", "a: 1")
+ *   .with("config/b.yml", "b: 2")
+ *   .without("config/old.yml")
+ *   .commit("sync configs");</pre>
+ *
+ * <p>If somebody else pushes to the branch in the meantime, the
+ * fast-forward fails and nothing is changed on the branch. A caller that
+ * has already read the branch head, to decide what to change, should
+ * pass it to {@link #on(String, String)}, so that the commit is made on
+ * top of exactly that head, and fails if the branch has moved since.</p>
+ *
+ * @since 2.0
+ * @see <a href="https://developer.github.com/v3/git/">Git Data API</a>
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString(of = { "branch", "files", "removed" })
+@EqualsAndHashCode(
+    of = { "git", "branch", "files", "modes", "removed", "head", "threads" }
+)
+public final class BatchCommit {
+
+    /**
+     * Default number of parallel requests.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * Mode of a regular file.
+     */
+    private static final String MODE = "100644";
+
+    /**
+     * Git data of the repository.
+     */
+    private final transient Git git;
+
+    /**
+     * Name of the branch.
+     */
+    private final transient String branch;
+
+    /**
+     * Files to write, paths to Base64 encoded contents.
+     */
+    private final transient ArrayMap<String, String> files;
+
+    /**
+     * Modes of files to write, other than a regular file.
+     */
+    private final transient ArrayMap<String, String> modes;
+
+    /**
+     * Paths of files to remove.
+     */
+    private final transient Array<String> removed;
+
+    /**
+     * Parent commit and its tree, empty to read the branch head.
+     */
+    private final transient Array<String> head;
+
+    /**
+     * Maximum number of parallel requests.
+     */
+    private final transient int threads;
+
+    /**
+     * Public ctor.
+     * @param data Git data of the repository
+     * @param name Name of the branch, like {@code master}
+     */
+    public BatchCommit(final Git data, final String name) {
+        this(
+            data, name, new ArrayMap<>(), new ArrayMap<>(), new Array<>(),
+            new Array<>(), BatchCommit.THREADS
+        );
+    }
+
+    /**
+     * Private ctor.
+     * @param data Git data of the repository
+     * @param name Name of the branch
+     * @param write Files to write
+     * @param mds Modes of files to write
+     * @param remove Paths of files to remove
+     * @param parent Parent commit and its tree, empty for the branch head
+     * @param parallel Maximum number of parallel requests
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private BatchCommit(final Git data, final String name,
+        final ArrayMap<String, String> write,
+        final ArrayMap<String, String> mds, final Array<String> remove,
+        final Array<String> parent, final int parallel) {
+        this.git = data;
+        this.branch = name;
+        this.files = write;
+        this.modes = mds;
+        this.removed = remove;
+        this.head = parent;
+        this.threads = parallel;
+    }
+
+    /**
+     * Returns a BatchCommit that also writes the given text file.
+     * @param path Path of the file
+     * @param content Content, to be encoded in UTF-8
+     * @return BatchCommit
+     */
+    public BatchCommit with(final String path, final String content) {
+        return this.with(path, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Returns a BatchCommit that also writes the given file.
+     * @param path Path of the file
+     * @param content Content
+     * @return BatchCommit
+     */
+    public BatchCommit with(final String path, final byte[] content) {
+        return this.with(path, content, BatchCommit.MODE);
+    }
+
+    /**
+     * Returns a BatchCommit that also writes the given file with
+     * the given mode.
+     * @param path Path of the file
+     * @param content Content
+     * @param mode Mode, like {@code 100644} for a regular file or
+     *  {@code 100755} for an executable one
+     * @return BatchCommit
+     */
+    public BatchCommit with(final String path, final byte[] content,
+        final String mode) {
+        ArrayMap<String, String> mds = this.modes.without(path);
+        if (!BatchCommit.MODE.equals(mode)) {
+            mds = mds.with(path, mode);
+        }
+        return new BatchCommit(
+            this.git, this.branch,
+            this.files.with(path, DatatypeConverter.printBase64Binary(content)),
+            mds, this.removed.without(path), this.head, this.threads
+        );
+    }
+
+    /**
+     * Returns a BatchCommit that also removes the given file.
+     * @param path Path of the file
+     * @return BatchCommit
+     */
+    public BatchCommit without(final String path) {
+        return new BatchCommit(
+            this.git, this.branch, this.files.without(path),
+            this.modes.without(path), this.removed.without(path).with(path),
+            this.head, this.threads
+        );
+    }
+
+    /**
+     * Returns a BatchCommit made on top of the given commit, which must
+     * be the head of the branch when the commit is made.
+     * @param parent SHA of the parent commit
+     * @param tree SHA of its tree
+     * @return BatchCommit
+     */
+    public BatchCommit on(final String parent, final String tree) {
+        return new BatchCommit(
+            this.git, this.branch, this.files, this.modes, this.removed,
+            new Array<>(parent, tree), this.threads
+        );
+    }
+
+    /**
+     * Returns a BatchCommit that creates blobs with the given
+     * number of parallel requests.
+     * @param parallel Maximum number of parallel requests
+     * @return BatchCommit
+     */
+    public BatchCommit parallel(final int parallel) {
+        return new BatchCommit(
+            this.git, this.branch, this.files, this.modes, this.removed,
+            this.head, parallel
+        );
+    }
+
+    /**
+     * Make the commit and move the branch to it.
+     * @param message Commit message
+     * @return Commit made
+     * @throws IOException If there is any I/O problem
+     */
+    public Commit commit(final String message) throws IOException {
+        final Reference ref = this.git.references().get(
+            String.format("refs/heads/%s", this.branch)
+        );
+        final String parent;
+        final String base;
+        if (this.head.isEmpty()) {
+            parent = ref.json().getJsonObject("object").getString("sha");
+            base = this.git.commits().get(parent).json()
+                .getJsonObject("tree").getString("sha");
+        } else {
+            parent = this.head.get(0);
+            base = this.head.get(1);
+        }
+        final JsonArrayBuilder entries = Json.createArrayBuilder();
+        for (final Map.Entry<String, String> blob
+            : this.blobs().entrySet()) {
+            entries.add(
+                Json.createObjectBuilder()
+                    .add("path", blob.getKey())
+                    .add(
+                        "mode",
+                        this.modes.getOrDefault(blob.getKey(), BatchCommit.MODE)
+                    )
+                    .add("type", "blob")
+                    .add("sha", blob.getValue())
+            );
+        }
+        for (final String path : this.removed) {
+            entries.add(
+                Json.createObjectBuilder()
+                    .add("path", path)
+                    .add("mode", BatchCommit.MODE)
+                    .add("type", "blob")
+                    .addNull("sha")
+            );
+        }
+        final Tree tree = this.git.trees().create(
+            Json.createObjectBuilder()
+                .add("base_tree", base)
+                .add("tree", entries)
+                .build()
+        );
+        final Commit commit = this.git.commits().create(
+            Json.createObjectBuilder()
+                .add("message", message)
+                .add("tree", tree.sha())
+                .add("parents", Json.createArrayBuilder().add(parent))
+                .build()
+        );
+        ref.patch(
+            Json.createObjectBuilder()
+                .add("sha", commit.sha())
+                .add("force", false)
+                .build()
+        );
+        return commit;
+    }
+
+    /**
+     * Create all blobs in parallel.
+     * @return Paths to SHAs of blobs
+     * @throws IOException If fails
+     */
+    private Map<String, String> blobs() throws IOException {
+        final Blobs blobs = this.git.blobs();
+        final List<String> paths = new ArrayList<>(this.files.size());
+        final List<Callable<String>> tasks = new ArrayList<>(
+            this.files.size()
+        );
+        for (final Map.Entry<String, String> file : this.files.entrySet()) {
+            paths.add(file.getKey());
+            tasks.add(() -> blobs.create(file.getValue(), "base64").sha());
+        }
+        final List<String> created = Parallel.all(this.threads, tasks);
+        final Map<String, String> shas = new LinkedHashMap<>(paths.size());
+        for (int idx = 0; idx < created.size(); ++idx) {
+            shas.put(paths.get(idx), created.get(idx));
+        }
+        return shas;
+    }
+}
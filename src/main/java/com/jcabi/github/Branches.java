@@ -29,7 +29,13 @@
  */
 package com.jcabi.github;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import java.util.concurrent.TimeUnit;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 /**
  * Git branches.
@@ -55,8 +61,99 @@ public interface Branches {
     /**
      * Find branches by name.
      * @param name The name of the branch.
-     * @return Branch found by name
+     * @return Branch found by name or NULL if there is no such branch
      * @see <a href="https://developer.github.com/v3/repos/branches/#get-branch">Get Branch API</a>
      */
     Branch find(String name);
+
+    /**
+     * Branches with an in-memory index of names, for repeated lookups.
+     *
+     * <p>Every branch found by {@link #find(String)}, with a direct
+     * lookup by name, is remembered for the given time, so repeated
+     * lookups of the same names cost no requests. Names not found are
+     * not remembered. Listing all branches is never done implicitly;
+     * call {@link #preload()} to fill the index with all of them at
+     * once, which costs a request per page of branches:
+     * <pre>
+     * {@code
+     * Branches branches = new Branches.Indexed(repo.branches(), 600L);
+     * Branch master = branches.find("master");
+     * }
+     * </pre>
+     *
+     * @since 2.0
+     */
+    @Loggable(Loggable.DEBUG)
+    @ToString(of = { "origin", "ttl" })
+    @EqualsAndHashCode(of = { "origin", "ttl" })
+    final class Indexed implements Branches {
+        /**
+         * Default time to live, in seconds.
+         */
+        private static final long TTL = 300L;
+        /**
+         * Original branches.
+         */
+        private final transient Branches origin;
+        /**
+         * Time to live, in seconds.
+         */
+        private final transient long ttl;
+        /**
+         * Branches by name.
+         */
+        private final transient Cache<String, Branch> index;
+        /**
+         * Public ctor, remembering branches for five minutes.
+         * @param branches Original branches
+         */
+        public Indexed(final Branches branches) {
+            this(branches, Branches.Indexed.TTL);
+        }
+        /**
+         * Public ctor.
+         * @param branches Original branches
+         * @param seconds Time to remember a branch for, in seconds
+         */
+        public Indexed(final Branches branches, final long seconds) {
+            this.origin = branches;
+            this.ttl = seconds;
+            this.index = CacheBuilder.newBuilder()
+                .expireAfterWrite(seconds, TimeUnit.SECONDS)
+                .build();
+        }
+        @Override
+        public Repo repo() {
+            return this.origin.repo();
+        }
+        @Override
+        public Iterable<Branch> iterate() {
+            return this.origin.iterate();
+        }
+        @Override
+        public Branch find(final String name) {
+            Branch branch = this.index.getIfPresent(name);
+            if (branch == null) {
+                branch = this.origin.find(name);
+                if (branch != null) {
+                    this.index.put(name, branch);
+                }
+            }
+            return branch;
+        }
+        /**
+         * List all branches into the index.
+         *
+         * <p>It walks through all pages of branches, so only call it
+         * when most of them are going to be looked up.</p>
+         * @return This
+         */
+        public Branches.Indexed preload() {
+            for (final Branch branch : this.origin.iterate()) {
+                this.index.put(branch.name(), branch);
+            }
+            return this;
+        }
+    }
 }
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import com.jcabi.github.wire.DiskStore;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Markdown that caches rendered HTML.
+ *
+ * <p>Both {@link #render(JsonObject)} and {@link #raw(String)} send
+ * the whole text to Github on every call, while the same text with the
+ * same options always renders to the same HTML. Here, rendered HTML is
+ * kept by the SHA-256 of the text and the options, in memory, until
+ * the given number of entries is reached, after which the least
+ * recently used ones are evicted. Concurrent renders of the same text
+ * make just one request; the other threads wait for its result.</p>
+ *
+ * <p>Optionally, rendered HTML is also stored in a directory, which
+ * survives restarts of the JVM and may be shared between runs:
+ * <pre>
+ * {@code
+ * Markdown markdown = new CachedMarkdown(
+ *     github.markdown(), 10_000, "/var/cache/markdown"
+ * );
+ * }
+ * </pre>
+ *
+ * <p>Mind that rendering in {@code gfm} mode depends on the repository
+ * given as {@code context}, since issue references and mentions are
+ * linked by it, so the context is a part of the key as well. Options
+ * go into the key sorted by name, so the order of fields in the JSON
+ * doesn't matter. Failures of the original markdown, including the
+ * {@link AssertionError} of an unexpected HTTP status, are rethrown
+ * as they are.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = { "origin", "dir" })
+@EqualsAndHashCode(of = { "origin", "dir" })
+public final class CachedMarkdown implements Markdown {
+
+    /**
+     * Default maximum number of entries in memory.
+     */
+    private static final long MAX = 1000L;
+
+    /**
+     * Original markdown.
+     */
+    private final transient Markdown origin;
+
+    /**
+     * Persistent tier.
+     */
+    private final transient DiskStore dir;
+
+    /**
+     * Memory tier.
+     */
+    private final transient Cache<String, String> memory;
+
+    /**
+     * Public ctor.
+     * @param mkdn Original markdown
+     */
+    public CachedMarkdown(final Markdown mkdn) {
+        this(mkdn, CachedMarkdown.MAX);
+    }
+
+    /**
+     * Public ctor.
+     * @param mkdn Original markdown
+     * @param entries Maximum number of entries in memory
+     */
+    public CachedMarkdown(final Markdown mkdn, final long entries) {
+        this(mkdn, entries, "");
+    }
+
+    /**
+     * Public ctor.
+     * @param mkdn Original markdown
+     * @param entries Maximum number of entries in memory
+     * @param path Directory for the persistent tier, empty for none
+     */
+    public CachedMarkdown(final Markdown mkdn, final long entries,
+        final String path) {
+        this.origin = mkdn;
+        this.dir = new DiskStore(path);
+        this.memory = CacheBuilder.newBuilder()
+            .maximumSize(entries)
+            .build();
+    }
+
+    @Override
+    public Github github() {
+        return this.origin.github();
+    }
+
+    @Override
+    public String render(final JsonObject json) throws IOException {
+        final StringBuilder input = new StringBuilder("render");
+        for (final Map.Entry<String, JsonValue> entry
+            : new TreeMap<>(json).entrySet()) {
+            input.append('\n').append(entry.getKey()).append('=')
+                .append(entry.getValue());
+        }
+        return this.cached(
+            input.toString(),
+            () -> this.origin.render(json)
+        );
+    }
+
+    @Override
+    public String raw(final String text) throws IOException {
+        return this.cached(
+            String.join(" ", "raw", text),
+            () -> this.origin.raw(text)
+        );
+    }
+
+    /**
+     * Remove everything from the memory tier.
+     */
+    public void invalidate() {
+        this.memory.invalidateAll();
+    }
+
+    /**
+     * Get it from the cache or render it.
+     * @param input Text and options to render
+     * @param render Rendering
+     * @return HTML
+     * @throws IOException If fails
+     */
+    private String cached(final String input, final Callable<String> render)
+        throws IOException {
+        final String key = Hashing.sha256()
+            .hashString(input, StandardCharsets.UTF_8).toString();
+        try {
+            return this.memory.get(key, () -> this.load(key, render));
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof IOException) {
+                throw (IOException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (final UncheckedExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (final ExecutionError ex) {
+            throw (Error) ex.getCause();
+        }
+    }
+
+    /**
+     * Load it from the persistent tier or render it and save there.
+     * @param key Cache key
+     * @param render Rendering
+     * @return HTML
+     * @throws Exception If fails
+     */
+    private String load(final String key, final Callable<String> render)
+        throws Exception {
+        final byte[] saved = this.dir.load(key);
+        final String html;
+        if (saved == null) {
+            html = render.call();
+            this.dir.save(key, html.getBytes(StandardCharsets.UTF_8));
+        } else {
+            html = new String(saved, StandardCharsets.UTF_8);
+        }
+        return html;
+    }
+}
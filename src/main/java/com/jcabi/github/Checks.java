@@ -47,4 +47,18 @@ public interface Checks {
      */
     Collection<? extends Check> all() throws IOException;
 
+    /**
+     * Checks with the given name only, filtered on the server side.
+     * @param name Check name
+     * @return Filtered checks
+     */
+    Checks withName(String name);
+
+    /**
+     * Checks with the given status only, filtered on the server side.
+     * @param status Check status
+     * @return Filtered checks
+     */
+    Checks withStatus(Check.Status status);
+
 }
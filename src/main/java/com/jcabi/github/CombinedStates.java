@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Combined states of many refs, fetched in parallel.
+ *
+ * <p>Each ref costs exactly one request to the combined status
+ * endpoint, no matter how many contexts report on it:</p>
+ *
+ * <pre> final Map&lt;String, Status.State&gt; states =
+ *   new CombinedStates(repo.git().commits(), 8).of(shas);</pre>
+ *
+ * @since 2.0
+ * @see Statuses#combined(String)
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString(of = { "commits", "threads" })
+@EqualsAndHashCode(of = { "commits", "threads" })
+public final class CombinedStates {
+
+    /**
+     * Commits.
+     */
+    private final transient Commits commits;
+
+    /**
+     * Number of threads.
+     */
+    private final transient int threads;
+
+    /**
+     * Ctor.
+     * @param cmts Commits
+     */
+    public CombinedStates(final Commits cmts) {
+        // @checkstyle MagicNumber (1 line)
+        this(cmts, 8);
+    }
+
+    /**
+     * Ctor.
+     * @param cmts Commits
+     * @param thr Number of threads
+     */
+    public CombinedStates(final Commits cmts, final int thr) {
+        this.commits = cmts;
+        this.threads = thr;
+    }
+
+    /**
+     * Combined states of the refs.
+     * @param refs SHAs, branch names or tag names
+     * @return States by ref, in the order of refs
+     * @throws IOException If there is any I/O problem
+     */
+    public Map<String, Status.State> of(final Iterable<String> refs)
+        throws IOException {
+        final List<String> all = new ArrayList<>(0);
+        final List<Callable<Status.State>> tasks = new ArrayList<>(0);
+        for (final String ref : refs) {
+            all.add(ref);
+            tasks.add(
+                () -> Status.State.forValue(
+                    this.commits.statuses(ref).combined(ref)
+                        .getString("state")
+                )
+            );
+        }
+        final List<Status.State> found = Parallel.all(this.threads, tasks);
+        final Map<String, Status.State> states =
+            new LinkedHashMap<>(all.size());
+        for (int idx = 0; idx < found.size(); ++idx) {
+            states.put(all.get(idx), found.get(idx));
+        }
+        return states;
+    }
+}
@@ -0,0 +1,276 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Files of a commits comparison in diff format, parsed lazily.
+ *
+ * <p>The comparison is read through
+ * {@link RepoCommits#diffReader(String, String)} line by line and every
+ * file is returned as soon as its section ends, so only one file
+ * is kept in memory at a time, no matter how big the comparison is:</p>
+ *
+ * <pre> for (final DiffFiles.FileDiff file
+ *   : new DiffFiles(repo.commits(), "v1.0", "v2.0")) {
+ *   System.out.println(file.to());
+ * }</pre>
+ *
+ * <p>Every call to {@link #iterator()} makes a new HTTP request.</p>
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "commits", "base", "head" })
+public final class DiffFiles implements Iterable<DiffFiles.FileDiff> {
+
+    /**
+     * Prefix of the line that starts a file section.
+     */
+    private static final String PREFIX = "diff --git ";
+
+    /**
+     * Commits to compare.
+     */
+    private final transient RepoCommits commits;
+
+    /**
+     * SHA of the base commit.
+     */
+    private final transient String base;
+
+    /**
+     * SHA of the head commit.
+     */
+    private final transient String head;
+
+    /**
+     * Public ctor.
+     * @param cmts Commits of the repository
+     * @param from SHA of the base commit
+     * @param till SHA of the head commit
+     */
+    public DiffFiles(final RepoCommits cmts, final String from,
+        final String till) {
+        this.commits = cmts;
+        this.base = from;
+        this.head = till;
+    }
+
+    @Override
+    public Iterator<DiffFiles.FileDiff> iterator() {
+        try {
+            return new DiffFiles.Sections(
+                new BufferedReader(
+                    this.commits.diffReader(this.base, this.head)
+                )
+            );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * Diff of one file.
+     */
+    @Immutable
+    @ToString(of = "header")
+    @EqualsAndHashCode(of = "text")
+    public static final class FileDiff {
+        /**
+         * First line of the section.
+         */
+        private final transient String header;
+        /**
+         * Full text of the section, including the first line.
+         */
+        private final transient String text;
+        /**
+         * Public ctor.
+         * @param first First line of the section
+         * @param all Full text of the section
+         */
+        public FileDiff(final String first, final String all) {
+            this.header = first;
+            this.text = all;
+        }
+        /**
+         * First line of the section, like {@code diff --git a/x b/x}.
+         * @return Header line
+         */
+        public String header() {
+            return this.header;
+        }
+        /**
+         * Path of the file before the change.
+         * @return Path, without the {@code a/} prefix
+         */
+        public String from() {
+            final String paths = this.paths();
+            return paths.substring(
+                "a/".length(), DiffFiles.FileDiff.split(paths)
+            );
+        }
+        /**
+         * Path of the file after the change.
+         * @return Path, without the {@code b/} prefix
+         */
+        public String to() {
+            final String paths = this.paths();
+            return paths.substring(
+                DiffFiles.FileDiff.split(paths) + " b/".length()
+            );
+        }
+        /**
+         * Full text of the section, including the header line, ready
+         * to be parsed further.
+         * @return Text
+         */
+        public CharSequence text() {
+            return this.text;
+        }
+        /**
+         * Hunks of the section, parsed lazily.
+         * @return Hunks
+         */
+        public Hunks hunks() {
+            return new Hunks(this.text);
+        }
+        /**
+         * Both paths from the header.
+         * @return Paths
+         */
+        private String paths() {
+            if (!this.header.startsWith(DiffFiles.PREFIX)) {
+                throw new IllegalStateException(
+                    String.format("not a diff header: \"%s\"", this.header)
+                );
+            }
+            return this.header.substring(DiffFiles.PREFIX.length());
+        }
+        /**
+         * Position of the space between the paths.
+         * @param paths Paths
+         * @return Position
+         */
+        private static int split(final String paths) {
+            final int pos = paths.indexOf(" b/");
+            if (pos < 0) {
+                throw new IllegalStateException(
+                    String.format("can't find paths in \"%s\"", paths)
+                );
+            }
+            return pos;
+        }
+    }
+
+    /**
+     * Iterator over file sections of the diff.
+     */
+    private static final class Sections implements
+        Iterator<DiffFiles.FileDiff> {
+        /**
+         * Source of lines.
+         */
+        private final transient BufferedReader reader;
+        /**
+         * Line read but not consumed yet, NULL at the end of the stream.
+         */
+        private transient String line;
+        /**
+         * Whether the first header line has already been found.
+         */
+        private transient boolean started;
+        /**
+         * Ctor.
+         * @param rdr Reader
+         */
+        Sections(final BufferedReader rdr) {
+            this.reader = rdr;
+        }
+        @Override
+        public boolean hasNext() {
+            if (!this.started) {
+                this.started = true;
+                do {
+                    this.line = this.read();
+                } while (this.line != null
+                    && !this.line.startsWith(DiffFiles.PREFIX));
+            }
+            return this.line != null;
+        }
+        @Override
+        public DiffFiles.FileDiff next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "no more files in the diff, use #hasNext()"
+                );
+            }
+            final String header = this.line;
+            final StringBuilder text = new StringBuilder(header).append('\n');
+            while (true) {
+                this.line = this.read();
+                if (this.line == null
+                    || this.line.startsWith(DiffFiles.PREFIX)) {
+                    break;
+                }
+                text.append(this.line).append('\n');
+            }
+            return new DiffFiles.FileDiff(header, text.toString());
+        }
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("#remove()");
+        }
+        /**
+         * Read next line, closing the reader at the end of the stream.
+         * @return Line or NULL
+         */
+        private String read() {
+            try {
+                final String next = this.reader.readLine();
+                if (next == null) {
+                    this.reader.close();
+                }
+                return next;
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.google.common.base.Optional;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.json.JsonObject;
+import javax.xml.bind.DatatypeConverter;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Synchronization of a local directory into a branch of a repository.
+ *
+ * <p>Git blob SHAs of local files are calculated in parallel, on all
+ * available cores, and compared with the SHAs of the files in the
+ * tree of the branch head. Only new and modified files are uploaded,
+ * and files missing locally are removed, all in one commit made by
+ * {@link BatchCommit}, on top of the same head the files were compared
+ * with. If nothing changed, no commit is made:</p>
+ *
+ * <pre> final Optional&lt;Commit&gt; commit = new DirectorySync(
+ *   repo.git(), "master", Paths.get("target/site"), "docs"
+ * ).sync("update docs");</pre>
+ *
+ * <p>The executable bit is synced too, where the local file system
+ * supports POSIX permissions: executable files get mode {@code 100755}
+ * and the rest {@code 100644}. Elsewhere, modes of existing files are
+ * kept. Symbolic links (mode {@code 120000}) are not synced: local ones
+ * are ignored, and those in the branch are neither compared nor
+ * removed.</p>
+ *
+ * @since 2.0
+ * @see <a href="https://git-scm.com/book/en/v2/Git-Internals-Git-Objects">Git Objects</a>
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString(of = { "branch", "dir", "prefix" })
+@EqualsAndHashCode(of = { "git", "branch", "dir", "prefix" })
+public final class DirectorySync {
+
+    /**
+     * Mode of a regular file.
+     */
+    private static final String FILE = "100644";
+
+    /**
+     * Mode of an executable file.
+     */
+    private static final String EXEC = "100755";
+
+    /**
+     * Mode of a symbolic link.
+     */
+    private static final String LINK = "120000";
+
+    /**
+     * Git data of the repository.
+     */
+    private final transient Git git;
+
+    /**
+     * Name of the branch.
+     */
+    private final transient String branch;
+
+    /**
+     * Local directory.
+     */
+    private final transient String dir;
+
+    /**
+     * Path in the repository to sync into, empty for the root.
+     */
+    private final transient String prefix;
+
+    /**
+     * Public ctor.
+     * @param data Git data of the repository
+     * @param name Name of the branch, like {@code master}
+     * @param local Local directory
+     */
+    public DirectorySync(final Git data, final String name,
+        final Path local) {
+        this(data, name, local, "");
+    }
+
+    /**
+     * Public ctor.
+     * @param data Git data of the repository
+     * @param name Name of the branch, like {@code master}
+     * @param local Local directory
+     * @param path Directory in the repository, empty for the root
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public DirectorySync(final Git data, final String name,
+        final Path local, final String path) {
+        this.git = data;
+        this.branch = name;
+        this.dir = local.toAbsolutePath().toString();
+        if (path.isEmpty() || path.endsWith("/")) {
+            this.prefix = path;
+        } else {
+            this.prefix = String.format("%s/", path);
+        }
+    }
+
+    /**
+     * Upload changes, if any, in one commit.
+     * @param message Commit message
+     * @return Commit made, or absent if nothing changed
+     * @throws IOException If there is any I/O problem
+     */
+    public Optional<Commit> sync(final String message) throws IOException {
+        final Map<String, String[]> local = this.local();
+        final DirectorySync.Remote remote = this.remote();
+        BatchCommit batch = new BatchCommit(this.git, this.branch)
+            .on(remote.head, remote.tree);
+        boolean changed = false;
+        for (final Map.Entry<String, String[]> file : local.entrySet()) {
+            final String[] theirs = remote.files.get(file.getKey());
+            String mode = file.getValue()[1];
+            if (mode.isEmpty() && theirs == null) {
+                mode = DirectorySync.FILE;
+            } else if (mode.isEmpty()) {
+                mode = theirs[1];
+            }
+            if (theirs == null || !file.getValue()[0].equals(theirs[0])
+                || !mode.equals(theirs[1])) {
+                batch = batch.with(
+                    file.getKey(),
+                    Files.readAllBytes(this.file(file.getKey())),
+                    mode
+                );
+                changed = true;
+            }
+        }
+        for (final String path : remote.files.keySet()) {
+            if (!local.containsKey(path)) {
+                batch = batch.without(path);
+                changed = true;
+            }
+        }
+        final Optional<Commit> commit;
+        if (changed) {
+            commit = Optional.of(batch.commit(message));
+        } else {
+            commit = Optional.absent();
+        }
+        return commit;
+    }
+
+    /**
+     * Calculate Git blob SHA of the content.
+     * @param content Content of the file
+     * @return SHA, in lower case hex
+     */
+    public static String sha(final byte[] content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            digest.update(
+                String.format("blob %d\u0000", content.length)
+                    .getBytes(StandardCharsets.US_ASCII)
+            );
+            return DatatypeConverter.printHexBinary(digest.digest(content))
+                .toLowerCase(Locale.ENGLISH);
+        } catch (final NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * SHAs and modes of local files, calculated in parallel.
+     * @return Paths in the repository to SHAs and modes, where the mode
+     *  is empty if the file system doesn't tell
+     * @throws IOException If fails
+     */
+    private Map<String, String[]> local() throws IOException {
+        final Path root = Paths.get(this.dir);
+        final boolean posix = root.getFileSystem()
+            .supportedFileAttributeViews().contains("posix");
+        try (Stream<Path> files = Files.walk(root)) {
+            return files.parallel()
+                .filter(
+                    file -> Files.isRegularFile(file, LinkOption.NOFOLLOW_LINKS)
+                )
+                .collect(
+                    Collectors.toConcurrentMap(
+                        file -> this.prefix + root.relativize(file)
+                            .toString().replace('\\', '/'),
+                        file -> {
+                            String mode = "";
+                            if (posix && Files.isExecutable(file)) {
+                                mode = DirectorySync.EXEC;
+                            } else if (posix) {
+                                mode = DirectorySync.FILE;
+                            }
+                            try {
+                                return new String[] {
+                                    DirectorySync.sha(Files.readAllBytes(file)),
+                                    mode,
+                                };
+                            } catch (final IOException ex) {
+                                throw new UncheckedIOException(ex);
+                            }
+                        }
+                    )
+                );
+        } catch (final UncheckedIOException ex) {
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Files in the branch head, under the prefix, except symbolic links.
+     * @return Branch head
+     * @throws IOException If fails
+     */
+    private DirectorySync.Remote remote() throws IOException {
+        final String head = this.git.references().get(
+            String.format("refs/heads/%s", this.branch)
+        ).json().getJsonObject("object").getString("sha");
+        final String tree = this.git.commits().get(head).json()
+            .getJsonObject("tree").getString("sha");
+        final Map<String, String[]> files = new HashMap<>(0);
+        for (final JsonObject entry : new TreeWalk(this.git.trees(), tree)) {
+            final String path = entry.getString("path");
+            final String mode = entry.getString("mode", DirectorySync.FILE);
+            if ("blob".equals(entry.getString("type"))
+                && !DirectorySync.LINK.equals(mode)
+                && path.startsWith(this.prefix)) {
+                files.put(path, new String[] {entry.getString("sha"), mode});
+            }
+        }
+        return new DirectorySync.Remote(head, tree, files);
+    }
+
+    /**
+     * Local file of the path in the repository.
+     * @param path Path in the repository
+     * @return Local file
+     */
+    private Path file(final String path) {
+        return Paths.get(this.dir, path.substring(this.prefix.length()));
+    }
+
+    /**
+     * Files in the branch head.
+     * @since 2.0
+     */
+    private static final class Remote {
+        /**
+         * SHA of the head commit.
+         */
+        private final transient String head;
+        /**
+         * SHA of its tree.
+         */
+        private final transient String tree;
+        /**
+         * Paths to SHAs and modes.
+         */
+        private final transient Map<String, String[]> files;
+        /**
+         * Ctor.
+         * @param commit SHA of the head commit
+         * @param root SHA of its tree
+         * @param all Paths to SHAs and modes
+         */
+        Remote(final String commit, final String root,
+            final Map<String, String[]> all) {
+            this.head = commit;
+            this.tree = root;
+            this.files = all;
+        }
+    }
+}
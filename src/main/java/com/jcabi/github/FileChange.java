@@ -186,6 +186,17 @@ public interface FileChange extends JsonReadable {
             return Optional.fromNullable(this.json().getString("patch", null));
         }
 
+        /**
+         * Hunks of the diff of the changes to the file, parsed lazily.
+         * Empty if the file is binary.
+         * @return Hunks
+         * @throws IOException If there is any I/O problem
+         * @since 2.0
+         */
+        public Hunks hunks() throws IOException {
+            return new Hunks(this.patch().or(""));
+        }
+
         /**
          * URL for the raw contents of the file.
          * @return URL
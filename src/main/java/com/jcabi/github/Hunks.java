@@ -0,0 +1,378 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.nio.CharBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Hunks of a unified diff, parsed lazily.
+ *
+ * <p>Nothing is parsed until a hunk is requested, and lines are returned
+ * as {@link CharSequence} views into the original text, without copying
+ * it. Lines before the first {@code @@} header are ignored, which makes
+ * it possible to parse {@link FileChange.Smart#patch()} as well as a
+ * section of a full diff from {@link DiffFiles.FileDiff#text()}:</p>
+ *
+ * <pre> for (final Hunks.Hunk hunk : new FileChange.Smart(change).hunks()) {
+ *   System.out.println(hunk.newStart() + ": +" + hunk.additions());
+ * }</pre>
+ *
+ * <p>The text is not copied, so this class is as immutable as the
+ * {@link CharSequence} it is given; don't change it while parsing.</p>
+ *
+ * @since 2.0
+ * @see <a href="https://www.gnu.org/software/diffutils/manual/html_node/Detailed-Unified.html">Detailed Description of Unified Format</a>
+ */
+@EqualsAndHashCode(of = "text")
+public final class Hunks implements Iterable<Hunks.Hunk> {
+
+    /**
+     * Text of the diff.
+     */
+    private final transient CharSequence text;
+
+    /**
+     * Public ctor.
+     * @param diff Text of the diff
+     */
+    public Hunks(final CharSequence diff) {
+        this.text = diff;
+    }
+
+    @Override
+    public Iterator<Hunks.Hunk> iterator() {
+        return new Hunks.Items(this.text);
+    }
+
+    @Override
+    public String toString() {
+        return this.text.toString();
+    }
+
+    /**
+     * Position of the end of the line that starts at the given position.
+     * @param text Text
+     * @param start Start of the line
+     * @return Position of the line feed, or length of the text
+     */
+    private static int eol(final CharSequence text, final int start) {
+        int pos = start;
+        while (pos < text.length() && text.charAt(pos) != '\n') {
+            ++pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Position of the start of the next line.
+     * @param text Text
+     * @param start Start of the current line
+     * @return Position of the next line
+     */
+    private static int next(final CharSequence text, final int start) {
+        return Math.min(text.length(), Hunks.eol(text, start) + 1);
+    }
+
+    /**
+     * Whether a hunk header starts at the given position.
+     * @param text Text
+     * @param start Start of the line
+     * @return TRUE if it is a hunk header
+     */
+    private static boolean header(final CharSequence text, final int start) {
+        return start + 1 < text.length()
+            && text.charAt(start) == '@' && text.charAt(start + 1) == '@';
+    }
+
+    /**
+     * One hunk of the diff.
+     */
+    @EqualsAndHashCode(of = { "text", "start", "end" })
+    public static final class Hunk {
+        /**
+         * Pattern of the header line.
+         */
+        private static final Pattern HEADER = Pattern.compile(
+            "^@@ -(\\d+)(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@"
+        );
+        /**
+         * Text of the diff.
+         */
+        private final transient CharSequence text;
+        /**
+         * Position of the header line.
+         */
+        private final transient int start;
+        /**
+         * Position right after the last line of the hunk.
+         */
+        private final transient int end;
+        /**
+         * Ctor.
+         * @param diff Text of the diff
+         * @param from Position of the header line
+         * @param till Position right after the last line
+         */
+        Hunk(final CharSequence diff, final int from, final int till) {
+            this.text = diff;
+            this.start = from;
+            this.end = till;
+        }
+        /**
+         * Header line, like {@code @@ -1,3 +1,4 @@ class Foo}.
+         * @return View of the header line
+         */
+        public CharSequence header() {
+            return Hunks.Hunk.view(
+                this.text, this.start, Hunks.eol(this.text, this.start)
+            );
+        }
+        /**
+         * First line of the range in the old file.
+         * @return Line number
+         */
+        public int oldStart() {
+            return this.number(1, 0);
+        }
+        /**
+         * Number of lines of the range in the old file.
+         * @return Number of lines
+         */
+        public int oldLines() {
+            return this.number(2, 1);
+        }
+        /**
+         * First line of the range in the new file.
+         * @return Line number
+         */
+        public int newStart() {
+            // @checkstyle MagicNumber (1 line)
+            return this.number(3, 0);
+        }
+        /**
+         * Number of lines of the range in the new file.
+         * @return Number of lines
+         */
+        public int newLines() {
+            // @checkstyle MagicNumber (1 line)
+            return this.number(4, 1);
+        }
+        /**
+         * Number of lines added.
+         * @return Number of lines starting with {@code +}
+         */
+        public int additions() {
+            return this.count('+');
+        }
+        /**
+         * Number of lines removed.
+         * @return Number of lines starting with {@code -}
+         */
+        public int deletions() {
+            return this.count('-');
+        }
+        /**
+         * Lines of the hunk, without the header, as views into the
+         * original text. Every line keeps its first character:
+         * {@code +}, {@code -}, space or backslash.
+         * @return Lines
+         */
+        public Iterable<CharSequence> lines() {
+            return () -> new Hunks.Lines(
+                this.text, Hunks.next(this.text, this.start), this.end
+            );
+        }
+        @Override
+        public String toString() {
+            return this.text.subSequence(this.start, this.end).toString();
+        }
+        /**
+         * Count lines starting with the given character.
+         * @param first First character
+         * @return Number of lines
+         */
+        private int count(final char first) {
+            int total = 0;
+            int pos = Hunks.next(this.text, this.start);
+            while (pos < this.end) {
+                if (this.text.charAt(pos) == first) {
+                    ++total;
+                }
+                pos = Hunks.next(this.text, pos);
+            }
+            return total;
+        }
+        /**
+         * Parse a number from the header.
+         * @param group Regex group
+         * @param dflt Value to use when the number is omitted
+         * @return Number
+         */
+        private int number(final int group, final int dflt) {
+            final Matcher matcher = Hunks.Hunk.HEADER.matcher(this.header());
+            if (!matcher.find()) {
+                throw new IllegalStateException(
+                    String.format("invalid hunk header: \"%s\"", this.header())
+                );
+            }
+            final String value = matcher.group(group);
+            final int num;
+            if (value == null) {
+                num = dflt;
+            } else {
+                num = Integer.parseInt(value);
+            }
+            return num;
+        }
+        /**
+         * View of the line, without the trailing carriage return.
+         * @param text Text
+         * @param from Start of the line
+         * @param till Position of the line feed
+         * @return View
+         */
+        private static CharSequence view(final CharSequence text,
+            final int from, final int till) {
+            int last = till;
+            if (last > from && text.charAt(last - 1) == '\r') {
+                --last;
+            }
+            return CharBuffer.wrap(text, from, last);
+        }
+    }
+
+    /**
+     * Iterator over hunks.
+     */
+    private static final class Items implements Iterator<Hunks.Hunk> {
+        /**
+         * Text of the diff.
+         */
+        private final transient CharSequence text;
+        /**
+         * Position of the next hunk header, or length of the text.
+         */
+        private transient int pos;
+        /**
+         * Ctor.
+         * @param diff Text of the diff
+         */
+        Items(final CharSequence diff) {
+            this.text = diff;
+            this.pos = this.seek(0);
+        }
+        @Override
+        public boolean hasNext() {
+            return this.pos < this.text.length();
+        }
+        @Override
+        public Hunks.Hunk next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "no more hunks in the diff, use #hasNext()"
+                );
+            }
+            final int start = this.pos;
+            this.pos = this.seek(Hunks.next(this.text, start));
+            return new Hunks.Hunk(this.text, start, this.pos);
+        }
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("#remove()");
+        }
+        /**
+         * Find the next hunk header.
+         * @param from Start of the line to look from
+         * @return Position of the header, or length of the text
+         */
+        private int seek(final int from) {
+            int line = from;
+            while (line < this.text.length()
+                && !Hunks.header(this.text, line)) {
+                line = Hunks.next(this.text, line);
+            }
+            return line;
+        }
+    }
+
+    /**
+     * Iterator over lines of a hunk.
+     */
+    private static final class Lines implements Iterator<CharSequence> {
+        /**
+         * Text of the diff.
+         */
+        private final transient CharSequence text;
+        /**
+         * Position right after the last line.
+         */
+        private final transient int end;
+        /**
+         * Start of the next line.
+         */
+        private transient int pos;
+        /**
+         * Ctor.
+         * @param diff Text of the diff
+         * @param from Start of the first line
+         * @param till Position right after the last line
+         */
+        Lines(final CharSequence diff, final int from, final int till) {
+            this.text = diff;
+            this.pos = from;
+            this.end = till;
+        }
+        @Override
+        public boolean hasNext() {
+            return this.pos < this.end;
+        }
+        @Override
+        public CharSequence next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "no more lines in the hunk, use #hasNext()"
+                );
+            }
+            final int eol = Math.min(Hunks.eol(this.text, this.pos), this.end);
+            final CharSequence line = Hunks.Hunk.view(this.text, this.pos, eol);
+            this.pos = Math.min(this.end, eol + 1);
+            return line;
+        }
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("#remove()");
+        }
+    }
+}
@@ -557,7 +557,7 @@ public interface Issue extends Comparable<Issue>, JsonReadable, JsonPatchable {
         }
         @Override
         public boolean exists() throws IOException {
-            return new Existence(this.issue).check();
+            return this.issue.exists();
         }
 
         @Override
@@ -584,7 +584,7 @@ public interface Issue extends Comparable<Issue>, JsonReadable, JsonPatchable {
 
         @Override
         public boolean isLocked() {
-            throw new UnsupportedOperationException("isLocked not implemented");
+            return this.issue.isLocked();
         }
     }
 
@@ -0,0 +1,337 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Locale;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+/**
+ * Parser of JSON response bodies into {@code javax.json} values.
+ *
+ * <p>Callers always get {@code javax.json} types, no matter which
+ * parser produced them. {@link #DEFAULT} uses Jackson streaming when
+ * {@code jackson-core} is on the classpath, and the {@code javax.json}
+ * reference implementation otherwise. The choice can be forced with
+ * the {@code com.jcabi.github.json} system property, set to either
+ * {@code jackson} or {@code javax}.</p>
+ *
+ * <p>Malformed JSON is reported by {@link JsonException}, just like
+ * {@code javax.json} readers do.</p>
+ *
+ * <p>Only tokenizing can get faster with Jackson. Both backends build the
+ * same {@code javax.json} tree, so the time and memory spent on values
+ * stay the same. In the baseline of {@code JsonBench}, recorded in
+ * the README of the {@code benchmarks} module, Jackson is no faster on
+ * pages of 30 items, and its gain on pages of 100 is within the error
+ * margins.</p>
+ *
+ * @since 2.0
+ */
+public interface JsonBackend {
+
+    /**
+     * Backend chosen for this JVM.
+     */
+    JsonBackend DEFAULT = new JsonBackend.Auto();
+
+    /**
+     * Parse JSON object.
+     * @param bytes UTF-8 bytes
+     * @return Object
+     */
+    JsonObject object(byte[] bytes);
+
+    /**
+     * Parse JSON array.
+     * @param bytes UTF-8 bytes
+     * @return Array
+     */
+    JsonArray array(byte[] bytes);
+
+    /**
+     * The {@code javax.json} reference implementation.
+     */
+    final class Standard implements JsonBackend {
+        /**
+         * Provider, looked up once.
+         */
+        private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+        @Override
+        public JsonObject object(final byte[] bytes) {
+            try (JsonReader reader = Standard.reader(bytes)) {
+                return reader.readObject();
+            }
+        }
+
+        @Override
+        public JsonArray array(final byte[] bytes) {
+            try (JsonReader reader = Standard.reader(bytes)) {
+                return reader.readArray();
+            }
+        }
+
+        /**
+         * Reader of the bytes.
+         * @param bytes UTF-8 bytes
+         * @return Reader
+         */
+        private static JsonReader reader(final byte[] bytes) {
+            return Standard.PROVIDER.createReader(
+                new ByteArrayInputStream(bytes)
+            );
+        }
+    }
+
+    /**
+     * Jackson streaming parser, building {@code javax.json} values.
+     */
+    final class Jackson implements JsonBackend {
+        /**
+         * Jackson factory, thread-safe.
+         */
+        private static final JsonFactory FACTORY = new JsonFactory();
+
+        /**
+         * Provider, looked up once.
+         */
+        private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+        @Override
+        public JsonObject object(final byte[] bytes) {
+            return Jackson.parse(bytes, JsonToken.START_OBJECT).asJsonObject();
+        }
+
+        @Override
+        public JsonArray array(final byte[] bytes) {
+            return Jackson.parse(bytes, JsonToken.START_ARRAY).asJsonArray();
+        }
+
+        /**
+         * Parse the only value in the bytes.
+         * @param bytes UTF-8 bytes
+         * @param expected Token the value must start with
+         * @return Value
+         */
+        private static JsonValue parse(final byte[] bytes,
+            final JsonToken expected) {
+            try (JsonParser parser = Jackson.FACTORY.createParser(bytes)) {
+                final JsonToken token = parser.nextToken();
+                if (token != expected) {
+                    throw new JsonException(
+                        String.format("%s expected, %s found", expected, token)
+                    );
+                }
+                final JsonValue value = Jackson.value(parser, token);
+                if (parser.nextToken() != null) {
+                    throw new JsonException(
+                        String.format(
+                            "unexpected data at %s",
+                            parser.currentLocation()
+                        )
+                    );
+                }
+                return value;
+            } catch (final IOException ex) {
+                throw new JsonException(ex.getMessage(), ex);
+            }
+        }
+
+        /**
+         * Build the value the parser stands at.
+         * @param parser Parser
+         * @param token Current token
+         * @return Value
+         * @throws IOException If fails
+         */
+        private static JsonValue value(final JsonParser parser,
+            final JsonToken token) throws IOException {
+            if (token == null) {
+                throw new JsonException("unexpected end of JSON");
+            }
+            final JsonValue value;
+            switch (token) {
+                case START_OBJECT:
+                    value = Jackson.object(parser);
+                    break;
+                case START_ARRAY:
+                    value = Jackson.array(parser);
+                    break;
+                case VALUE_STRING:
+                    value = Jackson.PROVIDER.createValue(parser.getText());
+                    break;
+                case VALUE_NUMBER_INT:
+                    value = Jackson.integer(parser);
+                    break;
+                case VALUE_NUMBER_FLOAT:
+                    value = Jackson.PROVIDER.createValue(
+                        parser.getDecimalValue()
+                    );
+                    break;
+                case VALUE_TRUE:
+                    value = JsonValue.TRUE;
+                    break;
+                case VALUE_FALSE:
+                    value = JsonValue.FALSE;
+                    break;
+                case VALUE_NULL:
+                    value = JsonValue.NULL;
+                    break;
+                default:
+                    throw new JsonException(
+                        String.format(
+                            "unexpected %s at %s",
+                            token, parser.currentLocation()
+                        )
+                    );
+            }
+            return value;
+        }
+
+        /**
+         * Build the object the parser stands at.
+         * @param parser Parser
+         * @return Object
+         * @throws IOException If fails
+         */
+        private static JsonValue object(final JsonParser parser)
+            throws IOException {
+            final JsonObjectBuilder builder =
+                Jackson.PROVIDER.createObjectBuilder();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.currentName();
+                builder.add(name, Jackson.value(parser, parser.nextToken()));
+            }
+            return builder.build();
+        }
+
+        /**
+         * Build the array the parser stands at.
+         * @param parser Parser
+         * @return Array
+         * @throws IOException If fails
+         */
+        private static JsonValue array(final JsonParser parser)
+            throws IOException {
+            final JsonArrayBuilder builder =
+                Jackson.PROVIDER.createArrayBuilder();
+            for (JsonToken token = parser.nextToken();
+                token != JsonToken.END_ARRAY; token = parser.nextToken()) {
+                builder.add(Jackson.value(parser, token));
+            }
+            return builder.build();
+        }
+
+        /**
+         * Build the integer number the parser stands at.
+         * @param parser Parser
+         * @return Number
+         * @throws IOException If fails
+         */
+        private static JsonValue integer(final JsonParser parser)
+            throws IOException {
+            final JsonValue value;
+            switch (parser.getNumberType()) {
+                case INT:
+                    value = Jackson.PROVIDER.createValue(parser.getIntValue());
+                    break;
+                case LONG:
+                    value = Jackson.PROVIDER.createValue(
+                        parser.getLongValue()
+                    );
+                    break;
+                default:
+                    value = Jackson.PROVIDER.createValue(
+                        parser.getBigIntegerValue()
+                    );
+                    break;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Backend chosen by classpath and system property, once per JVM.
+     */
+    final class Auto implements JsonBackend {
+        /**
+         * Chosen backend.
+         */
+        private static final JsonBackend CHOSEN = Auto.choose();
+
+        @Override
+        public JsonObject object(final byte[] bytes) {
+            return Auto.CHOSEN.object(bytes);
+        }
+
+        @Override
+        public JsonArray array(final byte[] bytes) {
+            return Auto.CHOSEN.array(bytes);
+        }
+
+        @Override
+        public String toString() {
+            return Auto.CHOSEN.getClass().getSimpleName()
+                .toLowerCase(Locale.ENGLISH);
+        }
+
+        /**
+         * Choose the backend.
+         * @return Backend
+         */
+        private static JsonBackend choose() {
+            final String name = System.getProperty(
+                "com.jcabi.github.json", "jackson"
+            );
+            JsonBackend backend = new JsonBackend.Standard();
+            if ("jackson".equals(name)) {
+                try {
+                    Class.forName("com.fasterxml.jackson.core.JsonFactory");
+                    backend = new JsonBackend.Jackson();
+                } catch (final ClassNotFoundException ex) {
+                    backend = new JsonBackend.Standard();
+                }
+            }
+            return backend;
+        }
+    }
+}
@@ -0,0 +1,857 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import javax.json.JsonArray;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonException;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.JsonString;
+import javax.json.JsonValue;
+import javax.json.spi.JsonProvider;
+
+/**
+ * JSON object over raw UTF-8 bytes, indexed on first access.
+ *
+ * <p>The constructor scans the whole document once, validating it as
+ * strictly as the eager reader does, and remembers where the value of
+ * each top-level field starts and ends, without decoding anything but
+ * the names. A value is decoded only when it is requested. Nested
+ * objects are views over the same bytes and are indexed on their first
+ * access, so reading two fields of a pull request with a hundred of
+ * them costs two small allocations instead of a hundred:</p>
+ *
+ * <pre> final JsonObject json = new LazyJson(response.binary());
+ * final String sha = json.getJsonObject("head").getString("sha");</pre>
+ *
+ * <p>The object is read-only and safe to share between threads.
+ * Malformed JSON, including misspelled literals and broken nested
+ * containers, is reported by a {@link JsonException} from the
+ * constructor.</p>
+ *
+ * @since 2.0
+ * @checkstyle CyclomaticComplexityCheck (500 lines)
+ */
+@SuppressWarnings
+    (
+        {
+            "PMD.TooManyMethods", "PMD.GodClass",
+            "PMD.AvoidUsingVolatile"
+        }
+    )
+public final class LazyJson extends AbstractMap<String, JsonValue>
+    implements JsonObject {
+
+    /**
+     * Provider, looked up once rather than on every value.
+     */
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    /**
+     * Raw UTF-8 bytes.
+     */
+    private final transient byte[] bytes;
+
+    /**
+     * Position of the opening brace.
+     */
+    private final transient int start;
+
+    /**
+     * Position right after the closing brace.
+     */
+    private final transient int end;
+
+    /**
+     * Index of fields, NULL in a nested object until its first access.
+     */
+    private transient volatile LazyJson.Index idx;
+
+    /**
+     * Ctor.
+     * @param data UTF-8 bytes of a JSON object
+     */
+    public LazyJson(final byte[] data) {
+        this(data, LazyJson.first(data), LazyJson.last(data));
+        this.idx = this.scan();
+    }
+
+    /**
+     * Ctor.
+     * @param data UTF-8 bytes
+     * @param from Position of the opening brace
+     * @param upto Position right after the closing brace
+     */
+    private LazyJson(final byte[] data, final int from, final int upto) {
+        this.bytes = data;
+        this.start = from;
+        this.end = upto;
+    }
+
+    @Override
+    public JsonArray getJsonArray(final String name) {
+        return (JsonArray) this.get(name);
+    }
+
+    @Override
+    public JsonObject getJsonObject(final String name) {
+        return (JsonObject) this.get(name);
+    }
+
+    @Override
+    public JsonNumber getJsonNumber(final String name) {
+        return (JsonNumber) this.get(name);
+    }
+
+    @Override
+    public JsonString getJsonString(final String name) {
+        return (JsonString) this.get(name);
+    }
+
+    @Override
+    public String getString(final String name) {
+        return this.getJsonString(name).getString();
+    }
+
+    @Override
+    public String getString(final String name, final String fallback) {
+        final JsonValue value = this.get(name);
+        final String str;
+        if (value instanceof JsonString) {
+            str = ((JsonString) value).getString();
+        } else {
+            str = fallback;
+        }
+        return str;
+    }
+
+    @Override
+    public int getInt(final String name) {
+        return this.getJsonNumber(name).intValue();
+    }
+
+    @Override
+    public int getInt(final String name, final int fallback) {
+        final JsonValue value = this.get(name);
+        final int num;
+        if (value instanceof JsonNumber) {
+            num = ((JsonNumber) value).intValue();
+        } else {
+            num = fallback;
+        }
+        return num;
+    }
+
+    @Override
+    public boolean getBoolean(final String name) {
+        final JsonValue value = this.get(name);
+        if (value == null) {
+            throw new NullPointerException(
+                String.format("field \"%s\" is absent", name)
+            );
+        }
+        final boolean bool;
+        if (value == JsonValue.TRUE) {
+            bool = true;
+        } else if (value == JsonValue.FALSE) {
+            bool = false;
+        } else {
+            throw new ClassCastException(
+                String.format("field \"%s\" is not boolean", name)
+            );
+        }
+        return bool;
+    }
+
+    @Override
+    public boolean getBoolean(final String name, final boolean fallback) {
+        final JsonValue value = this.get(name);
+        final boolean bool;
+        if (value == JsonValue.TRUE) {
+            bool = true;
+        } else if (value == JsonValue.FALSE) {
+            bool = false;
+        } else {
+            bool = fallback;
+        }
+        return bool;
+    }
+
+    @Override
+    public boolean isNull(final String name) {
+        return this.get(name).equals(JsonValue.NULL);
+    }
+
+    @Override
+    public ValueType getValueType() {
+        return ValueType.OBJECT;
+    }
+
+    @Override
+    public JsonValue get(final Object name) {
+        final Integer pos = this.index().positions.get(name);
+        final JsonValue value;
+        if (pos == null) {
+            value = null;
+        } else {
+            value = this.value(pos);
+        }
+        return value;
+    }
+
+    @Override
+    public boolean containsKey(final Object name) {
+        return this.index().positions.containsKey(name);
+    }
+
+    @Override
+    public int size() {
+        return this.index().positions.size();
+    }
+
+    @Override
+    public Set<Map.Entry<String, JsonValue>> entrySet() {
+        return new LazyJson.Entries(this);
+    }
+
+    @Override
+    public String toString() {
+        return new String(
+            this.bytes, this.start, this.end - this.start,
+            StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Value of the field at the position in the index.
+     * @param pos Position
+     * @return Decoded value
+     */
+    private JsonValue value(final int pos) {
+        final LazyJson.Index index = this.index();
+        JsonValue value = index.values[pos];
+        if (value == null) {
+            value = this.decode(index.from[pos], index.upto[pos]);
+            index.values[pos] = value;
+        }
+        return value;
+    }
+
+    /**
+     * Index, built on the first call.
+     * @return Index
+     */
+    private LazyJson.Index index() {
+        LazyJson.Index index = this.idx;
+        if (index == null) {
+            index = this.scan();
+            this.idx = index;
+        }
+        return index;
+    }
+
+    /**
+     * Scan the object and index its fields.
+     * @return Index
+     */
+    private LazyJson.Index scan() {
+        if (this.start >= this.end || this.bytes[this.start] != '{') {
+            throw new JsonException("JSON object expected");
+        }
+        final LazyJson.Index index = new LazyJson.Index();
+        int pos = this.blank(this.start + 1);
+        if (this.at(pos) == '}') {
+            ++pos;
+        } else {
+            while (true) {
+                this.expect(pos, '"');
+                final int after = this.skip(pos);
+                final String name = this.string(pos, after);
+                pos = this.blank(after);
+                this.expect(pos, ':');
+                pos = this.blank(pos + 1);
+                final int upto = this.skip(pos);
+                index.add(name, pos, upto);
+                pos = this.blank(upto);
+                if (this.at(pos) == '}') {
+                    ++pos;
+                    break;
+                }
+                this.expect(pos, ',');
+                pos = this.blank(pos + 1);
+            }
+        }
+        if (pos != this.end) {
+            throw new JsonException(
+                String.format("unexpected data at position %d", pos)
+            );
+        }
+        return index;
+    }
+
+    /**
+     * Decode the value between the positions.
+     * @param from Position of the first byte
+     * @param upto Position right after the last byte
+     * @return Value
+     */
+    private JsonValue decode(final int from, final int upto) {
+        final byte first = this.bytes[from];
+        final JsonValue value;
+        if (first == '{') {
+            value = new LazyJson(this.bytes, from, upto);
+        } else if (first == '[') {
+            value = this.array(from);
+        } else if (first == '"') {
+            value = LazyJson.PROVIDER.createValue(this.string(from, upto));
+        } else if (first == 't') {
+            value = JsonValue.TRUE;
+        } else if (first == 'f') {
+            value = JsonValue.FALSE;
+        } else if (first == 'n') {
+            value = JsonValue.NULL;
+        } else {
+            try {
+                value = LazyJson.PROVIDER.createValue(
+                    new BigDecimal(
+                        new String(
+                            this.bytes, from, upto - from,
+                            StandardCharsets.US_ASCII
+                        )
+                    )
+                );
+            } catch (final NumberFormatException ex) {
+                throw new JsonException(
+                    String.format("bad number at position %d", from), ex
+                );
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Decode the array starting at the position.
+     * @param from Position of the opening bracket
+     * @return Array, with objects in it left lazy
+     */
+    private JsonArray array(final int from) {
+        final JsonArrayBuilder array = LazyJson.PROVIDER.createArrayBuilder();
+        int pos = this.blank(from + 1);
+        if (this.at(pos) != ']') {
+            while (true) {
+                final int upto = this.skip(pos);
+                array.add(this.decode(pos, upto));
+                pos = this.blank(upto);
+                if (this.at(pos) == ']') {
+                    break;
+                }
+                this.expect(pos, ',');
+                pos = this.blank(pos + 1);
+            }
+        }
+        return array.build();
+    }
+
+    /**
+     * Decode the string between the positions.
+     * @param from Position of the opening quote
+     * @param upto Position right after the closing quote
+     * @return String
+     * @checkstyle ExecutableStatementCountCheck (60 lines)
+     */
+    private String string(final int from, final int upto) {
+        final int last = upto - 1;
+        int pos = from + 1;
+        while (pos < last && this.bytes[pos] != '\\') {
+            ++pos;
+        }
+        final String str;
+        if (pos == last) {
+            str = new String(
+                this.bytes, from + 1, last - from - 1,
+                StandardCharsets.UTF_8
+            );
+        } else {
+            final StringBuilder text = new StringBuilder(last - from)
+                .append(
+                    new String(
+                        this.bytes, from + 1, pos - from - 1,
+                        StandardCharsets.UTF_8
+                    )
+                );
+            while (pos < last) {
+                int plain = pos;
+                while (plain < last && this.bytes[plain] != '\\') {
+                    ++plain;
+                }
+                text.append(
+                    new String(
+                        this.bytes, pos, plain - pos, StandardCharsets.UTF_8
+                    )
+                );
+                pos = plain;
+                if (pos < last) {
+                    pos = this.escape(pos, text);
+                }
+            }
+            str = text.toString();
+        }
+        return str;
+    }
+
+    /**
+     * Decode one escape sequence.
+     * @param pos Position of the backslash
+     * @param text Where to append the character
+     * @return Position right after the sequence
+     */
+    private int escape(final int pos, final StringBuilder text) {
+        final byte chr = this.at(pos + 1);
+        int next = pos + 2;
+        switch (chr) {
+            case 'b':
+                text.append('\b');
+                break;
+            case 'f':
+                text.append('\f');
+                break;
+            case 'n':
+                text.append('\n');
+                break;
+            case 'r':
+                text.append('\r');
+                break;
+            case 't':
+                text.append('\t');
+                break;
+            case 'u':
+                // @checkstyle MagicNumber (2 lines)
+                text.append(this.hex(next));
+                next += 4;
+                break;
+            default:
+                text.append((char) chr);
+                break;
+        }
+        return next;
+    }
+
+    /**
+     * Decode four hex digits.
+     * @param pos Position of the first digit
+     * @return Character
+     */
+    private char hex(final int pos) {
+        // @checkstyle MagicNumber (1 line)
+        if (pos + 4 > this.end) {
+            throw new JsonException("unexpected end of JSON");
+        }
+        try {
+            return (char) Integer.parseInt(
+                // @checkstyle MagicNumber (1 line)
+                new String(this.bytes, pos, 4, StandardCharsets.US_ASCII),
+                // @checkstyle MagicNumber (1 line)
+                16
+            );
+        } catch (final NumberFormatException ex) {
+            throw new JsonException(
+                String.format("bad escape at position %d", pos), ex
+            );
+        }
+    }
+
+    /**
+     * Skip the value starting at the position, validating it.
+     * @param from Position of the first byte of the value
+     * @return Position right after the value
+     */
+    private int skip(final int from) {
+        final byte first = this.at(from);
+        final int pos;
+        if (first == '"') {
+            pos = this.text(from);
+        } else if (first == '{') {
+            pos = this.members(from);
+        } else if (first == '[') {
+            pos = this.elements(from);
+        } else if (first == 't') {
+            pos = this.literal(from, "true");
+        } else if (first == 'f') {
+            pos = this.literal(from, "false");
+        } else if (first == 'n') {
+            pos = this.literal(from, "null");
+        } else {
+            pos = this.number(from);
+        }
+        return pos;
+    }
+
+    /**
+     * Skip the string starting at the position, validating escapes.
+     * @param from Position of the opening quote
+     * @return Position right after the closing quote
+     */
+    private int text(final int from) {
+        int pos = from + 1;
+        byte chr = this.at(pos);
+        while (chr != '"') {
+            if (chr >= 0 && chr < ' ') {
+                throw new JsonException(
+                    String.format("control character at position %d", pos)
+                );
+            }
+            if (chr == '\\') {
+                final byte esc = this.at(pos + 1);
+                if (esc == 'u') {
+                    this.hex(pos + 2);
+                    // @checkstyle MagicNumber (1 line)
+                    pos += 6;
+                } else if ("\"\\/bfnrt".indexOf(esc) >= 0) {
+                    pos += 2;
+                } else {
+                    throw new JsonException(
+                        String.format("bad escape at position %d", pos)
+                    );
+                }
+            } else {
+                ++pos;
+            }
+            chr = this.at(pos);
+        }
+        return pos + 1;
+    }
+
+    /**
+     * Skip the object starting at the position, validating its members.
+     * @param from Position of the opening brace
+     * @return Position right after the closing brace
+     */
+    private int members(final int from) {
+        int pos = this.blank(from + 1);
+        if (this.at(pos) != '}') {
+            while (true) {
+                this.expect(pos, '"');
+                pos = this.blank(this.text(pos));
+                this.expect(pos, ':');
+                pos = this.blank(this.skip(this.blank(pos + 1)));
+                if (this.at(pos) == '}') {
+                    break;
+                }
+                this.expect(pos, ',');
+                pos = this.blank(pos + 1);
+            }
+        }
+        return pos + 1;
+    }
+
+    /**
+     * Skip the array starting at the position, validating its elements.
+     * @param from Position of the opening bracket
+     * @return Position right after the closing bracket
+     */
+    private int elements(final int from) {
+        int pos = this.blank(from + 1);
+        if (this.at(pos) != ']') {
+            while (true) {
+                pos = this.blank(this.skip(pos));
+                if (this.at(pos) == ']') {
+                    break;
+                }
+                this.expect(pos, ',');
+                pos = this.blank(pos + 1);
+            }
+        }
+        return pos + 1;
+    }
+
+    /**
+     * Skip the literal, which must be there in full.
+     * @param from Position of the first letter
+     * @param word Literal expected
+     * @return Position right after the literal
+     */
+    private int literal(final int from, final String word) {
+        for (int pos = 0; pos < word.length(); ++pos) {
+            if (this.at(from + pos) != word.charAt(pos)) {
+                throw new JsonException(
+                    String.format("'%s' expected at position %d", word, from)
+                );
+            }
+        }
+        return from + word.length();
+    }
+
+    /**
+     * Skip the number, as RFC 8259 defines it.
+     * @param from Position of the first byte
+     * @return Position right after the number
+     */
+    private int number(final int from) {
+        int pos = from;
+        if (this.at(pos) == '-') {
+            ++pos;
+        }
+        if (this.at(pos) == '0') {
+            ++pos;
+        } else {
+            pos = this.digits(pos);
+        }
+        if (pos < this.end && this.bytes[pos] == '.') {
+            pos = this.digits(pos + 1);
+        }
+        if (pos < this.end
+            && (this.bytes[pos] == 'e' || this.bytes[pos] == 'E')) {
+            ++pos;
+            if (this.at(pos) == '+' || this.bytes[pos] == '-') {
+                ++pos;
+            }
+            pos = this.digits(pos);
+        }
+        return pos;
+    }
+
+    /**
+     * Skip one or more digits.
+     * @param from Position of the first digit
+     * @return Position right after the last digit
+     */
+    private int digits(final int from) {
+        int pos = from;
+        while (pos < this.end && LazyJson.digit(this.bytes[pos])) {
+            ++pos;
+        }
+        if (pos == from) {
+            throw new JsonException(
+                String.format("digit expected at position %d", pos)
+            );
+        }
+        return pos;
+    }
+
+    /**
+     * Skip whitespace.
+     * @param from Position to start at
+     * @return Position of the next non-blank byte
+     */
+    private int blank(final int from) {
+        int pos = from;
+        while (pos < this.end && LazyJson.space(this.bytes[pos])) {
+            ++pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Make sure the byte at the position is the one expected.
+     * @param pos Position
+     * @param chr Byte expected
+     */
+    private void expect(final int pos, final char chr) {
+        if (this.at(pos) != chr) {
+            throw new JsonException(
+                String.format("'%c' expected at position %d", chr, pos)
+            );
+        }
+    }
+
+    /**
+     * Byte at the position, within bounds.
+     * @param pos Position
+     * @return Byte
+     */
+    private byte at(final int pos) {
+        if (pos >= this.end) {
+            throw new JsonException("unexpected end of JSON");
+        }
+        return this.bytes[pos];
+    }
+
+    /**
+     * Position of the first non-blank byte.
+     * @param data Bytes
+     * @return Position
+     */
+    private static int first(final byte[] data) {
+        int pos = 0;
+        while (pos < data.length && LazyJson.space(data[pos])) {
+            ++pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Position right after the last non-blank byte.
+     * @param data Bytes
+     * @return Position
+     */
+    private static int last(final byte[] data) {
+        int pos = data.length;
+        while (pos > 0 && LazyJson.space(data[pos - 1])) {
+            --pos;
+        }
+        return pos;
+    }
+
+    /**
+     * Is it JSON whitespace?
+     * @param chr Byte
+     * @return TRUE if blank
+     */
+    private static boolean space(final byte chr) {
+        return chr == ' ' || chr == '\n' || chr == '\r' || chr == '\t';
+    }
+
+    /**
+     * Is it a decimal digit?
+     * @param chr Byte
+     * @return TRUE if so
+     */
+    private static boolean digit(final byte chr) {
+        return chr >= '0' && chr <= '9';
+    }
+
+    /**
+     * Index of fields.
+     */
+    private static final class Index {
+        /**
+         * Positions of the fields by name.
+         */
+        private final transient Map<String, Integer> positions;
+        /**
+         * Names, in order of appearance.
+         */
+        private transient String[] names;
+        /**
+         * Where values start.
+         */
+        private transient int[] from;
+        /**
+         * Where values end.
+         */
+        private transient int[] upto;
+        /**
+         * Values decoded so far.
+         */
+        private transient JsonValue[] values;
+        /**
+         * Ctor.
+         */
+        Index() {
+            // @checkstyle MagicNumber (1 line)
+            final int size = 16;
+            this.positions = new HashMap<>(size);
+            this.names = new String[size];
+            this.from = new int[size];
+            this.upto = new int[size];
+            this.values = new JsonValue[size];
+        }
+        /**
+         * Add a field, the last one wins if names repeat.
+         * @param name Name
+         * @param first Where the value starts
+         * @param after Where the value ends
+         */
+        void add(final String name, final int first, final int after) {
+            Integer pos = this.positions.get(name);
+            if (pos == null) {
+                pos = this.positions.size();
+                if (pos == this.names.length) {
+                    final int size = pos * 2;
+                    this.names = Arrays.copyOf(this.names, size);
+                    this.from = Arrays.copyOf(this.from, size);
+                    this.upto = Arrays.copyOf(this.upto, size);
+                    this.values = Arrays.copyOf(this.values, size);
+                }
+                this.positions.put(name, pos);
+                this.names[pos] = name;
+            }
+            this.from[pos] = first;
+            this.upto[pos] = after;
+        }
+    }
+
+    /**
+     * Entries of the object, in order of appearance.
+     */
+    private static final class Entries
+        extends AbstractSet<Map.Entry<String, JsonValue>> {
+        /**
+         * The object.
+         */
+        private final transient LazyJson json;
+        /**
+         * Ctor.
+         * @param obj The object
+         */
+        Entries(final LazyJson obj) {
+            super();
+            this.json = obj;
+        }
+        @Override
+        public Iterator<Map.Entry<String, JsonValue>> iterator() {
+            final LazyJson.Index index = this.json.index();
+            final int size = index.positions.size();
+            return new Iterator<Map.Entry<String, JsonValue>>() {
+                private int pos;
+                @Override
+                public boolean hasNext() {
+                    return this.pos < size;
+                }
+                @Override
+                public Map.Entry<String, JsonValue> next() {
+                    if (!this.hasNext()) {
+                        throw new NoSuchElementException("no more fields");
+                    }
+                    final int cur = this.pos;
+                    ++this.pos;
+                    return new AbstractMap.SimpleImmutableEntry<>(
+                        index.names[cur], Entries.this.json.value(cur)
+                    );
+                }
+            };
+        }
+        @Override
+        public int size() {
+            return this.json.size();
+        }
+    }
+}
@@ -31,6 +31,8 @@ package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
+import java.io.IOException;
+import javax.json.JsonObject;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
@@ -107,4 +109,62 @@ public interface Limits {
         }
     }
 
+    /**
+     * Limits as last seen in response headers, with no request.
+     *
+     * <p>Resources not seen in any response yet are read from
+     * the original limits.</p>
+     *
+     * @see RateLimitRegistry
+     * @since 2.0
+     */
+    @ToString
+    @Loggable(Loggable.DEBUG)
+    @EqualsAndHashCode(of = { "origin", "registry" })
+    final class Observed implements Limits {
+        /**
+         * Original.
+         */
+        private final transient Limits origin;
+        /**
+         * Registry fed from response headers.
+         */
+        private final transient RateLimitRegistry registry;
+        /**
+         * Public ctor.
+         * @param limits Original limits
+         * @param reg Registry fed from response headers
+         */
+        public Observed(
+            final Limits limits,
+            final RateLimitRegistry reg
+        ) {
+            this.origin = limits;
+            this.registry = reg;
+        }
+        @Override
+        public Github github() {
+            return this.origin.github();
+        }
+        @Override
+        public Limit get(
+            final String resource
+        ) {
+            final Limit fallback = this.origin.get(resource);
+            return new Limit() {
+                @Override
+                public Github github() {
+                    return fallback.github();
+                }
+                @Override
+                public JsonObject json() throws IOException {
+                    JsonObject json = Observed.this.registry.get(resource);
+                    if (json == null) {
+                        json = fallback.json();
+                    }
+                    return json;
+                }
+            };
+        }
+    }
 }
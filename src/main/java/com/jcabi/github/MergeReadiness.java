@@ -0,0 +1,158 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Merge readiness of all open pull requests of a repo.
+ *
+ * <p>Open pull requests are listed page by page, through
+ * {@link Pulls#iterate(Map)}, and their check runs are then read in
+ * parallel, through {@link Pull#checks()}, so any {@link Repo} works,
+ * including mocks and decorators. Pull requests listed by
+ * {@code RtPulls} know their head SHA from the listing, so none of
+ * them is fetched one by one. A pull request is ready when it has at
+ * least one check run and all its check runs completed successfully.
+ * A pull request without any check runs is not ready, since its CI may
+ * not have been queued yet:</p>
+ *
+ * <pre> final Map&lt;Integer, Boolean&gt; ready =
+ *   new MergeReadiness(repo, 8, 500).evaluate();</pre>
+ *
+ * <p>The cap is a number of pull requests evaluated in one run, which
+ * is also the number of check runs requests made when each head has
+ * up to a hundred check runs. It is not a rate budget and doesn't pace
+ * the requests; use {@link com.jcabi.github.wire.ResourceCarefulWire}
+ * on the entry for that. Pull requests beyond the cap are absent from
+ * the result and may be evaluated in the next run.</p>
+ *
+ * @since 2.0
+ * @see <a href="https://docs.github.com/en/rest/checks/runs?apiVersion=2022-11-28">Check Runs API</a>
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@ToString(of = { "repo", "threads", "cap" })
+@EqualsAndHashCode(of = { "repo", "threads", "cap" })
+public final class MergeReadiness {
+
+    /**
+     * Repository.
+     */
+    private final transient Repo repo;
+
+    /**
+     * Number of threads.
+     */
+    private final transient int threads;
+
+    /**
+     * Maximum number of pull requests to evaluate in one run.
+     */
+    private final transient int cap;
+
+    /**
+     * Ctor.
+     * @param rpo Repository
+     */
+    public MergeReadiness(final Repo rpo) {
+        // @checkstyle MagicNumber (1 line)
+        this(rpo, 8, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Ctor.
+     * @param rpo Repository
+     * @param thr Number of threads
+     * @param most Maximum number of pull requests to evaluate in one run
+     */
+    public MergeReadiness(final Repo rpo, final int thr, final int most) {
+        this.repo = rpo;
+        this.threads = thr;
+        this.cap = most;
+    }
+
+    /**
+     * Evaluate open pull requests.
+     * @return Readiness by pull request number, in listing order
+     * @throws IOException If there is any I/O problem
+     */
+    public Map<Integer, Boolean> evaluate() throws IOException {
+        final Map<String, String> params = new HashMap<>(2);
+        params.put("state", "open");
+        // @checkstyle MagicNumber (1 line)
+        params.put("per_page", "100");
+        final List<Integer> numbers = new ArrayList<>(0);
+        final List<Callable<Boolean>> tasks = new ArrayList<>(0);
+        for (final Pull pull : this.repo.pulls().iterate(params)) {
+            if (numbers.size() >= this.cap) {
+                break;
+            }
+            numbers.add(pull.number());
+            tasks.add(() -> MergeReadiness.ready(pull.checks()));
+        }
+        final List<Boolean> ready = Parallel.all(this.threads, tasks);
+        final Map<Integer, Boolean> result =
+            new LinkedHashMap<>(numbers.size());
+        for (int idx = 0; idx < ready.size(); ++idx) {
+            result.put(numbers.get(idx), ready.get(idx));
+        }
+        return result;
+    }
+
+    /**
+     * There are checks and all of them completed successfully.
+     * @param checks Checks
+     * @return TRUE if ready to merge
+     * @throws IOException If there is any I/O problem
+     */
+    private static boolean ready(final Checks checks) throws IOException {
+        final Collection<? extends Check> all = checks.all();
+        boolean ready = !all.isEmpty();
+        for (final Check check : all) {
+            if (!check.successful()) {
+                ready = false;
+                break;
+            }
+        }
+        return ready;
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Tasks run in parallel, waiting for all their results.
+ *
+ * <p>If a task fails, the failure is rethrown as is when it's an
+ * {@link IOException}, a runtime exception or an error (like the
+ * {@link AssertionError} of an unexpected HTTP status), and wrapped into
+ * {@link IllegalStateException} otherwise.</p>
+ *
+ * @since 2.0
+ */
+final class Parallel {
+
+    /**
+     * Utility class.
+     */
+    private Parallel() {
+        // intentionally empty
+    }
+
+    /**
+     * Run all tasks in a new pool, shut down when they are done.
+     * @param threads Maximum number of threads
+     * @param tasks Tasks
+     * @param <X> Type of results
+     * @return Results, in the order of tasks
+     * @throws IOException If any task failed with it
+     */
+    static <X> List<X> all(final int threads,
+        final List<? extends Callable<X>> tasks) throws IOException {
+        final ExecutorService pool = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(threads, tasks.size()))
+        );
+        try {
+            return Parallel.all(pool, tasks);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Run all tasks in the pool.
+     * @param pool Threads
+     * @param tasks Tasks
+     * @param <X> Type of results
+     * @return Results, in the order of tasks
+     * @throws IOException If any task failed with it
+     */
+    static <X> List<X> all(final ExecutorService pool,
+        final List<? extends Callable<X>> tasks) throws IOException {
+        final List<X> results = new ArrayList<>(tasks.size());
+        try {
+            for (final Future<X> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        } catch (final ExecutionException ex) {
+            final Throwable cause = ex.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return results;
+    }
+}
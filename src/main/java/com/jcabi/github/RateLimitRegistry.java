@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.json.JsonObject;
+import javax.json.spi.JsonProvider;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Rate limits of Github resources, as last seen in response headers.
+ *
+ * <p>Each response of Github carries {@code X-RateLimit-Limit},
+ * {@code -Remaining}, {@code -Reset}, {@code -Used} and
+ * {@code -Resource} headers. Once they are fed here, by
+ * {@link com.jcabi.github.wire.RateLimitWire}, the budget of a resource
+ * can be checked with no request at all, through
+ * {@link Limits.Observed}.</p>
+ *
+ * <p>Reads never block and updates are compare-and-set, so the registry
+ * can be shared by any number of threads. Since responses may arrive
+ * out of order, an update never replaces a snapshot of a later window,
+ * nor a snapshot of the same window with fewer requests remaining.
+ * Once the window of a snapshot resets, it is no longer reported.</p>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = "snapshots")
+public final class RateLimitRegistry {
+
+    /**
+     * Provider, looked up once.
+     */
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    /**
+     * Latest snapshots, by resource name.
+     */
+    private final transient ConcurrentMap<String, AtomicReference<JsonObject>>
+        snapshots;
+
+    /**
+     * Ctor.
+     */
+    public RateLimitRegistry() {
+        this.snapshots = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Update from response headers.
+     * @param headers Headers of a response
+     */
+    public void update(final Map<String, ? extends Iterable<String>> headers) {
+        final String limit = RateLimitRegistry.first(
+            headers, "X-RateLimit-Limit"
+        );
+        final String remaining = RateLimitRegistry.first(
+            headers, "X-RateLimit-Remaining"
+        );
+        final String reset = RateLimitRegistry.first(
+            headers, "X-RateLimit-Reset"
+        );
+        if (limit != null && remaining != null && reset != null) {
+            String resource = RateLimitRegistry.first(
+                headers, "X-RateLimit-Resource"
+            );
+            if (resource == null) {
+                resource = Limits.CORE;
+            }
+            final int max = Integer.parseInt(limit);
+            final int left = Integer.parseInt(remaining);
+            final String used = RateLimitRegistry.first(
+                headers, "X-RateLimit-Used"
+            );
+            final int spent;
+            if (used == null) {
+                spent = max - left;
+            } else {
+                spent = Integer.parseInt(used);
+            }
+            this.update(
+                resource,
+                RateLimitRegistry.PROVIDER.createObjectBuilder()
+                    .add("limit", max)
+                    .add("remaining", left)
+                    .add("reset", Long.parseLong(reset))
+                    .add("used", spent)
+                    .build()
+            );
+        }
+    }
+
+    /**
+     * Update the snapshot of the resource.
+     * @param resource Resource name
+     * @param snapshot Snapshot with {@code limit}, {@code remaining},
+     *  {@code reset} and {@code used}
+     */
+    public void update(final String resource, final JsonObject snapshot) {
+        final AtomicReference<JsonObject> ref = this.snapshots.computeIfAbsent(
+            resource, key -> new AtomicReference<>()
+        );
+        while (true) {
+            final JsonObject current = ref.get();
+            if (!RateLimitRegistry.newer(snapshot, current)
+                || ref.compareAndSet(current, snapshot)) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * Latest snapshot of the resource.
+     *
+     * <p>A snapshot whose window has already reset says nothing about
+     * the budget now, so it is reported as unknown.</p>
+     * @param resource Resource name
+     * @return Snapshot or NULL if nothing was seen in the current window
+     */
+    public JsonObject get(final String resource) {
+        final AtomicReference<JsonObject> ref = this.snapshots.get(resource);
+        JsonObject snapshot = null;
+        if (ref != null) {
+            snapshot = ref.get();
+        }
+        if (snapshot != null
+            && snapshot.getJsonNumber("reset").longValue()
+            <= TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())) {
+            snapshot = null;
+        }
+        return snapshot;
+    }
+
+    /**
+     * Is the snapshot newer than the current one?
+     * @param snapshot New snapshot
+     * @param current Current snapshot or NULL
+     * @return TRUE if it should replace the current one
+     */
+    private static boolean newer(final JsonObject snapshot,
+        final JsonObject current) {
+        final boolean newer;
+        if (current == null) {
+            newer = true;
+        } else {
+            final long reset = snapshot.getJsonNumber("reset").longValue();
+            final long was = current.getJsonNumber("reset").longValue();
+            newer = reset > was || reset == was
+                && snapshot.getInt("remaining") <= current.getInt("remaining");
+        }
+        return newer;
+    }
+
+    /**
+     * First value of the header, case insensitive.
+     * @param headers Headers
+     * @param name Header name
+     * @return Value or NULL
+     */
+    private static String first(
+        final Map<String, ? extends Iterable<String>> headers,
+        final String name) {
+        String value = null;
+        for (final Map.Entry<String, ? extends Iterable<String>> entry
+            : headers.entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())) {
+                for (final String val : entry.getValue()) {
+                    value = val;
+                    break;
+                }
+                break;
+            }
+        }
+        return value;
+    }
+}
@@ -234,7 +234,7 @@ public interface Repo extends JsonReadable, JsonPatchable, Comparable<Repo> {
          * @throws IOException If there is any I/O problem.
          */
         public boolean exists() throws IOException {
-            return new Existence(this.repo).check();
+            return this.repo.github().repos().exists(this.repo.coordinates());
         }
 
         /**
@@ -31,6 +31,7 @@ package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
 import java.io.IOException;
+import java.io.Reader;
 import java.util.Map;
 
 /**
@@ -95,4 +96,35 @@ public interface RepoCommits extends JsonReadable {
         String base,
         String head
     ) throws IOException;
+
+    /**
+     * Compare two commits and provide result in diff format, as a stream
+     * of characters, without converting the entire body into a
+     * {@link String}.
+     * @param base SHA of the base repo commit
+     * @param head SHA of the head repo commit
+     * @return Reader of the comparison
+     * @throws IOException If there is any I/O problem
+     * @see DiffFiles
+     * @since 2.0
+     */
+    Reader diffReader(
+        String base,
+        String head
+    ) throws IOException;
+
+    /**
+     * Compare two commits and provide result in patch format, as a stream
+     * of characters, without converting the entire body into a
+     * {@link String}.
+     * @param base SHA of the base repo commit
+     * @param head SHA of the head repo commit
+     * @return Reader of the comparison
+     * @throws IOException If there is any I/O problem
+     * @since 2.0
+     */
+    Reader patchReader(
+        String base,
+        String head
+    ) throws IOException;
 }
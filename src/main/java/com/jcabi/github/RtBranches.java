@@ -32,8 +32,13 @@ package com.jcabi.github;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.http.Request;
-import java.util.stream.StreamSupport;
+import com.jcabi.http.response.JsonResponse;
+import com.jcabi.http.response.RestResponse;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import javax.json.JsonObject;
 import lombok.EqualsAndHashCode;
+import org.hamcrest.Matchers;
 
 /**
  * Git branches.
@@ -96,8 +101,32 @@ final class RtBranches implements Branches {
 
     @Override
     public Branch find(final String name) {
-        return StreamSupport.stream(this.iterate().spliterator(), false).filter(
-            item -> item.name().equals(name)
-        ).findFirst().orElse(null);
+        final RestResponse response;
+        try {
+            response = this.request.uri().path(name).back()
+                .fetch().as(RestResponse.class)
+                .assertStatus(
+                    Matchers.is(
+                        Matchers.oneOf(
+                            HttpURLConnection.HTTP_OK,
+                            HttpURLConnection.HTTP_NOT_FOUND
+                        )
+                    )
+                );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        Branch branch = null;
+        if (response.status() == HttpURLConnection.HTTP_OK) {
+            final JsonObject json = response.as(JsonResponse.class)
+                .json().readObject();
+            branch = new RtBranch(
+                this.entry,
+                this.owner,
+                json.getString("name"),
+                json.getJsonObject("commit").getString("sha")
+            );
+        }
+        return branch;
     }
 }
@@ -32,23 +32,34 @@ package com.jcabi.github;
 import com.jcabi.http.Request;
 import com.jcabi.http.response.JsonResponse;
 import com.jcabi.http.response.RestResponse;
+import com.jcabi.http.response.WebLinkingResponse;
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.LinkedList;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.json.JsonObject;
 import javax.json.JsonValue;
 
 /**
  * Github Checks.
  *
+ * <p>All pages of {@code check-runs} are fetched, following the
+ * {@code Link} header, and the head SHA of the pull request is
+ * resolved only once per instance (and instances derived from it
+ * by {@link #withName(String)} and {@link #withStatus(Check.Status)}).
+ *
  * @see <a href="https://docs.github.com/en/rest/checks/runs?apiVersion=2022-11-28">Check Runs API</a>
  * @since 1.5.0
  */
 class RtChecks implements Checks {
 
+    /**
+     * Maximum page size allowed by Github.
+     */
+    private static final int PAGE = 100;
+
     /**
      * Pull request.
      */
@@ -59,14 +70,61 @@ class RtChecks implements Checks {
      */
     private final transient Request request;
 
+    /**
+     * Head commit SHA, once resolved.
+     */
+    private final transient AtomicReference<String> head;
+
+    /**
+     * Check name to filter by, empty if any.
+     */
+    private final transient String name;
+
+    /**
+     * Status to filter by, NULL if any.
+     */
+    private final transient Check.Status status;
+
     /**
      * Ctor.
      * @param req Request
      * @param prequest Pull request
      */
     RtChecks(final Request req, final Pull prequest) {
+        this(req, prequest, new AtomicReference<>(), "", null);
+    }
+
+    /**
+     * Ctor for a known head commit, which saves a pull request fetch.
+     * @param req Request
+     * @param prequest Pull request
+     * @param sha Head commit SHA
+     */
+    RtChecks(final Request req, final Pull prequest, final String sha) {
+        this(req, prequest, new AtomicReference<>(sha), "", null);
+    }
+
+    /**
+     * Ctor.
+     * @param req Request
+     * @param prequest Pull request
+     * @param sha Head commit SHA holder
+     * @param cname Check name filter
+     * @param stat Status filter
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private RtChecks(
+        final Request req,
+        final Pull prequest,
+        final AtomicReference<String> sha,
+        final String cname,
+        final Check.Status stat
+    ) {
         this.pull = prequest;
         this.request = req;
+        this.head = sha;
+        this.name = cname;
+        this.status = stat;
     }
 
     /**
@@ -90,27 +148,75 @@ class RtChecks implements Checks {
     @Override
     public Collection<? extends Check> all() throws IOException {
         final Coordinates coords = this.pull.repo().coordinates();
-        final RestResponse rest = this.request.uri()
+        Request req = this.request.uri()
             .path("/repos")
             .path(coords.user())
             .path(coords.repo())
             .path("/commits")
-            .path(this.pull.head().sha())
+            .path(this.sha())
             .path("/check-runs")
+            .queryParam("per_page", RtChecks.PAGE)
             .back()
-            .method(Request.GET).fetch()
-            .as(RestResponse.class)
-            .assertStatus(HttpURLConnection.HTTP_OK);
-        final JsonObject object = rest.as(JsonResponse.class)
-            .json()
-            .readObject();
-        return Optional.ofNullable(object.getJsonArray("check_runs"))
-            .map(
-                obj -> obj.stream()
-                    .map(RtChecks::check)
-                    .collect(Collectors.toList())
-            )
-            .orElseGet(Collections::emptyList);
+            .method(Request.GET);
+        if (!this.name.isEmpty()) {
+            req = req.uri().queryParam("check_name", this.name).back();
+        }
+        if (this.status != null) {
+            req = req.uri().queryParam("status", this.status.value()).back();
+        }
+        final Collection<RtCheck> checks = new LinkedList<>();
+        while (req != null) {
+            final RestResponse rest = req.fetch()
+                .as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK);
+            final JsonObject object = rest.as(JsonResponse.class)
+                .json()
+                .readObject();
+            Optional.ofNullable(object.getJsonArray("check_runs"))
+                .ifPresent(
+                    arr -> arr.stream()
+                        .map(RtChecks::check)
+                        .forEach(checks::add)
+                );
+            final WebLinkingResponse.Link link = rest
+                .as(WebLinkingResponse.class)
+                .links()
+                .get("next");
+            if (link == null) {
+                req = null;
+            } else {
+                req = rest.jump(link.uri());
+            }
+        }
+        return checks;
+    }
+
+    @Override
+    public Checks withName(final String cname) {
+        return new RtChecks(
+            this.request, this.pull, this.head, cname, this.status
+        );
+    }
+
+    @Override
+    public Checks withStatus(final Check.Status stat) {
+        return new RtChecks(
+            this.request, this.pull, this.head, this.name, stat
+        );
+    }
+
+    /**
+     * Head commit SHA of the pull request, fetched at most once.
+     * @return SHA
+     * @throws IOException If there is any I/O problem
+     */
+    private String sha() throws IOException {
+        String sha = this.head.get();
+        if (sha == null) {
+            sha = this.pull.head().sha();
+            this.head.compareAndSet(null, sha);
+        }
+        return sha;
     }
 
     /**
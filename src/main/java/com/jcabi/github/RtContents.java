@@ -232,7 +232,7 @@ final class RtContents implements Contents {
     @Override
     public boolean exists(final String path, final String ref)
         throws IOException {
-        final RestResponse response = this.request.method(Request.GET)
+        final RestResponse response = this.request.method(Request.HEAD)
             .uri().path(path).queryParam("ref", ref).back()
             .fetch().as(RestResponse.class);
         return response.status() == HttpURLConnection.HTTP_OK;
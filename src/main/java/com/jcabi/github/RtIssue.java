@@ -137,7 +137,7 @@ final class RtIssue implements Issue {
 
     @Override
     public boolean exists() throws IOException {
-        return new Existence(this).check();
+        return new HeadExistence(this.request).check();
     }
 
     @Override
@@ -189,18 +189,11 @@ final class RtIssue implements Issue {
 
     @Override
     public boolean isLocked() {
-        boolean locked = false;
         try {
-            locked ^=
-                this.request.method(Request.PUT).uri().path("/lock").back()
-                .fetch()
-                .as(RestResponse.class)
-                .assertStatus(HttpURLConnection.HTTP_NO_CONTENT).back().body()
-                .get().isEmpty();
-        } catch (final IOException error) {
-            locked = false;
+            return this.json().getBoolean("locked", false);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
         }
-        return locked;
     }
 
     @Override
@@ -30,9 +30,7 @@
 package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
-import com.jcabi.aspects.Loggable;
 import com.jcabi.http.Request;
-import com.jcabi.http.response.JsonResponse;
 import com.jcabi.http.response.RestResponse;
 import java.io.IOException;
 import java.io.StringWriter;
@@ -47,7 +45,6 @@ import lombok.EqualsAndHashCode;
  * @since 0.6
  */
 @Immutable
-@Loggable(Loggable.DEBUG)
 @EqualsAndHashCode(of = "request")
 final class RtJson {
 
@@ -66,15 +63,27 @@ final class RtJson {
 
     /**
      * Fetch JSON object.
+     *
+     * <p>The object is a {@link LazyJson} over the body, so only
+     * the fields actually read are decoded. The body is still validated
+     * in full here, so a malformed one fails in this method, as it did
+     * with the eager reader.</p>
+     *
      * @return JSON object
      * @throws IOException If fails
      */
     public JsonObject fetch() throws IOException {
-        return this.request.fetch()
-            .as(RestResponse.class)
-            .assertStatus(HttpURLConnection.HTTP_OK)
-            .as(JsonResponse.class)
-            .json().readObject();
+        final long start = Telemetry.JSON_FETCH.start();
+        try {
+            return new LazyJson(
+                this.request.fetch()
+                    .as(RestResponse.class)
+                    .assertStatus(HttpURLConnection.HTTP_OK)
+                    .binary()
+            );
+        } finally {
+            Telemetry.JSON_FETCH.stop(start);
+        }
     }
 
     /**
@@ -85,12 +94,17 @@ final class RtJson {
     public void patch(
         final JsonObject json
     ) throws IOException {
-        final StringWriter post = new StringWriter();
-        Json.createWriter(post).writeObject(json);
-        this.request.body().set(post.toString()).back()
-            .method(Request.PATCH)
-            .fetch().as(RestResponse.class)
-            .assertStatus(HttpURLConnection.HTTP_OK);
+        final long start = Telemetry.JSON_PATCH.start();
+        try {
+            final StringWriter post = new StringWriter();
+            Json.createWriter(post).writeObject(json);
+            this.request.body().set(post.toString()).back()
+                .method(Request.PATCH)
+                .fetch().as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK);
+        } finally {
+            Telemetry.JSON_PATCH.stop(start);
+        }
     }
 
 }
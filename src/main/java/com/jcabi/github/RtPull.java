@@ -74,6 +74,11 @@ final class RtPull implements Pull {
      */
     private final transient int num;
 
+    /**
+     * Head commit SHA, as listed, or empty if unknown.
+     */
+    private final transient String sha;
+
     /**
      * Public ctor.
      * @param req Request
@@ -81,6 +86,18 @@ final class RtPull implements Pull {
      * @param number Number of the get
      */
     RtPull(final Request req, final Repo repo, final int number) {
+        this(req, repo, number, "");
+    }
+
+    /**
+     * Ctor for a pull request whose head SHA is known from a listing.
+     * @param req Request
+     * @param repo Repository
+     * @param number Number of the get
+     * @param head Head commit SHA, or empty if unknown
+     */
+    RtPull(final Request req, final Repo repo, final int number,
+        final String head) {
         this.entry = req;
         final Coordinates coords = repo.coordinates();
         this.request = this.entry.uri()
@@ -92,6 +109,7 @@ final class RtPull implements Pull {
             .back();
         this.owner = repo;
         this.num = number;
+        this.sha = head;
     }
 
     @Override
@@ -178,7 +196,13 @@ final class RtPull implements Pull {
 
     @Override
     public Checks checks() throws IOException {
-        return new RtChecks(this.entry, this);
+        final Checks checks;
+        if (this.sha.isEmpty()) {
+            checks = new RtChecks(this.entry, this);
+        } else {
+            checks = new RtChecks(this.entry, this, this.sha);
+        }
+        return checks;
     }
 
     @Override
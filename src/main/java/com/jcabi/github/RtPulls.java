@@ -38,6 +38,7 @@ import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.util.Map;
 import javax.json.Json;
+import javax.json.JsonObject;
 import javax.json.JsonStructure;
 import lombok.EqualsAndHashCode;
 
@@ -120,11 +121,26 @@ final class RtPulls implements Pulls {
         );
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Pull requests remember the head SHA of the listing, so their
+     * {@link Pull#checks()} don't fetch them to find it.</p>
+     */
     @Override
     public Iterable<Pull> iterate(final Map<String, String> params) {
         return new RtPagination<>(
             this.request.uri().queryParams(params).back(),
-            object -> this.get(object.getInt("number"))
+            object -> {
+                final JsonObject head = object.getJsonObject("head");
+                String sha = "";
+                if (head != null) {
+                    sha = head.getString("sha", "");
+                }
+                return new RtPull(
+                    this.entry, this.owner, object.getInt("number"), sha
+                );
+            }
         );
     }
 
@@ -33,9 +33,14 @@ import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.http.Request;
 import com.jcabi.http.RequestURI;
+import com.jcabi.http.Response;
 import com.jcabi.http.response.RestResponse;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
 import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import javax.json.JsonObject;
 import javax.ws.rs.core.HttpHeaders;
@@ -50,6 +55,16 @@ import lombok.EqualsAndHashCode;
 @EqualsAndHashCode(of = { "request", "owner", "entry" })
 final class RtRepoCommits implements RepoCommits {
 
+    /**
+     * Media type of a comparison in diff format.
+     */
+    private static final String DIFF = "application/vnd.github.v3.diff";
+
+    /**
+     * Media type of a comparison in patch format.
+     */
+    private static final String PATCH = "application/vnd.github.v3.patch";
+
     /**
      * RESTful API entry point.
      */
@@ -119,14 +134,7 @@ final class RtRepoCommits implements RepoCommits {
         final String base,
         final String head)
         throws IOException {
-        return this.comp.reset(HttpHeaders.ACCEPT)
-            .header(HttpHeaders.ACCEPT, "application/vnd.github.v3.diff")
-            .uri()
-            .path(String.format("%s...%s", base, head))
-            .back()
-            .fetch().as(RestResponse.class)
-            .assertStatus(HttpURLConnection.HTTP_OK)
-            .body();
+        return this.compared(base, head, RtRepoCommits.DIFF).body();
     }
 
     @Override
@@ -134,14 +142,27 @@ final class RtRepoCommits implements RepoCommits {
         final String base,
         final String head)
         throws IOException {
-        return this.comp.reset(HttpHeaders.ACCEPT)
-            .header(HttpHeaders.ACCEPT, "application/vnd.github.v3.patch")
-            .uri()
-            .path(String.format("%s...%s", base, head))
-            .back()
-            .fetch().as(RestResponse.class)
-            .assertStatus(HttpURLConnection.HTTP_OK)
-            .body();
+        return this.compared(base, head, RtRepoCommits.PATCH).body();
+    }
+
+    @Override
+    public Reader diffReader(
+        final String base,
+        final String head)
+        throws IOException {
+        return RtRepoCommits.reader(
+            this.compared(base, head, RtRepoCommits.DIFF)
+        );
+    }
+
+    @Override
+    public Reader patchReader(
+        final String base,
+        final String head)
+        throws IOException {
+        return RtRepoCommits.reader(
+            this.compared(base, head, RtRepoCommits.PATCH)
+        );
     }
 
     @Override
@@ -153,4 +174,35 @@ final class RtRepoCommits implements RepoCommits {
     public JsonObject json() throws IOException {
         return new RtJson(this.request).fetch();
     }
+
+    /**
+     * Fetch comparison of two commits in the given media type.
+     * @param base SHA of the base repo commit
+     * @param head SHA of the head repo commit
+     * @param type Media type to accept
+     * @return Response
+     * @throws IOException If there is any I/O problem
+     */
+    private Response compared(final String base, final String head,
+        final String type) throws IOException {
+        return this.comp.reset(HttpHeaders.ACCEPT)
+            .header(HttpHeaders.ACCEPT, type)
+            .uri()
+            .path(String.format("%s...%s", base, head))
+            .back()
+            .fetch().as(RestResponse.class)
+            .assertStatus(HttpURLConnection.HTTP_OK);
+    }
+
+    /**
+     * Read body of the response as characters, decoding its bytes on demand.
+     * @param response Response
+     * @return Reader
+     */
+    private static Reader reader(final Response response) {
+        return new InputStreamReader(
+            new ByteArrayInputStream(response.binary()),
+            StandardCharsets.UTF_8
+        );
+    }
 }
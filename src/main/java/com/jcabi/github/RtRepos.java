@@ -133,7 +133,7 @@ final class RtRepos implements Repos {
         final String repo = coords.user().concat("/").concat(coords.repo());
         final RestResponse response = this.entry.uri()
             .path("/repos/".concat(repo)).back()
-            .method(Request.GET).fetch().as(RestResponse.class);
+            .method(Request.HEAD).fetch().as(RestResponse.class);
         return response.status() == HttpURLConnection.HTTP_OK;
     }
 }
@@ -87,7 +87,7 @@ final class RtSearch implements Search {
     }
 
     @Override
-    public Iterable<Repo> repos(
+    public Search.Results<Repo> repos(
         final String keywords,
         final String sort,
         final Order order) {
@@ -101,8 +101,9 @@ final class RtSearch implements Search {
 
     //@checkstyle ParameterNumberCheck (5 lines)
     @Override
-    public Iterable<Issue> issues(final String keywords, final String sort,
-        final Order order, final EnumMap<Qualifier, String> qualifiers) {
+    public Search.Results<Issue> issues(final String keywords,
+        final String sort, final Order order,
+        final EnumMap<Qualifier, String> qualifiers) {
         final StringBuilder keyword = new StringBuilder(keywords);
         for (final EnumMap.Entry<Qualifier, String> entry : qualifiers
             .entrySet()) {
@@ -133,7 +134,7 @@ final class RtSearch implements Search {
     }
 
     @Override
-    public Iterable<User> users(
+    public Search.Results<User> users(
         final String keywords,
         final String sort,
         final Order order) {
@@ -146,7 +147,7 @@ final class RtSearch implements Search {
     }
 
     @Override
-    public Iterable<Content> codes(
+    public Search.Results<Content> codes(
         final String keywords,
         final String sort,
         final Order order) {
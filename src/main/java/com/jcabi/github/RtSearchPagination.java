@@ -29,34 +29,39 @@
  */
 package com.jcabi.github;
 
-import com.jcabi.aspects.Immutable;
 import com.jcabi.http.Request;
-import com.jcabi.http.RequestBody;
-import com.jcabi.http.RequestURI;
-import com.jcabi.http.Response;
-import com.jcabi.http.Wire;
+import com.jcabi.http.response.RestResponse;
+import com.jcabi.http.response.WebLinkingResponse;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.StringReader;
-import java.io.UnsupportedEncodingException;
-import java.lang.reflect.InvocationTargetException;
-import java.net.URI;
+import java.net.HttpURLConnection;
+import java.util.Collections;
 import java.util.Iterator;
-import java.util.List;
-import java.util.Map;
-import javax.json.Json;
+import java.util.NoSuchElementException;
+import javax.json.JsonArray;
 import javax.json.JsonObject;
+import javax.json.JsonValue;
 import lombok.EqualsAndHashCode;
 
 /**
  * Github search pagination.
  *
+ * <p>Each page is read once, as a {@link LazyJson}: its items are
+ * views over the bytes of the response, decoded only when the mapping
+ * reads them, and nothing is serialized back to text.</p>
+ *
+ * <p>The first page is fetched once, by whichever comes first of
+ * {@link #total()}, {@link #incomplete()} and iteration, and is kept:
+ * totals are read from it and every iterator starts with it, so asking
+ * for the total before iterating costs no extra request. The following
+ * pages are fetched by each iterator on its own. Totals never change
+ * afterwards, so search again for fresh ones.</p>
+ *
  * @param <T> Type of iterable objects
+ * @since 0.8
+ * @see <a href="https://developer.github.com/v3/search/">Search API</a>
  */
-@Immutable
-@EqualsAndHashCode
-@SuppressWarnings("PMD.TooManyMethods")
-final class RtSearchPagination<T> implements Iterable<T> {
+@EqualsAndHashCode(of = { "request", "mapping" })
+final class RtSearchPagination<T> implements Search.Results<T> {
 
     /**
      * Search request.
@@ -68,6 +73,16 @@ final class RtSearchPagination<T> implements Iterable<T> {
      */
     private final transient RtValuePagination.Mapping<T, JsonObject> mapping;
 
+    /**
+     * Lock of the first page.
+     */
+    private final transient Object lock;
+
+    /**
+     * First page, NULL until fetched.
+     */
+    private transient RtSearchPagination.Page head;
+
     /**
      * Ctor.
      * @param req RESTful API entry point
@@ -87,200 +102,173 @@ final class RtSearchPagination<T> implements Iterable<T> {
             .queryParam("order", order)
             .back();
         this.mapping = mppng;
+        this.lock = new Object();
     }
 
     @Override
     public Iterator<T> iterator() {
-        return new RtPagination<>(
-            new RtSearchPagination.SearchRequest(this.request),
-            this.mapping
-        ).iterator();
+        return new RtSearchPagination.Items<>(this);
     }
 
-    /**
-     * Request which hides everything but items.
-     */
-    @SuppressWarnings({ "PMD.TooManyMethods", "PMD.CyclomaticComplexity" })
-    private static final class SearchRequest implements Request {
-        /**
-         * Inner request.
-         */
-        private final transient Request request;
-        /**
-         * Ctor.
-         * @param req Request to wrap
-         */
-        SearchRequest(final Request req) {
-            this.request = req;
-        }
-        @Override
-        public RequestURI uri() {
-            return new SearchURI(this.request.uri());
-        }
-        @Override
-        public RequestBody body() {
-            return this.request.body();
-        }
-
-        @Override
-        public RequestBody multipartBody() {
-            throw new UnsupportedOperationException("#multipart");
-        }
-
-        @Override
-        public Request header(final String name, final Object value) {
-            return new SearchRequest(this.request.header(name, value));
-        }
-        @Override
-        public Request reset(final String name) {
-            return new SearchRequest(this.request.reset(name));
-        }
-        @Override
-        public Request method(final String method) {
-            return new SearchRequest(this.request.method(method));
-        }
-        @Override
-        public Request timeout(final int first, final int second) {
-            return new SearchRequest(this.request);
-        }
+    @Override
+    public int total() throws IOException {
+        return this.first().json.getInt("total_count");
+    }
 
-        /**
-         * Hide everything from the body but items.
-         * @return Response
-         * @throws IOException If any I/O problem occurs
-         */
-        @Override
-        public Response fetch() throws IOException {
-            return new RtSearchPagination.Hidden(this.request.fetch());
-        }
-        @Override
-        public Response fetch(final InputStream stream) throws IOException {
-            return new RtSearchPagination.Hidden(this.request.fetch(stream));
-        }
-        @Override
-        public <T extends Wire> Request through(final Class<T> type,
-            final Object... args) {
-            return new SearchRequest(this.request.through(type, args));
-        }
+    @Override
+    public boolean incomplete() throws IOException {
+        return this.first().json.getBoolean("incomplete_results", false);
+    }
 
-        @Override
-        public Request through(final Wire wire) {
-            throw new UnsupportedOperationException("#through");
+    /**
+     * First page, fetched on the first call only.
+     * @return Page
+     * @throws IOException If fails
+     */
+    private RtSearchPagination.Page first() throws IOException {
+        synchronized (this.lock) {
+            if (this.head == null) {
+                this.head = RtSearchPagination.Page.fetch(this.request);
+            }
+            return this.head;
         }
     }
 
     /**
-     * Response to return.
+     * One page of search results.
      */
-    @Immutable
-    private static final class Hidden implements Response {
+    private static final class Page {
+        /**
+         * The whole page.
+         */
+        private final transient JsonObject json;
         /**
-         * Original response.
+         * Request for the next page, NULL if it is the last one.
          */
-        private final transient Response response;
+        private final transient Request next;
         /**
          * Ctor.
-         * @param resp Response
+         * @param obj The whole page
+         * @param req Request for the next page or NULL
          */
-        Hidden(final Response resp) {
-            this.response = resp;
-        }
-        @Override
-        public Request back() {
-            return new SearchRequest(this.response.back());
-        }
-        @Override
-        public int status() {
-            return this.response.status();
-        }
-        @Override
-        public String reason() {
-            return this.response.reason();
+        Page(final JsonObject obj, final Request req) {
+            this.json = obj;
+            this.next = req;
         }
-        @Override
-        public Map<String, List<String>> headers() {
-            return this.response.headers();
-        }
-        @Override
-        public String body() {
-            return Json.createReader(new StringReader(this.response.body()))
-                .readObject().getJsonArray("items").toString();
+        /**
+         * Items of the page.
+         * @return Items
+         */
+        Iterator<JsonValue> items() {
+            final JsonArray items = this.json.getJsonArray("items");
+            final Iterator<JsonValue> iter;
+            if (items == null) {
+                iter = Collections.emptyIterator();
+            } else {
+                iter = items.iterator();
+            }
+            return iter;
         }
-        @Override
-        public byte[] binary() {
+        /**
+         * Fetch the page.
+         * @param req Request
+         * @return Page
+         * @throws IOException If fails
+         */
+        static RtSearchPagination.Page fetch(final Request req)
+            throws IOException {
+            final long start = Telemetry.SEARCH_FETCH.start();
             try {
-                return this.body().getBytes("UTF-8");
-            } catch (final UnsupportedEncodingException ex) {
-                throw new IllegalStateException(ex);
+                return RtSearchPagination.Page.load(req);
+            } finally {
+                Telemetry.SEARCH_FETCH.stop(start);
             }
         }
-        // @checkstyle MethodName (4 lines)
-        @Override
-        @SuppressWarnings("PMD.ShortMethodName")
-        public <T extends Response> T as(final Class<T> type) {
-            try {
-                return type.getDeclaredConstructor(Response.class)
-                    .newInstance(this);
-            } catch (final InstantiationException ex) {
-                throw new IllegalStateException(ex);
-            } catch (final IllegalAccessException ex) {
-                throw new IllegalStateException(ex);
-            } catch (final InvocationTargetException ex) {
-                throw new IllegalStateException(ex);
-            } catch (final NoSuchMethodException ex) {
-                throw new IllegalStateException(ex);
+        /**
+         * Load the page.
+         * @param req Request
+         * @return Page
+         * @throws IOException If fails
+         */
+        private static RtSearchPagination.Page load(final Request req)
+            throws IOException {
+            final RestResponse response = req.fetch()
+                .as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK);
+            final WebLinkingResponse.Link link = response
+                .as(WebLinkingResponse.class)
+                .links()
+                .get("next");
+            final Request next;
+            if (link == null) {
+                next = null;
+            } else {
+                next = response.jump(link.uri());
             }
+            return new RtSearchPagination.Page(
+                new LazyJson(response.binary()), next
+            );
         }
     }
 
     /**
-     * Wrapper of RequestURI that returns {@link SearchRequest}.
+     * Iterator over items of all pages.
+     * @param <X> Type of items
      */
-    @Immutable
-    @EqualsAndHashCode(of = "address")
-    private static final class SearchURI implements RequestURI {
+    private static final class Items<X> implements Iterator<X> {
+        /**
+         * The pagination.
+         */
+        private final transient RtSearchPagination<X> owner;
         /**
-         * Underlying address.
+         * Items of the current page.
          */
-        private final transient RequestURI address;
+        private transient Iterator<JsonValue> items;
+        /**
+         * Request for the next page, NULL if none.
+         */
+        private transient Request next;
         /**
          * Ctor.
-         * @param uri The URI
+         * @param pgn The pagination
          */
-        public SearchURI(final RequestURI uri) {
-            this.address = uri;
-        }
-        @Override
-        public Request back() {
-            return new SearchRequest(this.address.back());
-        }
-        @Override
-        public URI get() {
-            return this.address.get();
+        Items(final RtSearchPagination<X> pgn) {
+            this.owner = pgn;
         }
         @Override
-        public RequestURI set(final URI uri) {
-            return new SearchURI(this.address.set(uri));
-        }
-        @Override
-        public RequestURI queryParam(final String name, final Object value) {
-            return new SearchURI(this.address.queryParam(name, value));
-        }
-        @Override
-        public RequestURI queryParams(final Map<String, String> map) {
-            return new SearchURI(this.address.queryParams(map));
+        public boolean hasNext() {
+            try {
+                if (this.items == null) {
+                    this.turn(this.owner.first());
+                }
+                while (!this.items.hasNext() && this.next != null) {
+                    this.turn(RtSearchPagination.Page.fetch(this.next));
+                }
+            } catch (final IOException ex) {
+                throw new IllegalStateException(ex);
+            }
+            return this.items.hasNext();
         }
         @Override
-        public RequestURI path(final String segment) {
-            return new SearchURI(this.address.path(segment));
+        public X next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "no more elements in pagination, use #hasNext()"
+                );
+            }
+            return this.owner.mapping.map(this.items.next().asJsonObject());
         }
         @Override
-        public RequestURI userInfo(final String info) {
-            return new SearchURI(this.address.userInfo(info));
+        public void remove() {
+            throw new UnsupportedOperationException("#remove()");
         }
-        @Override
-        public RequestURI port(final int num) {
-            return new SearchURI(this.address.port(num));
+        /**
+         * Move to the page.
+         * @param page Page
+         */
+        private void turn(final RtSearchPagination.Page page) {
+            this.items = page.items();
+            this.next = page.next;
         }
     }
 }
@@ -43,11 +43,21 @@ import javax.json.JsonObject;
  */
 public class RtStatuses implements Statuses {
 
+    /**
+     * API entry point.
+     */
+    private final transient Request entry;
+
     /**
      * RESTful request.
      */
     private final transient Request request;
 
+    /**
+     * RESTful request to the repository.
+     */
+    private final transient Request repo;
+
     /**
      * Commit cmmt.
      */
@@ -59,11 +69,14 @@ public class RtStatuses implements Statuses {
      * @param commit Specific commit
      */
     RtStatuses(final Request req, final Commit commit) {
+        this.entry = req;
         final Coordinates coords = commit.repo().coordinates();
-        this.request = req.uri()
+        this.repo = req.uri()
             .path("/repos")
             .path(coords.user())
             .path(coords.repo())
+            .back();
+        this.request = this.repo.uri()
             .path("/statuses")
             .path(commit.sha())
             .back();
@@ -110,15 +123,45 @@ public class RtStatuses implements Statuses {
 
     /**
      * Get all status messages for a given commit.
+     *
+     * <p>Statuses listed for a ref other than this commit's SHA are
+     * bound to the commit of that ref, not to this one.
      * @param ref It can be a SHA, a branch name, or a tag name.
      * @return Full list of statuses for this commit.
-     * @todo #1126:30min Implement this method which gets all status messages for a given commit.
      */
     @Override
     public final Iterable<Status> list(
         final String ref
     ) {
-        throw new UnsupportedOperationException("Not implemented");
+        final Commit commit;
+        if (ref.equals(this.cmmt.sha())) {
+            commit = this.cmmt;
+        } else {
+            commit = new RtCommit(this.entry, this.cmmt.repo(), ref);
+        }
+        return new RtPagination<>(
+            this.repo.uri()
+                .path("/commits")
+                .path(ref)
+                .path("/statuses")
+                // @checkstyle MagicNumber (1 line)
+                .queryParam("per_page", 100)
+                .back(),
+            object -> new RtStatus(commit, object)
+        );
+    }
+
+    @Override
+    public final JsonObject combined(
+        final String ref
+    ) throws IOException {
+        return new RtJson(
+            this.repo.uri()
+                .path("/commits")
+                .path(ref)
+                .path("/status")
+                .back()
+        ).fetch();
     }
 
     /**
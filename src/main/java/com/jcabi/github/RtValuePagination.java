@@ -31,7 +31,6 @@ package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
 import com.jcabi.http.Request;
-import com.jcabi.http.response.JsonResponse;
 import com.jcabi.http.response.RestResponse;
 import com.jcabi.http.response.WebLinkingResponse;
 import java.io.IOException;
@@ -186,8 +185,21 @@ public final class RtValuePagination<T, P extends JsonValue> implements
          * Fetch the next portion, if available.
          * @throws IOException If there is any I/O problem
          */
-        @SuppressWarnings("unchecked")
         private void fetch() throws IOException {
+            final long start = Telemetry.PAGE_FETCH.start();
+            try {
+                this.load();
+            } finally {
+                Telemetry.PAGE_FETCH.stop(start);
+            }
+        }
+
+        /**
+         * Load the next portion.
+         * @throws IOException If there is any I/O problem
+         */
+        @SuppressWarnings("unchecked")
+        private void load() throws IOException {
             final RestResponse response = this.request.fetch()
                 .as(RestResponse.class)
                 .assertStatus(HttpURLConnection.HTTP_OK);
@@ -200,8 +212,9 @@ public final class RtValuePagination<T, P extends JsonValue> implements
             } else {
                 this.request = response.jump(link.uri());
             }
-            final JsonArray arr = response.as(JsonResponse.class).json()
-                .readArray();
+            final JsonArray arr = JsonBackend.DEFAULT.array(
+                response.binary()
+            );
             final Queue<P> list = new LinkedList<>();
             for (final JsonValue value : arr) {
                 list.add((P) value);
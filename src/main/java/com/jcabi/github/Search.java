@@ -30,7 +30,10 @@
 package com.jcabi.github;
 
 import com.jcabi.aspects.Immutable;
+import java.io.IOException;
+import java.util.Collection;
 import java.util.EnumMap;
+import java.util.Iterator;
 
 /**
  * Github search.
@@ -58,7 +61,7 @@ public interface Search {
      * @return Repos
      * @see <a href="https://developer.github.com/v3/search/#search-repositories">Search repositories</a>
      */
-    Iterable<Repo> repos(
+    Search.Results<Repo> repos(
         String keywords,
         String sort,
         Order order
@@ -75,7 +78,7 @@ public interface Search {
      * @see <a href="https://developer.github.com/v3/search/#search-issues">Search issues</a>
      * @checkstyle ParameterNumberCheck (7 lines)
      */
-    Iterable<Issue> issues(
+    Search.Results<Issue> issues(
         String keywords,
         String sort,
         Order order,
@@ -90,11 +93,88 @@ public interface Search {
      * @return Users
      * @see <a href="https://developer.github.com/v3/search/#search-users">Search users</a>
      */
-    Iterable<User> users(
+    Search.Results<User> users(
         String keywords,
         String sort,
         Order order);
 
+    /**
+     * Search results, which know how many items were found.
+     *
+     * <p>Totals come from the first page of results, the same page
+     * iteration starts with, so reading them before iterating costs no
+     * extra request, and they don't change afterwards. Github stops
+     * searching after a timeout, in which case the results are
+     * incomplete and the total is a lower bound.</p>
+     *
+     * @param <T> Type of items
+     * @since 2.0
+     */
+    interface Results<T> extends Iterable<T> {
+        /**
+         * Total number of items found ({@code total_count}).
+         * @return Number of items
+         * @throws IOException If there is any I/O problem
+         */
+        int total() throws IOException;
+
+        /**
+         * Whether the search timed out ({@code incomplete_results}).
+         * @return TRUE if some items may be missing
+         * @throws IOException If there is any I/O problem
+         */
+        boolean incomplete() throws IOException;
+
+        /**
+         * Results that are all known in advance.
+         * @param <T> Type of items
+         */
+        final class Simple<T> implements Search.Results<T> {
+            /**
+             * Items.
+             */
+            private final transient Iterable<T> items;
+
+            /**
+             * Ctor.
+             * @param all All items found
+             */
+            public Simple(final Iterable<T> all) {
+                this.items = all;
+            }
+
+            @Override
+            public Iterator<T> iterator() {
+                return this.items.iterator();
+            }
+
+            /**
+             * {@inheritDoc}
+             *
+             * <p>Free when the items are a {@link Collection}. Otherwise
+             * it walks through all of them, which costs as much as
+             * iterating, so call it once and keep the number.</p>
+             */
+            @Override
+            public int total() {
+                int total = 0;
+                if (this.items instanceof Collection) {
+                    total = ((Collection<?>) this.items).size();
+                } else {
+                    for (final T item : this.items) {
+                        ++total;
+                    }
+                }
+                return total;
+            }
+
+            @Override
+            public boolean incomplete() {
+                return false;
+            }
+        }
+    }
+
     /**
      * Search code.
      *
@@ -104,7 +184,7 @@ public interface Search {
      * @return Contents
      * @see <a href="https://developer.github.com/v3/search/#search-code">Search code</a>
      */
-    Iterable<Content> codes(
+    Search.Results<Content> codes(
         String keywords,
         String sort,
         Order order);
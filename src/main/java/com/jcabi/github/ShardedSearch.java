@@ -0,0 +1,354 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonObject;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Search that goes past the limit of a thousand results per query.
+ *
+ * <p>Github returns at most {@link #CAP} items for any search, no
+ * matter how many it found. This search restricts the query to a
+ * range of dates, by {@code created:} or {@code updated:}, and whenever
+ * {@link Search.Results#total()} of a range is above the cap, splits
+ * the range in halves, down to a single second. Totals of all ranges
+ * of one level are probed in parallel, then all ranges that fit are
+ * read in parallel, and their items are merged without duplicates, in
+ * the order of ranges:</p>
+ *
+ * <pre> final RateLimitRegistry registry = new RateLimitRegistry();
+ * final Github github = new RtGithub(
+ *   new RtGithub(oauth).entry().through(RateLimitWire.class, registry)
+ * );
+ * final Set&lt;Issue&gt; all = ShardedSearch.issues(
+ *   github.search(), "org:acme is:open",
+ *   new EnumMap&lt;&gt;(Search.Qualifier.class),
+ *   Search.Qualifier.CREATED,
+ *   Instant.parse("2015-01-01T00:00:00Z"), Instant.now(), registry
+ * ).all();</pre>
+ *
+ * <p>Probing a range fetches the first page of its results, which is
+ * kept and read again when the range fits, so a range that isn't split
+ * costs no more requests than reading it. Ranges that are split cost
+ * one request each.</p>
+ *
+ * <p>Search has its own, much lower rate limit, so requests are paced
+ * against the {@code search} bucket of a {@link RateLimitRegistry}:
+ * before every probe and every item read, which is where a page may be
+ * fetched, a thread waits for the bucket to reset if no more requests
+ * are left in it than there are threads. The registry has to be fed
+ * with the responses of the same {@link Github}, by
+ * {@link com.jcabi.github.wire.RateLimitWire} or
+ * {@link com.jcabi.github.wire.ResourceCarefulWire}; until it has seen
+ * a search response, nothing waits.</p>
+ *
+ * @param <T> Type of items
+ * @since 2.0
+ * @see <a href="https://docs.github.com/en/rest/search/search#about-search">About search</a>
+ */
+@Loggable(Loggable.DEBUG)
+@ToString(of = { "from", "upto", "threads" })
+@EqualsAndHashCode(of = { "query", "from", "upto", "threads", "registry" })
+public final class ShardedSearch<T> {
+
+    /**
+     * Maximum number of results Github returns for a query.
+     */
+    public static final int CAP = 1000;
+
+    /**
+     * Query for a range.
+     */
+    private final transient ShardedSearch.Query<T> query;
+
+    /**
+     * Start of the range, inclusive.
+     */
+    private final transient Instant from;
+
+    /**
+     * End of the range, inclusive.
+     */
+    private final transient Instant upto;
+
+    /**
+     * Number of threads.
+     */
+    private final transient int threads;
+
+    /**
+     * Registry of rate limits to pace requests with.
+     */
+    private final transient RateLimitRegistry registry;
+
+    /**
+     * Ctor, without pacing.
+     * @param qry Query for a range
+     * @param start Start of the range, inclusive
+     * @param end End of the range, inclusive
+     * @param thr Number of threads
+     */
+    public ShardedSearch(final ShardedSearch.Query<T> qry,
+        final Instant start, final Instant end, final int thr) {
+        this(qry, start, end, thr, new RateLimitRegistry());
+    }
+
+    /**
+     * Ctor.
+     * @param qry Query for a range
+     * @param start Start of the range, inclusive
+     * @param end End of the range, inclusive
+     * @param thr Number of threads
+     * @param reg Registry of rate limits, fed by the same Github
+     * @checkstyle ParameterNumberCheck (4 lines)
+     */
+    public ShardedSearch(final ShardedSearch.Query<T> qry,
+        final Instant start, final Instant end, final int thr,
+        final RateLimitRegistry reg) {
+        this.query = qry;
+        this.from = start.truncatedTo(ChronoUnit.SECONDS);
+        this.upto = end.truncatedTo(ChronoUnit.SECONDS);
+        this.threads = Math.max(1, thr);
+        this.registry = reg;
+    }
+
+    /**
+     * Sharded search of issues.
+     * @param search Search
+     * @param keywords Keywords
+     * @param qualifiers Other qualifiers
+     * @param field Date field, {@code CREATED} or {@code UPDATED}
+     * @param start Start of the range, inclusive
+     * @param end End of the range, inclusive
+     * @param registry Registry of rate limits, fed by the same Github
+     * @return Search
+     * @checkstyle ParameterNumberCheck (7 lines)
+     */
+    public static ShardedSearch<Issue> issues(final Search search,
+        final String keywords,
+        final EnumMap<Search.Qualifier, String> qualifiers,
+        final Search.Qualifier field, final Instant start, final Instant end,
+        final RateLimitRegistry registry) {
+        return new ShardedSearch<>(
+            range -> {
+                final EnumMap<Search.Qualifier, String> all =
+                    new EnumMap<>(qualifiers);
+                all.put(field, range);
+                return search.issues(
+                    keywords, field.identifier(), Search.Order.ASC, all
+                );
+            },
+            start, end, 2, registry
+        );
+    }
+
+    /**
+     * Sharded search of repositories.
+     *
+     * <p>The date field only goes into the query, as a qualifier.
+     * Repository search can't sort by {@code created}, so the results
+     * of every range are sorted by {@code updated}.</p>
+     * @param search Search
+     * @param keywords Keywords
+     * @param field Date field, {@code CREATED} or {@code UPDATED}
+     * @param start Start of the range, inclusive
+     * @param end End of the range, inclusive
+     * @param registry Registry of rate limits, fed by the same Github
+     * @return Search
+     * @checkstyle ParameterNumberCheck (6 lines)
+     */
+    public static ShardedSearch<Repo> repos(final Search search,
+        final String keywords, final Search.Qualifier field,
+        final Instant start, final Instant end,
+        final RateLimitRegistry registry) {
+        return new ShardedSearch<>(
+            range -> search.repos(
+                String.format(
+                    "%s %s:%s", keywords, field.identifier(), range
+                ),
+                "updated",
+                Search.Order.ASC
+            ),
+            start, end, 2, registry
+        );
+    }
+
+    /**
+     * All items found.
+     * @return Items, in the order of ranges
+     * @throws IOException If there is any I/O problem
+     */
+    public Set<T> all() throws IOException {
+        final ExecutorService pool = Executors.newFixedThreadPool(
+            this.threads
+        );
+        final Set<T> items = new LinkedHashSet<>(0);
+        try {
+            final List<Callable<List<T>>> reads = new ArrayList<>(0);
+            for (final Search.Results<T> results : this.shards(pool)) {
+                reads.add(
+                    () -> {
+                        final List<T> list = new ArrayList<>(0);
+                        final Iterator<T> iter = results.iterator();
+                        this.pace();
+                        while (iter.hasNext()) {
+                            list.add(iter.next());
+                            this.pace();
+                        }
+                        return list;
+                    }
+                );
+            }
+            for (final List<T> list : Parallel.all(pool, reads)) {
+                items.addAll(list);
+            }
+        } finally {
+            pool.shutdown();
+        }
+        return items;
+    }
+
+    /**
+     * Results of ranges small enough to fit under the cap.
+     * @param pool Threads to probe with
+     * @return Results, in the order of ranges
+     * @throws IOException If there is any I/O problem
+     */
+    private List<Search.Results<T>> shards(final ExecutorService pool)
+        throws IOException {
+        List<Instant[]> level = Collections.singletonList(
+            new Instant[] {this.from, this.upto}
+        );
+        final List<Search.Results<T>> shards = new ArrayList<>(0);
+        while (!level.isEmpty()) {
+            final List<Search.Results<T>> probes =
+                new ArrayList<>(level.size());
+            final List<Callable<Integer>> totals =
+                new ArrayList<>(level.size());
+            for (final Instant[] range : level) {
+                final Search.Results<T> results = this.query.find(
+                    String.format("%s..%s", range[0], range[1])
+                );
+                probes.add(results);
+                totals.add(
+                    () -> {
+                        this.pace();
+                        return results.total();
+                    }
+                );
+            }
+            final List<Integer> found = Parallel.all(pool, totals);
+            final List<Instant[]> next = new ArrayList<>(0);
+            for (int idx = 0; idx < level.size(); ++idx) {
+                final Instant[] range = level.get(idx);
+                if (found.get(idx) <= ShardedSearch.CAP) {
+                    shards.add(probes.get(idx));
+                } else if (range[0].equals(range[1])) {
+                    Logger.warn(
+                        this, "%d items at %s, only %d will be read",
+                        found.get(idx), range[0], ShardedSearch.CAP
+                    );
+                    shards.add(probes.get(idx));
+                } else {
+                    final Instant mid = range[0].plusSeconds(
+                        ChronoUnit.SECONDS.between(range[0], range[1]) / 2L
+                    );
+                    next.add(new Instant[] {range[0], mid});
+                    next.add(new Instant[] {mid.plusSeconds(1L), range[1]});
+                }
+            }
+            level = next;
+        }
+        return shards;
+    }
+
+    /**
+     * Wait until the search bucket has more requests left than there
+     * are threads, or until it resets.
+     */
+    private void pace() {
+        while (true) {
+            final JsonObject snapshot = this.registry.get(Limits.SEARCH);
+            if (snapshot == null) {
+                break;
+            }
+            final long wait = TimeUnit.SECONDS.toMillis(
+                snapshot.getJsonNumber("reset").longValue()
+            ) - System.currentTimeMillis();
+            if (snapshot.getInt("remaining") > this.threads || wait <= 0L) {
+                break;
+            }
+            Logger.info(
+                this, "%d search requests left, waiting for %[ms]s",
+                snapshot.getInt("remaining"), wait
+            );
+            try {
+                TimeUnit.MILLISECONDS.sleep(wait);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(ex);
+            }
+        }
+    }
+
+    /**
+     * Search restricted to a range of dates.
+     * @param <X> Type of items
+     */
+    @Immutable
+    public interface Query<X> {
+        /**
+         * Search within the range.
+         * @param range Range of ISO instants, inclusive, like
+         *  {@code 2020-01-01T00:00:00Z..2020-01-31T23:59:59Z}
+         * @return Results
+         */
+        Search.Results<X> find(String range);
+    }
+}
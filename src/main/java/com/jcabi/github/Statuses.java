@@ -83,6 +83,23 @@ public interface Statuses extends JsonReadable {
         final String ref
     );
 
+    /**
+     * Combined status for a given ref, aggregated by Github.
+     *
+     * <p>One request returns the overall {@code state} of the ref
+     * (failure if any context failed, pending if any is pending or
+     * there are none, success otherwise), together with the latest
+     * status of each context.</p>
+     *
+     * @param ref It can be a SHA, a branch name, or a tag name.
+     * @return Combined status JSON
+     * @throws IOException If there is any I/O problem
+     * @see <a href="https://docs.github.com/en/rest/commits/statuses#get-the-combined-status-for-a-specific-reference">Get the combined status for a specific reference</a>
+     */
+    JsonObject combined(
+        final String ref
+    ) throws IOException;
+
     /**
      * Data to use when creating a new GitHub commit status.
      *
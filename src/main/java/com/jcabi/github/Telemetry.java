@@ -0,0 +1,204 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call counts and durations of hot paths, sampled.
+ *
+ * <p>Each constant is a probe placed around one hot path of the library,
+ * like fetching a JSON object or a page of a list. Probes are off by
+ * default and cost a single volatile read per call then. Once enabled,
+ * with {@link #sample(int)} or the {@code com.jcabi.github.telemetry}
+ * system property, every call is counted and one of every N calls
+ * is timed. Nothing is allocated, either way:
+ * <pre>
+ * {@code
+ * Telemetry.sample(100);
+ * // ... work with Github ...
+ * long calls = Telemetry.JSON_FETCH.calls();
+ * long mean = Telemetry.JSON_FETCH.nanos() / Telemetry.JSON_FETCH.sampled();
+ * }
+ * </pre>
+ *
+ * <p>These probes take the place of {@code @Loggable} on the hot paths,
+ * which formats arguments and measures time on every call, when woven,
+ * even if DEBUG logging is off. Classes without a probe, like
+ * {@link RtGithub} and {@code RtIssue}, keep {@code @Loggable}.</p>
+ *
+ * <p>Probes and the sampling rate are static, so they are global to the
+ * JVM (strictly, to the class loader) and can't be scoped to one
+ * {@link Github} instance: two clients in the same JVM add to the same
+ * counters. Use {@link com.jcabi.github.wire.MetricsWire} for numbers
+ * per client and per route.</p>
+ *
+ * @since 2.0
+ */
+public enum Telemetry {
+
+    /**
+     * Fetching a JSON object, in {@code RtJson}.
+     */
+    JSON_FETCH,
+
+    /**
+     * Patching a JSON object, in {@code RtJson}.
+     */
+    JSON_PATCH,
+
+    /**
+     * Fetching a page of a list, in {@link RtValuePagination}.
+     */
+    PAGE_FETCH,
+
+    /**
+     * Fetching a page of search results, in {@code RtSearchPagination}.
+     */
+    SEARCH_FETCH,
+
+    /**
+     * Reading the XML of a mock storage.
+     */
+    STORAGE_READ,
+
+    /**
+     * Applying directives to a mock storage.
+     */
+    STORAGE_APPLY;
+
+    /**
+     * Start of a call that is not counted.
+     */
+    private static final long OFF = Long.MIN_VALUE;
+
+    /**
+     * Start of a call that is counted, but not timed.
+     */
+    private static final long SKIP = Long.MIN_VALUE + 1L;
+
+    /**
+     * One of how many calls is timed, zero if probes are off.
+     */
+    private static volatile int rate = Integer.getInteger(
+        "com.jcabi.github.telemetry", 0
+    );
+
+    /**
+     * Number of calls.
+     */
+    private final transient LongAdder total = new LongAdder();
+
+    /**
+     * Number of timed calls.
+     */
+    private final transient LongAdder timed = new LongAdder();
+
+    /**
+     * Time of timed calls, in nanoseconds.
+     */
+    private final transient LongAdder time = new LongAdder();
+
+    /**
+     * Turn probes on, timing one of every N calls, or off.
+     * @param every N, one to time every call, zero to turn probes off
+     */
+    public static void sample(final int every) {
+        Telemetry.rate = every;
+    }
+
+    /**
+     * Reset all probes.
+     */
+    public static void reset() {
+        for (final Telemetry probe : Telemetry.values()) {
+            probe.total.reset();
+            probe.timed.reset();
+            probe.time.reset();
+        }
+    }
+
+    /**
+     * Start a call.
+     * @return Start, to pass to {@link #stop(long)}
+     */
+    public long start() {
+        final int every = Telemetry.rate;
+        final long start;
+        if (every <= 0) {
+            start = Telemetry.OFF;
+        } else if (every == 1
+            || ThreadLocalRandom.current().nextInt(every) == 0) {
+            start = System.nanoTime();
+        } else {
+            start = Telemetry.SKIP;
+        }
+        return start;
+    }
+
+    /**
+     * Stop a call.
+     * @param start What {@link #start()} returned
+     */
+    public void stop(final long start) {
+        if (start != Telemetry.OFF) {
+            this.total.increment();
+            if (start != Telemetry.SKIP) {
+                this.timed.increment();
+                this.time.add(System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * Number of calls.
+     * @return Total since start or reset
+     */
+    public long calls() {
+        return this.total.sum();
+    }
+
+    /**
+     * Number of timed calls.
+     * @return Total since start or reset
+     */
+    public long sampled() {
+        return this.timed.sum();
+    }
+
+    /**
+     * Time of timed calls.
+     * @return Nanoseconds since start or reset
+     */
+    public long nanos() {
+        return this.time.sum();
+    }
+}
@@ -0,0 +1,415 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.jcabi.aspects.Immutable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonValue;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * All entries of a Git tree, recursively, even when Github truncates them.
+ *
+ * <p>First, the tree is requested with {@link Trees#getRec(String)} and
+ * all its entries are returned. If Github marks the response as
+ * {@code truncated}, the rest of the tree is walked level by level:
+ * subtrees of a level are fetched in parallel with
+ * {@link Trees#get(String)}, and their entries are returned as soon as
+ * they arrive, with paths relative to the root, exactly like in
+ * a recursive response. Since Github lists a recursive tree in
+ * pre-order, every subtree that the truncated response leaves behind
+ * is complete and is not fetched again; only the subtrees on the path
+ * to its last entry, and those missing from it, are. If the response
+ * is not in pre-order, all subtrees are fetched, and entries already
+ * returned are skipped.</p>
+ *
+ * <p>Entries are buffered in a bounded queue, so the walk doesn't get
+ * ahead of the reader. If the reader stops before the end, it should
+ * close the iterator, which stops the walk:</p>
+ *
+ * <pre> try (TreeWalk.Entries entries = new TreeWalk(trees, sha).iterator()) {
+ *   while (entries.hasNext()) {
+ *     System.out.println(entries.next().getString("path"));
+ *   }
+ * }</pre>
+ *
+ * <p>A subtree that occurs more than once in the same level (identical
+ * directories at different paths) is fetched only once.</p>
+ *
+ * @since 2.0
+ * @see <a href="https://developer.github.com/v3/git/trees/#get-a-tree-recursively">Get a tree recursively</a>
+ */
+@Immutable
+@ToString
+@EqualsAndHashCode(of = { "trees", "sha", "threads" })
+public final class TreeWalk implements Iterable<JsonObject> {
+
+    /**
+     * Default number of parallel requests.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * Maximum number of entries waiting for the reader.
+     */
+    private static final int BUFFER = 1024;
+
+    /**
+     * Key of the path in an entry.
+     */
+    private static final String PATH = "path";
+
+    /**
+     * Type of subtree entries.
+     */
+    private static final String TREE = "tree";
+
+    /**
+     * Trees.
+     */
+    private final transient Trees trees;
+
+    /**
+     * SHA of the root tree.
+     */
+    private final transient String sha;
+
+    /**
+     * Maximum number of parallel requests.
+     */
+    private final transient int threads;
+
+    /**
+     * Public ctor.
+     * @param trees Trees of the repository
+     * @param root SHA of the root tree
+     */
+    public TreeWalk(final Trees trees, final String root) {
+        this(trees, root, TreeWalk.THREADS);
+    }
+
+    /**
+     * Public ctor.
+     * @param trees Trees of the repository
+     * @param root SHA of the root tree
+     * @param parallel Maximum number of parallel requests
+     */
+    public TreeWalk(final Trees trees, final String root,
+        final int parallel) {
+        this.trees = trees;
+        this.sha = root;
+        this.threads = parallel;
+    }
+
+    @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public TreeWalk.Entries iterator() {
+        final BlockingQueue<Object> queue =
+            new ArrayBlockingQueue<>(TreeWalk.BUFFER);
+        final ExecutorService pool = Executors.newFixedThreadPool(
+            this.threads + 1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("TreeWalk-%d")
+                .build()
+        );
+        pool.submit(
+            () -> {
+                try {
+                    this.walk(pool, queue);
+                    queue.put(TreeWalk.Entries.END);
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                // @checkstyle IllegalCatchCheck (1 line)
+                } catch (final Exception | AssertionError ex) {
+                    queue.put(ex);
+                } finally {
+                    pool.shutdown();
+                }
+                return null;
+            }
+        );
+        return new TreeWalk.Entries(queue, pool);
+    }
+
+    /**
+     * Walk the tree, putting entries into the queue.
+     * @param pool Pool for parallel requests
+     * @param queue Queue of entries
+     * @throws IOException If fails
+     * @throws ExecutionException If one of the requests fails
+     * @throws InterruptedException If interrupted
+     */
+    private void walk(final ExecutorService pool,
+        final BlockingQueue<Object> queue)
+        throws IOException, ExecutionException, InterruptedException {
+        final JsonObject rec = this.trees.getRec(this.sha).json();
+        final JsonArray entries = rec.getJsonArray(TreeWalk.TREE);
+        for (final JsonValue value : entries) {
+            queue.put(value);
+        }
+        if (rec.getBoolean("truncated", false)) {
+            final Set<String> seen = new HashSet<>(entries.size());
+            final Set<String> complete = TreeWalk.complete(entries, seen);
+            List<String[]> level = new LinkedList<>();
+            level.add(new String[] {"", this.sha});
+            while (!level.isEmpty()) {
+                level = this.expand(pool, queue, level, seen, complete);
+            }
+        }
+    }
+
+    /**
+     * Fetch one level of subtrees and put their entries into the queue.
+     * @param pool Pool for parallel requests
+     * @param queue Queue of entries
+     * @param level Prefixes and SHAs of the subtrees to fetch
+     * @param seen Paths already returned
+     * @param complete Paths of subtrees already returned in full
+     * @return Prefixes and SHAs of the next level
+     * @throws ExecutionException If one of the requests fails
+     * @throws InterruptedException If interrupted
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private List<String[]> expand(final ExecutorService pool,
+        final BlockingQueue<Object> queue, final Collection<String[]> level,
+        final Set<String> seen, final Set<String> complete)
+        throws ExecutionException, InterruptedException {
+        final Map<String, List<String>> prefixes = new LinkedHashMap<>(0);
+        for (final String[] tree : level) {
+            prefixes.computeIfAbsent(tree[1], key -> new ArrayList<>(1))
+                .add(tree[0]);
+        }
+        final Map<String, Future<JsonArray>> fetched =
+            new LinkedHashMap<>(prefixes.size());
+        for (final String key : prefixes.keySet()) {
+            fetched.put(
+                key,
+                pool.submit(
+                    () -> this.trees.get(key).json()
+                        .getJsonArray(TreeWalk.TREE)
+                )
+            );
+        }
+        final List<String[]> next = new LinkedList<>();
+        final Iterator<Map.Entry<String, Future<JsonArray>>> iter =
+            fetched.entrySet().iterator();
+        while (iter.hasNext()) {
+            final Map.Entry<String, Future<JsonArray>> tree = iter.next();
+            final JsonArray children = tree.getValue().get();
+            iter.remove();
+            for (final String prefix : prefixes.get(tree.getKey())) {
+                for (final JsonValue value : children) {
+                    final JsonObject entry = TreeWalk.prefixed(
+                        (JsonObject) value, prefix
+                    );
+                    final String path = entry.getString(TreeWalk.PATH);
+                    if (!seen.contains(path)) {
+                        queue.put(entry);
+                    }
+                    if (TreeWalk.TREE.equals(entry.getString("type"))
+                        && !complete.contains(path)) {
+                        next.add(
+                            new String[] {path + '/', entry.getString("sha")}
+                        );
+                    }
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Find subtrees that a truncated recursive response lists in full.
+     *
+     * <p>In pre-order, a subtree is complete as soon as an entry outside
+     * of it follows. The subtrees still open at the end of the response
+     * are on the path to its last entry and may be incomplete. If the
+     * response turns out not to be in pre-order, no subtree is
+     * considered complete.</p>
+     *
+     * @param entries Entries of the truncated response
+     * @param seen Set to add all paths of the response to
+     * @return Paths of complete subtrees
+     */
+    private static Set<String> complete(final JsonArray entries,
+        final Set<String> seen) {
+        final Set<String> complete = new HashSet<>(0);
+        final Deque<String> open = new LinkedList<>();
+        boolean ordered = true;
+        for (final JsonValue value : entries) {
+            final JsonObject entry = (JsonObject) value;
+            final String path = entry.getString(TreeWalk.PATH);
+            seen.add(path);
+            while (!open.isEmpty() && !path.startsWith(open.peek() + '/')) {
+                complete.add(open.pop());
+            }
+            final int slash = path.lastIndexOf('/');
+            String parent = "";
+            if (slash > 0) {
+                parent = path.substring(0, slash);
+            }
+            String top = "";
+            if (!open.isEmpty()) {
+                top = open.peek();
+            }
+            ordered &= parent.equals(top);
+            if (TreeWalk.TREE.equals(entry.getString("type"))) {
+                open.push(path);
+            }
+        }
+        if (!ordered) {
+            complete.clear();
+        }
+        return complete;
+    }
+
+    /**
+     * Entry with a prefix added to its path.
+     * @param entry Entry of a tree
+     * @param prefix Prefix of the path
+     * @return Entry with full path
+     */
+    private static JsonObject prefixed(final JsonObject entry,
+        final String prefix) {
+        final JsonObject result;
+        if (prefix.isEmpty()) {
+            result = entry;
+        } else {
+            final JsonObjectBuilder builder = Json.createObjectBuilder();
+            for (final Map.Entry<String, JsonValue> field
+                : entry.entrySet()) {
+                builder.add(field.getKey(), field.getValue());
+            }
+            result = builder.add(
+                TreeWalk.PATH,
+                prefix + entry.getString(TreeWalk.PATH)
+            ).build();
+        }
+        return result;
+    }
+
+    /**
+     * Iterator over entries of the walk, which stops the walk when
+     * closed.
+     * @since 2.0
+     */
+    public static final class Entries
+        implements Iterator<JsonObject>, AutoCloseable {
+        /**
+         * Marker of the end of the walk.
+         */
+        private static final Object END = new Object();
+        /**
+         * Queue.
+         */
+        private final transient BlockingQueue<Object> queue;
+        /**
+         * Pool of the walk.
+         */
+        private final transient ExecutorService pool;
+        /**
+         * Next element, NULL if not taken from the queue yet.
+         */
+        private transient Object head;
+        /**
+         * Ctor.
+         * @param entries Queue of entries
+         * @param threads Pool of the walk
+         */
+        Entries(final BlockingQueue<Object> entries,
+            final ExecutorService threads) {
+            this.queue = entries;
+            this.pool = threads;
+        }
+        @Override
+        public boolean hasNext() {
+            if (this.head == null) {
+                try {
+                    this.head = this.queue.take();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(ex);
+                }
+            }
+            if (this.head instanceof Throwable) {
+                throw new IllegalStateException((Throwable) this.head);
+            }
+            return this.head != TreeWalk.Entries.END;
+        }
+        @Override
+        public JsonObject next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException(
+                    "no more entries in the tree, use #hasNext()"
+                );
+            }
+            final JsonObject entry = (JsonObject) this.head;
+            this.head = null;
+            return entry;
+        }
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException("#remove()");
+        }
+        /**
+         * Stop the walk; no more entries are returned after that.
+         */
+        @Override
+        public void close() {
+            this.pool.shutdownNow();
+            this.queue.clear();
+            this.head = TreeWalk.Entries.END;
+        }
+    }
+}
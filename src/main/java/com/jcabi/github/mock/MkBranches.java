@@ -117,7 +117,14 @@ public final class MkBranches implements Branches {
 
     @Override
     public Branch find(final String name) {
-        throw new UnsupportedOperationException("find(name) not implemented");
+        Branch found = null;
+        for (final Branch branch : this.iterate()) {
+            if (branch.name().equals(name)) {
+                found = branch;
+                break;
+            }
+        }
+        return found;
     }
 
     /**
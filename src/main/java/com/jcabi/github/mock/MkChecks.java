@@ -61,6 +61,11 @@ public final class MkChecks implements Checks {
      */
     private final transient Pull pull;
 
+    /**
+     * XPath predicate selecting checks, empty if all.
+     */
+    private final transient String filter;
+
     /**
      * Ctor.
      * @param strg Storage
@@ -71,10 +76,28 @@ public final class MkChecks implements Checks {
         final MkStorage strg,
         final Coordinates coord,
         final Pull pll
+    ) {
+        this(strg, coord, pll, "");
+    }
+
+    /**
+     * Ctor.
+     * @param strg Storage
+     * @param coord Coordinates of repo
+     * @param pll Pull
+     * @param flt XPath predicate
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private MkChecks(
+        final MkStorage strg,
+        final Coordinates coord,
+        final Pull pll,
+        final String flt
     ) {
         this.storage = strg;
         this.coordinates = coord;
         this.pull = pll;
+        this.filter = flt;
     }
 
     @Override
@@ -82,7 +105,7 @@ public final class MkChecks implements Checks {
         return ImmutableList.copyOf(
             new MkIterable<>(
                 this.storage,
-                String.format("%s/check", this.xpath()),
+                String.format("%s/check%s", this.xpath(), this.filter),
                 item -> new MkCheck(
                     this.storage,
                     this.coordinates,
@@ -93,6 +116,24 @@ public final class MkChecks implements Checks {
         );
     }
 
+    @Override
+    public Checks withName(final String name) {
+        return new MkChecks(
+            this.storage, this.coordinates, this.pull,
+            String.format(
+                "%s[@name=%s]", this.filter, MkChecks.literal(name)
+            )
+        );
+    }
+
+    @Override
+    public Checks withStatus(final Check.Status status) {
+        return new MkChecks(
+            this.storage, this.coordinates, this.pull,
+            String.format("%s[@status='%s']", this.filter, status.value())
+        );
+    }
+
     /**
      * Create check.
      * @param status Status.
@@ -103,12 +144,29 @@ public final class MkChecks implements Checks {
     public Check create(
         final Check.Status status,
         final Check.Conclusion conclusion
+    ) throws IOException {
+        return this.create("check", status, conclusion);
+    }
+
+    /**
+     * Create named check.
+     * @param name Name.
+     * @param status Status.
+     * @param conclusion Conclusion.
+     * @return Check.
+     * @throws IOException If fails.
+     */
+    public Check create(
+        final String name,
+        final Check.Status status,
+        final Check.Conclusion conclusion
     ) throws IOException {
         final int identifier = new SecureRandom().nextInt();
         final Directives directives = new Directives()
             .xpath(this.xpath())
             .add("check")
             .attr("id", identifier)
+            .attr("name", name)
             .attr("status", status.value())
             .attr("conclusion", conclusion.value())
             .up();
@@ -121,6 +179,25 @@ public final class MkChecks implements Checks {
         );
     }
 
+    /**
+     * XPath string literal of the text, which may contain quotes.
+     * @param text Text
+     * @return Literal, like {@code 'text'} or {@code concat(...)}
+     */
+    private static String literal(final String text) {
+        final String lit;
+        if (text.indexOf('\'') < 0) {
+            lit = String.format("'%s'", text);
+        } else if (text.indexOf('"') < 0) {
+            lit = String.format("\"%s\"", text);
+        } else {
+            lit = String.format(
+                "concat('%s')", text.replace("'", "', \"'\", '")
+            );
+        }
+        return lit;
+    }
+
     /**
      * XPath of this element in XML tree.
      * @return XPath
@@ -112,6 +112,10 @@ public final class MkCommits implements Commits {
     public Statuses statuses(
         final String sha
     ) {
-        return new MkStatuses(this.get(sha));
+        try {
+            return new MkStatuses(this.storage, this.get(sha));
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
     }
 }
@@ -36,6 +36,8 @@ import com.jcabi.github.Coordinates;
 import com.jcabi.github.RepoCommit;
 import com.jcabi.github.RepoCommits;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
 import java.util.Map;
 import javax.json.JsonObject;
 import lombok.EqualsAndHashCode;
@@ -162,6 +164,22 @@ final class MkRepoCommits implements RepoCommits {
         );
     }
 
+    @Override
+    public Reader diffReader(
+        final String base,
+        final String head
+    ) {
+        return new StringReader(this.diff(base, head));
+    }
+
+    @Override
+    public Reader patchReader(
+        final String base,
+        final String head
+    ) {
+        return new StringReader(this.patch(base, head));
+    }
+
     @Override
     public JsonObject json() throws IOException {
         return new JsonNode(
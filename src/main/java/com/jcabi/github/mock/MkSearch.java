@@ -83,70 +83,79 @@ final class MkSearch implements Search {
     }
 
     @Override
-    public Iterable<Repo> repos(
+    public Search.Results<Repo> repos(
         final String keywords,
         final String sort,
         final Order order
     ) {
-        return new MkIterable<>(
-            this.storage,
-            "/github/repos/repo",
-            xml -> new MkRepo(
-                this.storage, this.self,
-                new Coordinates.Simple(xml.xpath("@coords").get(0))
+        return new Search.Results.Simple<>(
+            new MkIterable<>(
+                this.storage,
+                "/github/repos/repo",
+                xml -> new MkRepo(
+                    this.storage, this.self,
+                    new Coordinates.Simple(xml.xpath("@coords").get(0))
+                )
             )
         );
     }
 
     //@checkstyle ParameterNumberCheck (5 lines)
     @Override
-    public Iterable<Issue> issues(final String keywords, final String sort,
-        final Order order, final EnumMap<Qualifier, String> qualifiers
+    public Search.Results<Issue> issues(final String keywords,
+        final String sort, final Order order,
+        final EnumMap<Qualifier, String> qualifiers
     ) {
-        return new MkIterable<>(
-            this.storage,
-            "/github/repos/repo/issues/issue",
-            xml -> new MkIssue(
-                this.storage, this.self,
-                new Coordinates.Simple(
-                    xml.xpath("../../@coords").get(0)
-                ),
-                Integer.parseInt(xml.xpath("number/text()").get(0))
+        return new Search.Results.Simple<>(
+            new MkIterable<>(
+                this.storage,
+                "/github/repos/repo/issues/issue",
+                xml -> new MkIssue(
+                    this.storage, this.self,
+                    new Coordinates.Simple(
+                        xml.xpath("../../@coords").get(0)
+                    ),
+                    Integer.parseInt(xml.xpath("number/text()").get(0))
+                )
             )
         );
     }
 
     @Override
-    public Iterable<User> users(
+    public Search.Results<User> users(
         final String keywords,
         final String sort,
         final Order order
     ) {
-        return new MkIterable<>(
-            this.storage,
-            "/github/users/user",
-            xml -> new MkUser(
+        return new Search.Results.Simple<>(
+            new MkIterable<>(
                 this.storage,
-                xml.xpath("login/text()").get(0)
+                "/github/users/user",
+                xml -> new MkUser(
+                    this.storage,
+                    xml.xpath("login/text()").get(0)
+                )
             )
         );
     }
 
     @Override
-    public Iterable<Content> codes(
+    public Search.Results<Content> codes(
         final String keywords,
         final String sort,
         final Order order
     ) {
-        return new MkIterable<>(
-            this.storage,
-            "/github/repos/repo/name",
-            xml -> new MkContent(
+        return new Search.Results.Simple<>(
+            new MkIterable<>(
                 this.storage,
-                this.self,
-                new Coordinates.Simple(this.self, "repo"),
-                "/path/to/search",
-                "master"
+                "/github/repos/repo/name",
+                xml -> new MkContent(
+                    this.storage,
+                    this.self,
+                    new Coordinates.Simple(this.self, "repo"),
+                    "/path/to/search",
+                    "master"
+                )
             )
         );
     }
@@ -32,21 +32,41 @@ package com.jcabi.github.mock;
 import com.jcabi.aspects.Immutable;
 import com.jcabi.aspects.Loggable;
 import com.jcabi.github.Commit;
+import com.jcabi.github.Github;
+import com.jcabi.github.RtStatus;
 import com.jcabi.github.Status;
 import com.jcabi.github.Statuses;
+import com.jcabi.xml.XML;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
 import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
 import lombok.EqualsAndHashCode;
+import org.xembly.Directives;
 
 /**
  * Mock of GitHub commit statuses.
  * @since 0.24
- * @todo #1129:30min Finish implementing this class (MkStatuses), a mock of
- *  GitHub's commits statuses (the "Statuses" interface).
+ * @todo #1129:30min Implement json() of this class (MkStatuses), a mock of
+ *  GitHub's commits statuses (the "Statuses" interface); statuses can
+ *  already be created, listed and combined.
+ * @checkstyle MultipleStringLiteralsCheck (500 lines)
  */
 @Immutable
 @Loggable(Loggable.DEBUG)
-@EqualsAndHashCode(of = { "cmmt" })
+@EqualsAndHashCode(of = { "storage", "cmmt" })
 final class MkStatuses implements Statuses {
+    /**
+     * Storage.
+     */
+    private final transient MkStorage storage;
+
     /**
      * Commit whose statuses this represents.
      */
@@ -54,12 +74,24 @@ final class MkStatuses implements Statuses {
 
     /**
      * Ctor.
+     * @param stg Storage
      * @param cmt Commit whose statuses this represents
+     * @throws IOException If there is any I/O problem
      */
     MkStatuses(
+        final MkStorage stg,
         final Commit cmt
-    ) {
+    ) throws IOException {
+        this.storage = stg;
         this.cmmt = cmt;
+        this.storage.apply(
+            new Directives().xpath(
+                String.format(
+                    "/github/repos/repo[@coords='%s']",
+                    cmt.repo().coordinates()
+                )
+            ).addIf("statuses")
+        );
     }
 
     @Override
@@ -70,19 +102,170 @@ final class MkStatuses implements Statuses {
     @Override
     public Status create(
         final StatusCreate status
-    ) {
-        throw new UnsupportedOperationException("Not yet implemented");
+    ) throws IOException {
+        final JsonObject json = status.json();
+        this.storage.lock();
+        final int number;
+        try {
+            number = 1 + this.storage.xml().xpath(
+                String.format("%s/status/id/text()", this.xpath())
+            ).size();
+            final Directives dirs = new Directives().xpath(this.xpath())
+                .add("status")
+                .add("id").set(Integer.toString(number)).up()
+                .add("sha").set(this.cmmt.sha()).up()
+                .add("state").set(json.getString("state")).up()
+                .add("description")
+                .set(json.getString("description", "")).up()
+                .add("context").set(json.getString("context", "default")).up()
+                .add("created_at").set(new Github.Time().toString()).up()
+                .add("url")
+                .set(String.format("http://localhost/statuses/%d", number))
+                .up();
+            if (json.containsKey("target_url")) {
+                dirs.add("target_url").set(json.getString("target_url")).up();
+            }
+            this.storage.apply(dirs);
+        } finally {
+            this.storage.unlock();
+        }
+        return new RtStatus(this.cmmt, this.json(number));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Statuses are returned newest first, like GitHub does.
+     */
     @Override
     public Iterable<Status> list(
         final String ref
     ) {
-        throw new UnsupportedOperationException("Not implemented yet");
+        final Commit commit;
+        if (ref.equals(this.cmmt.sha())) {
+            commit = this.cmmt;
+        } else {
+            commit = this.cmmt.repo().git().commits().get(ref);
+        }
+        final List<Status> statuses = new ArrayList<>(0);
+        for (final JsonObject json : this.statuses(ref)) {
+            statuses.add(new RtStatus(commit, json));
+        }
+        return Collections.unmodifiableList(statuses);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only the latest status of every context counts. The state is
+     * "failure" when any of them is an error or a failure, "pending"
+     * when there are none or any of them is pending, and "success"
+     * otherwise.
+     */
+    @Override
+    public JsonObject combined(
+        final String ref
+    ) {
+        final Map<String, JsonObject> latest = new LinkedHashMap<>(0);
+        for (final JsonObject json : this.statuses(ref)) {
+            latest.putIfAbsent(json.getString("context"), json);
+        }
+        boolean failed = false;
+        boolean pending = latest.isEmpty();
+        final JsonArrayBuilder items = Json.createArrayBuilder();
+        for (final JsonObject json : latest.values()) {
+            final String current = json.getString("state");
+            failed |= "error".equals(current) || "failure".equals(current);
+            pending |= "pending".equals(current);
+            items.add(json);
+        }
+        final String state;
+        if (failed) {
+            state = "failure";
+        } else if (pending) {
+            state = "pending";
+        } else {
+            state = "success";
+        }
+        return Json.createObjectBuilder()
+            .add("state", state)
+            .add("sha", ref)
+            .add("total_count", latest.size())
+            .add("statuses", items)
+            .build();
     }
 
     @Override
     public JsonObject json() {
         throw new UnsupportedOperationException("Yet to be implemented");
     }
+
+    /**
+     * JSON of all statuses of a ref, newest first.
+     * @param ref Commit SHA
+     * @return Statuses
+     */
+    private List<JsonObject> statuses(final String ref) {
+        final List<XML> nodes;
+        try {
+            nodes = this.storage.xml().nodes(
+                String.format("%s/status[sha='%s']", this.xpath(), ref)
+            );
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+        final List<JsonObject> list = new ArrayList<>(nodes.size());
+        for (final XML node : nodes) {
+            list.add(MkStatuses.json(node));
+        }
+        Collections.reverse(list);
+        return list;
+    }
+
+    /**
+     * JSON of one status.
+     * @param number Status id
+     * @return JSON
+     * @throws IOException If there is any I/O problem
+     */
+    private JsonObject json(final int number) throws IOException {
+        return MkStatuses.json(
+            this.storage.xml().nodes(
+                String.format("%s/status[id='%d']", this.xpath(), number)
+            ).get(0)
+        );
+    }
+
+    /**
+     * JSON of one status node.
+     * @param node XML node
+     * @return JSON
+     */
+    private static JsonObject json(final XML node) {
+        final JsonObjectBuilder json = Json.createObjectBuilder()
+            .add("id", Integer.parseInt(node.xpath("id/text()").get(0)));
+        for (final String name : new String[] {
+            "state", "description", "context", "created_at", "url",
+            "target_url",
+        }) {
+            final List<String> text = node.xpath(
+                String.format("%s/text()", name)
+            );
+            if (!text.isEmpty()) {
+                json.add(name, text.get(0));
+            }
+        }
+        return json.build();
+    }
+
+    /**
+     * XPath of the statuses in storage.
+     * @return XPath
+     */
+    private String xpath() {
+        return String.format(
+            "/github/repos/repo[@coords='%s']/statuses",
+            this.cmmt.repo().coordinates()
+        );
+    }
 }
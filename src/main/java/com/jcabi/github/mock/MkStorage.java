@@ -30,7 +30,7 @@
 package com.jcabi.github.mock;
 
 import com.jcabi.aspects.Immutable;
-import com.jcabi.aspects.Loggable;
+import com.jcabi.github.Telemetry;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import java.io.File;
@@ -99,7 +99,6 @@ public interface MkStorage {
      */
     @Immutable
     @EqualsAndHashCode(of = "name")
-    @Loggable(Loggable.DEBUG)
     final class InFile implements MkStorage {
         /**
          * File name.
@@ -134,26 +133,36 @@ public interface MkStorage {
         }
         @Override
         public XML xml() throws IOException {
-            synchronized (this.name) {
-                return new XMLDocument(
-                    FileUtils.readFileToString(
-                        new File(this.name), StandardCharsets.UTF_8
-                    )
-                );
+            final long start = Telemetry.STORAGE_READ.start();
+            try {
+                synchronized (this.name) {
+                    return new XMLDocument(
+                        FileUtils.readFileToString(
+                            new File(this.name), StandardCharsets.UTF_8
+                        )
+                    );
+                }
+            } finally {
+                Telemetry.STORAGE_READ.stop(start);
             }
         }
         @Override
         public void apply(
             final Iterable<Directive> dirs
         ) throws IOException {
-            synchronized (this.name) {
-                FileUtils.write(
-                    new File(this.name),
-                    new XMLDocument(
-                        new Xembler(dirs).applyQuietly(this.xml().node())
-                    ).toString(),
-                    StandardCharsets.UTF_8
-                );
+            final long start = Telemetry.STORAGE_APPLY.start();
+            try {
+                synchronized (this.name) {
+                    FileUtils.write(
+                        new File(this.name),
+                        new XMLDocument(
+                            new Xembler(dirs).applyQuietly(this.xml().node())
+                        ).toString(),
+                        StandardCharsets.UTF_8
+                    );
+                }
+            } finally {
+                Telemetry.STORAGE_APPLY.stop(start);
             }
         }
         @Override
@@ -171,7 +180,6 @@ public interface MkStorage {
      */
     @Immutable
     @EqualsAndHashCode(of = { "origin", "lock" })
-    @Loggable(Loggable.DEBUG)
     final class Synced implements MkStorage {
         /**
          * Original storage.
@@ -0,0 +1,267 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.github.Comment;
+import com.jcabi.github.Content;
+import com.jcabi.github.Issue;
+import com.jcabi.github.Reaction;
+import com.jcabi.github.Repo;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Collections;
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Fallback objects, returned by safe classes when Github fails.
+ *
+ * <p>All of them are built once and never change, so returning one
+ * costs nothing, even when every call fails during an outage.</p>
+ *
+ * @since 2.0
+ */
+final class Fallback {
+
+    /**
+     * Fallback JSON of an issue.
+     */
+    static final JsonObject ISSUE = Fallback.common()
+        .add("number", 0)
+        .add("title", "")
+        .add("body", "")
+        .add("state", Issue.OPEN_STATE)
+        .add("locked", false)
+        .add("comments", 0)
+        .add("labels", Json.createArrayBuilder())
+        .build();
+
+    /**
+     * Fallback JSON of a comment.
+     */
+    static final JsonObject COMMENT = Fallback.common()
+        .add("id", 0)
+        .add("body", "")
+        .build();
+
+    /**
+     * Fallback JSON of a pull request.
+     */
+    static final JsonObject PULL = Fallback.common()
+        .add("number", 0)
+        .add("title", "")
+        .add("body", "")
+        .add("state", Issue.OPEN_STATE)
+        .add("merged", false)
+        .add("comments", 0)
+        .add("head", Fallback.ref())
+        .add("base", Fallback.ref())
+        .build();
+
+    /**
+     * Fallback JSON of a repository.
+     */
+    static final JsonObject REPO = Json.createObjectBuilder()
+        .add("name", "")
+        .add("full_name", "")
+        .add("description", "")
+        .add("private", false)
+        .add("fork", false)
+        .add("default_branch", "master")
+        .add("owner", Fallback.user())
+        .add("url", "")
+        .add("html_url", "")
+        .build();
+
+    /**
+     * Fallback JSON of a content.
+     */
+    static final JsonObject CONTENT = Json.createObjectBuilder()
+        .add("type", "file")
+        .add("encoding", "base64")
+        .add("size", 0)
+        .add("name", "")
+        .add("path", "")
+        .add("content", "")
+        .add("sha", "")
+        .add("url", "")
+        .add("html_url", "")
+        .build();
+
+    /**
+     * Utility class.
+     */
+    private Fallback() {
+        // intentionally empty
+    }
+
+    /**
+     * Properties common to issues, comments and pull requests.
+     * @return Builder
+     */
+    private static JsonObjectBuilder common() {
+        return Json.createObjectBuilder()
+            .add("user", Fallback.user())
+            .add("created_at", "1970-01-01T00:00:00Z")
+            .add("updated_at", "1970-01-01T00:00:00Z")
+            .add("url", "")
+            .add("html_url", "");
+    }
+
+    /**
+     * Fallback user.
+     * @return Builder
+     */
+    private static JsonObjectBuilder user() {
+        return Json.createObjectBuilder().add("login", "");
+    }
+
+    /**
+     * Fallback reference of a pull request.
+     * @return Builder
+     */
+    private static JsonObjectBuilder ref() {
+        return Json.createObjectBuilder()
+            .add("label", "")
+            .add("ref", "")
+            .add("sha", "")
+            .add("user", Fallback.user());
+    }
+
+    /**
+     * Comment that was never posted.
+     *
+     * @since 2.0
+     */
+    @Immutable
+    @ToString(of = "owner")
+    @EqualsAndHashCode(of = "owner")
+    static final class BlankComment implements Comment {
+        /**
+         * Issue of it.
+         */
+        private final transient Issue owner;
+        /**
+         * Ctor.
+         * @param issue Issue of it
+         */
+        BlankComment(final Issue issue) {
+            this.owner = issue;
+        }
+        @Override
+        public Issue issue() {
+            return this.owner;
+        }
+        @Override
+        public long number() {
+            return 0L;
+        }
+        @Override
+        public void remove() {
+            // nothing to remove
+        }
+        @Override
+        public void react(final Reaction reaction) {
+            // nothing to react to
+        }
+        @Override
+        public Iterable<Reaction> reactions() {
+            return Collections.emptyList();
+        }
+        @Override
+        public int compareTo(final Comment comment) {
+            return Long.compare(this.number(), comment.number());
+        }
+        @Override
+        public void patch(final JsonObject json) {
+            // nothing to patch
+        }
+        @Override
+        public JsonObject json() {
+            return Fallback.COMMENT;
+        }
+    }
+
+    /**
+     * Content that could not be fetched.
+     *
+     * @since 2.0
+     */
+    @Immutable
+    @ToString(of = { "owner", "name" })
+    @EqualsAndHashCode(of = { "owner", "name" })
+    static final class BlankContent implements Content {
+        /**
+         * Repository of it.
+         */
+        private final transient Repo owner;
+        /**
+         * Path of it.
+         */
+        private final transient String name;
+        /**
+         * Ctor.
+         * @param repo Repository of it
+         * @param path Path of it
+         */
+        BlankContent(final Repo repo, final String path) {
+            this.owner = repo;
+            this.name = path;
+        }
+        @Override
+        public Repo repo() {
+            return this.owner;
+        }
+        @Override
+        public String path() {
+            return this.name;
+        }
+        @Override
+        public InputStream raw() {
+            return new ByteArrayInputStream(new byte[0]);
+        }
+        @Override
+        public int compareTo(final Content content) {
+            return this.name.compareTo(content.path());
+        }
+        @Override
+        public void patch(final JsonObject json) {
+            // nothing to patch
+        }
+        @Override
+        public JsonObject json() {
+            return Fallback.CONTENT;
+        }
+    }
+}
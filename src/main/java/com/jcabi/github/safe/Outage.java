@@ -0,0 +1,200 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import com.jcabi.github.wire.Circuits;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.ToString;
+
+/**
+ * Outage of Github, detected by failed calls.
+ *
+ * <p>This is a single circuit of {@link Circuits}, so there is one
+ * circuit breaker implementation for both wires and safe classes. Once
+ * the given number of calls fail, with none succeeding within one
+ * cooldown, the outage is considered open and the safe classes sharing
+ * this object stop calling Github at all, returning their fallbacks
+ * right away, until the cooldown passes. After that, only one call goes
+ * to Github, while all concurrent ones still get their fallbacks: if it
+ * succeeds, the outage is over, if it fails, the outage is open for
+ * another cooldown. A call fails if it throws {@link AssertionError},
+ * which is how an unexpected HTTP status is reported, or
+ * {@link IOException}.</p>
+ *
+ * <pre>
+ * {@code
+ * Outage outage = new Outage(5, TimeUnit.SECONDS.toMillis(30L));
+ * Issue issue = new SfIssue(repo.issues().get(1), outage);
+ * }
+ * </pre>
+ *
+ * <p>To watch the outage along with the circuits of a
+ * {@link com.jcabi.github.wire.CircuitWire}, give it the same
+ * {@link Circuits} and a key of its own.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = { "circuits", "key" })
+public final class Outage {
+
+    /**
+     * Outage that never opens, so every call goes to Github.
+     */
+    public static final Outage NEVER = new Outage(Integer.MAX_VALUE, 0L);
+
+    /**
+     * Default circuit.
+     */
+    private static final String GITHUB = "github";
+
+    /**
+     * Circuits.
+     */
+    private final transient Circuits circuits;
+
+    /**
+     * Circuit of this outage.
+     */
+    private final transient String key;
+
+    /**
+     * Ctor, opening after five failures for thirty seconds.
+     */
+    public Outage() {
+        // @checkstyle MagicNumber (1 line)
+        this(5, TimeUnit.SECONDS.toMillis(30L));
+    }
+
+    /**
+     * Ctor.
+     * @param failed Number of failures, with no success in between, that
+     *  open it
+     * @param msec How long it stays open, in milliseconds
+     */
+    public Outage(final int failed, final long msec) {
+        this(new Circuits("", 1.0d, failed, msec, msec, 1), Outage.GITHUB);
+    }
+
+    /**
+     * Ctor.
+     * @param crcts Circuits to keep the state in
+     * @param name Circuit of this outage
+     */
+    public Outage(final Circuits crcts, final String name) {
+        this.circuits = crcts;
+        this.key = name;
+    }
+
+    /**
+     * Is it open now?
+     *
+     * <p>It stays open after the cooldown, until the next call
+     * probes Github.</p>
+     * @return TRUE if calls to Github are skipped
+     */
+    public boolean open() {
+        return this.circuits.snapshot().get(this.key) == Circuits.State.OPEN;
+    }
+
+    /**
+     * Call Github, unless it is open.
+     * @param what What is being done, for the log
+     * @param action Call to Github
+     * @param fallback What to return if the call fails or is skipped
+     * @param <T> Type of result
+     * @return Result of the call or the fallback
+     * @throws IOException If the call fails due to I/O problem
+     */
+    public <T> T call(final String what, final Outage.Action<T> action,
+        final T fallback) throws IOException {
+        T result = fallback;
+        final Circuits.State admitted = this.circuits.admit(this.key);
+        if (admitted == Circuits.State.OPEN) {
+            Logger.debug(this, "Github is out, skipped to %s", what);
+        } else {
+            boolean failed = true;
+            try {
+                result = action.exec();
+                failed = false;
+            } catch (final AssertionError ex) {
+                Logger.warn(this, "failed to %s: %[exception]s", what, ex);
+            } finally {
+                this.circuits.report(this.key, admitted, failed);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Call Github, unless it is open, ignoring failures.
+     * @param what What is being done, for the log
+     * @param step Call to Github
+     * @throws IOException If the call fails due to I/O problem
+     */
+    public void run(final String what, final Outage.Step step)
+        throws IOException {
+        this.call(
+            what,
+            () -> {
+                step.exec();
+                return Boolean.TRUE;
+            },
+            Boolean.FALSE
+        );
+    }
+
+    /**
+     * Call to Github with a result.
+     * @param <T> Type of result
+     * @since 2.0
+     */
+    public interface Action<T> {
+        /**
+         * Execute it.
+         * @return Result
+         * @throws IOException If fails
+         */
+        T exec() throws IOException;
+    }
+
+    /**
+     * Call to Github without a result.
+     * @since 2.0
+     */
+    public interface Step {
+        /**
+         * Execute it.
+         * @throws IOException If fails
+         */
+        void exec() throws IOException;
+    }
+}
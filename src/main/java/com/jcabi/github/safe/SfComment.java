@@ -34,8 +34,6 @@ import com.jcabi.aspects.Loggable;
 import com.jcabi.github.Comment;
 import com.jcabi.github.Issue;
 import com.jcabi.github.Reaction;
-import com.jcabi.github.mock.MkGithub;
-import com.jcabi.log.Logger;
 import java.io.IOException;
 import javax.json.JsonObject;
 import lombok.EqualsAndHashCode;
@@ -55,12 +53,27 @@ public final class SfComment implements Comment {
      */
     private final transient Comment origin;
 
+    /**
+     * Outage to respect.
+     */
+    private final transient Outage outage;
+
     /**
      * Public ctor.
      * @param cmt The original comment
      */
     public SfComment(final Comment cmt) {
+        this(cmt, Outage.NEVER);
+    }
+
+    /**
+     * Public ctor.
+     * @param cmt The original comment
+     * @param out Outage to respect
+     */
+    public SfComment(final Comment cmt, final Outage out) {
         this.origin = cmt;
+        this.outage = out;
     }
 
     @Override
@@ -80,11 +93,7 @@ public final class SfComment implements Comment {
 
     @Override
     public void remove() throws IOException {
-        try {
-            this.origin.remove();
-        } catch (final AssertionError ex) {
-            Logger.warn(this, "Failed to remove comment: %[exception]s", ex);
-        }
+        this.outage.run("remove comment", this.origin::remove);
     }
 
     @Override
@@ -104,27 +113,13 @@ public final class SfComment implements Comment {
 
     @Override
     public void patch(final JsonObject json) throws IOException {
-        try {
-            this.origin.patch(json);
-        } catch (final AssertionError ex) {
-            Logger.warn(this, "Failed to path comment: %[exception]s", ex);
-        }
+        this.outage.run("patch comment", () -> this.origin.patch(json));
     }
 
     @Override
     public JsonObject json() throws IOException {
-        JsonObject json;
-        try {
-            json = this.origin.json();
-        } catch (final AssertionError ex) {
-            final String author = new Issue.Smart(
-                new SfIssue(this.origin.issue())
-            ).author().login();
-            json = new MkGithub(author).randomRepo()
-                .issues().create("", "")
-                .comments().post("deleted comment").json();
-            Logger.warn(this, "failed to fetch comment: %[exception]s", ex);
-        }
-        return json;
+        return this.outage.call(
+            "fetch comment", this.origin::json, Fallback.COMMENT
+        );
     }
 }
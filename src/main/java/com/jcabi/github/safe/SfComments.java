@@ -35,8 +35,6 @@ import com.jcabi.aspects.Loggable;
 import com.jcabi.github.Comment;
 import com.jcabi.github.Comments;
 import com.jcabi.github.Issue;
-import com.jcabi.github.mock.MkGithub;
-import com.jcabi.log.Logger;
 import java.io.IOException;
 import java.util.Date;
 import lombok.EqualsAndHashCode;
@@ -56,12 +54,27 @@ public final class SfComments implements Comments {
      */
     private final transient Comments origin;
 
+    /**
+     * Outage to respect.
+     */
+    private final transient Outage outage;
+
     /**
      * Public ctor.
      * @param cmt The original comment
      */
     public SfComments(final Comments cmt) {
+        this(cmt, Outage.NEVER);
+    }
+
+    /**
+     * Public ctor.
+     * @param cmt The original comment
+     * @param out Outage to respect
+     */
+    public SfComments(final Comments cmt, final Outage out) {
         this.origin = cmt;
+        this.outage = out;
     }
 
     @Override
@@ -76,28 +89,23 @@ public final class SfComments implements Comments {
 
     @Override
     public Comment get(final long number) {
-        return new SfComment(this.origin.get(number));
+        return new SfComment(this.origin.get(number), this.outage);
     }
 
     @Override
     public Iterable<Comment> iterate(final Date since) {
         return Iterables.transform(
             this.origin.iterate(since),
-            input -> new SfComment(input)
+            input -> new SfComment(input, this.outage)
         );
     }
 
     @Override
     public Comment post(final String text) throws IOException {
-        Comment cmt;
-        try {
-            cmt = this.origin.post(text);
-        } catch (final AssertionError ex) {
-            Logger.warn(this, "Failed to post to GitHub: %[exception]s", ex);
-            cmt = new MkGithub().randomRepo()
-                .issues().create("", "")
-                .comments().post(text);
-        }
-        return cmt;
+        return this.outage.call(
+            "post comment",
+            () -> this.origin.post(text),
+            new Fallback.BlankComment(this.origin.issue())
+        );
     }
 }
@@ -0,0 +1,119 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.github.Content;
+import com.jcabi.github.Repo;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import javax.json.JsonObject;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Safe content.
+ *
+ * @since 2.0
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = "origin")
+public final class SfContent implements Content {
+
+    /**
+     * Original content.
+     */
+    private final transient Content origin;
+
+    /**
+     * Outage to respect.
+     */
+    private final transient Outage outage;
+
+    /**
+     * Public ctor.
+     * @param content The original content
+     */
+    public SfContent(final Content content) {
+        this(content, Outage.NEVER);
+    }
+
+    /**
+     * Public ctor.
+     * @param content The original content
+     * @param out Outage to respect
+     */
+    public SfContent(final Content content, final Outage out) {
+        this.origin = content;
+        this.outage = out;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public JsonObject json() throws IOException {
+        return this.outage.call(
+            "fetch content", this.origin::json, Fallback.CONTENT
+        );
+    }
+
+    @Override
+    public void patch(final JsonObject json) throws IOException {
+        this.outage.run("patch content", () -> this.origin.patch(json));
+    }
+
+    @Override
+    public Repo repo() {
+        return this.origin.repo();
+    }
+
+    @Override
+    public String path() {
+        return this.origin.path();
+    }
+
+    @Override
+    public InputStream raw() throws IOException {
+        return this.outage.call(
+            "fetch raw content", this.origin::raw,
+            new ByteArrayInputStream(new byte[0])
+        );
+    }
+
+    @Override
+    public int compareTo(final Content content) {
+        return this.origin.compareTo(content);
+    }
+}
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import com.google.common.collect.Iterables;
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.github.Content;
+import com.jcabi.github.Contents;
+import com.jcabi.github.Repo;
+import com.jcabi.github.RepoCommit;
+import java.io.IOException;
+import javax.json.JsonObject;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Safe contents.
+ *
+ * @since 2.0
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = "origin")
+public final class SfContents implements Contents {
+
+    /**
+     * Original contents.
+     */
+    private final transient Contents origin;
+
+    /**
+     * Outage to respect.
+     */
+    private final transient Outage outage;
+
+    /**
+     * Public ctor.
+     * @param contents The original contents
+     */
+    public SfContents(final Contents contents) {
+        this(contents, Outage.NEVER);
+    }
+
+    /**
+     * Public ctor.
+     * @param contents The original contents
+     * @param out Outage to respect
+     */
+    public SfContents(final Contents contents, final Outage out) {
+        this.origin = contents;
+        this.outage = out;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public Repo repo() {
+        return this.origin.repo();
+    }
+
+    @Override
+    public Content readme() throws IOException {
+        return this.outage.call(
+            "fetch readme",
+            () -> this.safe(this.origin.readme()),
+            new Fallback.BlankContent(this.origin.repo(), "")
+        );
+    }
+
+    @Override
+    public Content readme(final String branch) throws IOException {
+        return this.outage.call(
+            "fetch readme",
+            () -> this.safe(this.origin.readme(branch)),
+            new Fallback.BlankContent(this.origin.repo(), "")
+        );
+    }
+
+    @Override
+    public Content create(final JsonObject content) throws IOException {
+        return this.origin.create(content);
+    }
+
+    @Override
+    public Content get(final String path, final String ref)
+        throws IOException {
+        return this.outage.call(
+            "fetch content",
+            () -> this.safe(this.origin.get(path, ref)),
+            new Fallback.BlankContent(this.origin.repo(), path)
+        );
+    }
+
+    @Override
+    public Content get(final String path) throws IOException {
+        return this.outage.call(
+            "fetch content",
+            () -> this.safe(this.origin.get(path)),
+            new Fallback.BlankContent(this.origin.repo(), path)
+        );
+    }
+
+    @Override
+    public Iterable<Content> iterate(final String path, final String ref)
+        throws IOException {
+        return Iterables.transform(
+            this.origin.iterate(path, ref),
+            input -> new SfContent(input, this.outage)
+        );
+    }
+
+    @Override
+    public RepoCommit remove(final JsonObject content) throws IOException {
+        return this.origin.remove(content);
+    }
+
+    @Override
+    public RepoCommit update(final String path, final JsonObject json)
+        throws IOException {
+        return this.origin.update(path, json);
+    }
+
+    @Override
+    public boolean exists(final String path, final String ref)
+        throws IOException {
+        return this.outage.call(
+            "check content",
+            () -> this.origin.exists(path, ref),
+            Boolean.FALSE
+        );
+    }
+
+    /**
+     * Make it safe.
+     * @param content Original content, NULL if it is a directory
+     * @return Safe content or NULL
+     */
+    private Content safe(final Content content) {
+        Content safe = null;
+        if (content != null) {
+            safe = new SfContent(content, this.outage);
+        }
+        return safe;
+    }
+}
@@ -37,8 +37,6 @@ import com.jcabi.github.Issue;
 import com.jcabi.github.IssueLabels;
 import com.jcabi.github.Reaction;
 import com.jcabi.github.Repo;
-import com.jcabi.github.mock.MkGithub;
-import com.jcabi.log.Logger;
 import java.io.IOException;
 import javax.json.JsonObject;
 import lombok.EqualsAndHashCode;
@@ -59,12 +57,27 @@ public final class SfIssue implements Issue {
      */
     private final transient Issue origin;
 
+    /**
+     * Outage to respect.
+     */
+    private final transient Outage outage;
+
     /**
      * Public ctor.
      * @param issue The original issue
      */
     public SfIssue(final Issue issue) {
+        this(issue, Outage.NEVER);
+    }
+
+    /**
+     * Public ctor.
+     * @param issue The original issue
+     * @param out Outage to respect
+     */
+    public SfIssue(final Issue issue, final Outage out) {
         this.origin = issue;
+        this.outage = out;
     }
 
     @Override
@@ -74,24 +87,14 @@ public final class SfIssue implements Issue {
 
     @Override
     public JsonObject json() throws IOException {
-        JsonObject json;
-        try {
-            json = this.origin.json();
-        } catch (final AssertionError ex) {
-            json = new MkGithub().randomRepo()
-                .issues().create("", "").json();
-            Logger.warn(this, "failed to fetch issue: %[exception]s", ex);
-        }
-        return json;
+        return this.outage.call(
+            "fetch issue", this.origin::json, Fallback.ISSUE
+        );
     }
 
     @Override
     public void patch(final JsonObject json) throws IOException {
-        try {
-            this.origin.patch(json);
-        } catch (final AssertionError ex) {
-            Logger.warn(this, "failed to patch issue: %[exception]s", ex);
-        }
+        this.outage.run("patch issue", () -> this.origin.patch(json));
     }
 
     @Override
@@ -106,7 +109,7 @@ public final class SfIssue implements Issue {
 
     @Override
     public Comments comments() {
-        return new SfComments(this.origin.comments());
+        return new SfComments(this.origin.comments(), this.outage);
     }
 
     @Override
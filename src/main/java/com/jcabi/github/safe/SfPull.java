@@ -0,0 +1,161 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.github.Checks;
+import com.jcabi.github.Commit;
+import com.jcabi.github.MergeState;
+import com.jcabi.github.Pull;
+import com.jcabi.github.PullComments;
+import com.jcabi.github.PullRef;
+import com.jcabi.github.Repo;
+import java.io.IOException;
+import java.util.Collections;
+import javax.json.JsonObject;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Safe pull request.
+ *
+ * @since 2.0
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = "origin")
+@SuppressWarnings("PMD.TooManyMethods")
+public final class SfPull implements Pull {
+
+    /**
+     * Original pull request.
+     */
+    private final transient Pull origin;
+
+    /**
+     * Outage to respect.
+     */
+    private final transient Outage outage;
+
+    /**
+     * Public ctor.
+     * @param pull The original pull request
+     */
+    public SfPull(final Pull pull) {
+        this(pull, Outage.NEVER);
+    }
+
+    /**
+     * Public ctor.
+     * @param pull The original pull request
+     * @param out Outage to respect
+     */
+    public SfPull(final Pull pull, final Outage out) {
+        this.origin = pull;
+        this.outage = out;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public JsonObject json() throws IOException {
+        return this.outage.call(
+            "fetch pull request", this.origin::json, Fallback.PULL
+        );
+    }
+
+    @Override
+    public void patch(final JsonObject json) throws IOException {
+        this.outage.run("patch pull request", () -> this.origin.patch(json));
+    }
+
+    @Override
+    public Repo repo() {
+        return this.origin.repo();
+    }
+
+    @Override
+    public int number() {
+        return this.origin.number();
+    }
+
+    @Override
+    public PullRef base() throws IOException {
+        return this.origin.base();
+    }
+
+    @Override
+    public PullRef head() throws IOException {
+        return this.origin.head();
+    }
+
+    @Override
+    public Iterable<Commit> commits() throws IOException {
+        return this.outage.call(
+            "list commits", this.origin::commits, Collections.emptyList()
+        );
+    }
+
+    @Override
+    public Iterable<JsonObject> files() throws IOException {
+        return this.outage.call(
+            "list files", this.origin::files, Collections.emptyList()
+        );
+    }
+
+    @Override
+    public void merge(final String msg) throws IOException {
+        this.origin.merge(msg);
+    }
+
+    @Override
+    public MergeState merge(final String msg, final String sha)
+        throws IOException {
+        return this.origin.merge(msg, sha);
+    }
+
+    @Override
+    public PullComments comments() throws IOException {
+        return this.origin.comments();
+    }
+
+    @Override
+    public Checks checks() throws IOException {
+        return this.origin.checks();
+    }
+
+    @Override
+    public int compareTo(final Pull pull) {
+        return this.origin.compareTo(pull);
+    }
+}
@@ -0,0 +1,235 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.aspects.Loggable;
+import com.jcabi.github.Assignees;
+import com.jcabi.github.Branch;
+import com.jcabi.github.Branches;
+import com.jcabi.github.Collaborators;
+import com.jcabi.github.Contents;
+import com.jcabi.github.Coordinates;
+import com.jcabi.github.DeployKeys;
+import com.jcabi.github.Forks;
+import com.jcabi.github.Git;
+import com.jcabi.github.Github;
+import com.jcabi.github.Hooks;
+import com.jcabi.github.IssueEvents;
+import com.jcabi.github.Issues;
+import com.jcabi.github.Labels;
+import com.jcabi.github.Language;
+import com.jcabi.github.Milestones;
+import com.jcabi.github.Notifications;
+import com.jcabi.github.Pulls;
+import com.jcabi.github.Releases;
+import com.jcabi.github.Repo;
+import com.jcabi.github.RepoCommits;
+import com.jcabi.github.Stargazers;
+import com.jcabi.github.Stars;
+import java.io.IOException;
+import java.util.Collections;
+import javax.json.JsonObject;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Safe repository.
+ *
+ * @since 2.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+@Immutable
+@Loggable(Loggable.DEBUG)
+@EqualsAndHashCode(of = "origin")
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.ExcessiveImports"})
+public final class SfRepo implements Repo {
+
+    /**
+     * Original repository.
+     */
+    private final transient Repo origin;
+
+    /**
+     * Outage to respect.
+     */
+    private final transient Outage outage;
+
+    /**
+     * Public ctor.
+     * @param repo The original repository
+     */
+    public SfRepo(final Repo repo) {
+        this(repo, Outage.NEVER);
+    }
+
+    /**
+     * Public ctor.
+     * @param repo The original repository
+     * @param out Outage to respect
+     */
+    public SfRepo(final Repo repo, final Outage out) {
+        this.origin = repo;
+        this.outage = out;
+    }
+
+    @Override
+    public String toString() {
+        return this.origin.toString();
+    }
+
+    @Override
+    public JsonObject json() throws IOException {
+        return this.outage.call(
+            "fetch repository", this.origin::json, Fallback.REPO
+        );
+    }
+
+    @Override
+    public void patch(final JsonObject json) throws IOException {
+        this.outage.run("patch repository", () -> this.origin.patch(json));
+    }
+
+    @Override
+    public Github github() {
+        return this.origin.github();
+    }
+
+    @Override
+    public Coordinates coordinates() {
+        return this.origin.coordinates();
+    }
+
+    @Override
+    public Issues issues() {
+        return this.origin.issues();
+    }
+
+    @Override
+    public Milestones milestones() {
+        return this.origin.milestones();
+    }
+
+    @Override
+    public Pulls pulls() {
+        return this.origin.pulls();
+    }
+
+    @Override
+    public Hooks hooks() {
+        return this.origin.hooks();
+    }
+
+    @Override
+    public IssueEvents issueEvents() {
+        return this.origin.issueEvents();
+    }
+
+    @Override
+    public Labels labels() {
+        return this.origin.labels();
+    }
+
+    @Override
+    public Assignees assignees() {
+        return this.origin.assignees();
+    }
+
+    @Override
+    public Releases releases() {
+        return this.origin.releases();
+    }
+
+    @Override
+    public DeployKeys keys() {
+        return this.origin.keys();
+    }
+
+    @Override
+    public Forks forks() {
+        return this.origin.forks();
+    }
+
+    @Override
+    public RepoCommits commits() {
+        return this.origin.commits();
+    }
+
+    @Override
+    public Branches branches() {
+        return this.origin.branches();
+    }
+
+    @Override
+    public Contents contents() {
+        return new SfContents(this.origin.contents(), this.outage);
+    }
+
+    @Override
+    public Collaborators collaborators() {
+        return this.origin.collaborators();
+    }
+
+    @Override
+    public Git git() {
+        return this.origin.git();
+    }
+
+    @Override
+    public Stars stars() {
+        return this.origin.stars();
+    }
+
+    @Override
+    public Notifications notifications() {
+        return this.origin.notifications();
+    }
+
+    @Override
+    public Iterable<Language> languages() throws IOException {
+        return this.outage.call(
+            "list languages", this.origin::languages, Collections.emptyList()
+        );
+    }
+
+    @Override
+    public Branch defaultBranch() throws IOException {
+        return this.origin.defaultBranch();
+    }
+
+    @Override
+    public Stargazers stargazers() {
+        return this.origin.stargazers();
+    }
+
+    @Override
+    public int compareTo(final Repo repo) {
+        return this.origin.compareTo(repo);
+    }
+}
@@ -36,6 +36,12 @@
  * in GitHub. They will silently return some fake data or simply
  * won't do anything.</p>
  *
+ * <p>Fallback data is built once and shared, so failures cost nothing
+ * but a log line. To stop calling GitHub at all once it is down, pass
+ * the same {@link com.jcabi.github.safe.Outage} to all safe objects,
+ * which will then return their fallbacks right away until GitHub
+ * is back.</p>
+ *
  * @since 0.34
  */
 package com.jcabi.github.safe;
@@ -0,0 +1,292 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.google.common.hash.Hashing;
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * File of recorded HTTP exchanges, shared by {@link RecordingWire}
+ * and {@link ReplayWire}.
+ *
+ * <p>The file starts with a magic number and is followed by exchanges,
+ * appended one by one as they happen, each one as: the key (method,
+ * URI and SHA-256 of the request body), the status, the reason, the
+ * latency in nanoseconds, the headers and the body of the response.</p>
+ *
+ * @since 2.0
+ */
+final class Cassette {
+
+    /**
+     * Magic number at the start of the file.
+     */
+    private static final int MAGIC = 0x4a474331;
+
+    /**
+     * Path of the file.
+     */
+    private final transient String path;
+
+    /**
+     * Ctor.
+     * @param file Path of the file
+     */
+    Cassette(final String file) {
+        this.path = file;
+    }
+
+    /**
+     * Append an exchange to the file.
+     * @param exchange Exchange
+     * @throws IOException If fails
+     */
+    void append(final Cassette.Exchange exchange) throws IOException {
+        final Path file = Paths.get(this.path);
+        synchronized (Cassette.class) {
+            final boolean fresh = !Files.exists(file)
+                || Files.size(file) == 0L;
+            if (fresh && file.getParent() != null) {
+                Files.createDirectories(file.getParent());
+            }
+            try (DataOutputStream output = new DataOutputStream(
+                new BufferedOutputStream(
+                    Files.newOutputStream(
+                        file, StandardOpenOption.CREATE,
+                        StandardOpenOption.APPEND
+                    )
+                )
+            )) {
+                if (fresh) {
+                    output.writeInt(Cassette.MAGIC);
+                }
+                exchange.write(output);
+            }
+        }
+    }
+
+    /**
+     * Read all exchanges from the file.
+     * @return Exchanges, in the order they were recorded
+     * @throws IOException If fails
+     */
+    List<Cassette.Exchange> exchanges() throws IOException {
+        final List<Cassette.Exchange> all = new LinkedList<>();
+        try (DataInputStream input = new DataInputStream(
+            new BufferedInputStream(Files.newInputStream(Paths.get(this.path)))
+        )) {
+            if (input.readInt() != Cassette.MAGIC) {
+                throw new IOException(
+                    String.format("%s is not a cassette", this.path)
+                );
+            }
+            while (true) {
+                try {
+                    all.add(new Cassette.Exchange(input));
+                } catch (final EOFException ex) {
+                    break;
+                }
+            }
+        }
+        return all;
+    }
+
+    /**
+     * Make a key of a request.
+     * @param method HTTP method
+     * @param home URI
+     * @param body Body
+     * @return Key
+     */
+    static String key(final String method, final String home,
+        final byte[] body) {
+        String hash = "";
+        if (body.length > 0) {
+            hash = Hashing.sha256().hashBytes(body).toString();
+        }
+        return String.join(" ", method, home, hash);
+    }
+
+    /**
+     * Read the whole body of a request.
+     * @param content Body
+     * @return Bytes
+     * @throws IOException If fails
+     */
+    static byte[] body(final InputStream content) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        while (true) {
+            final int len = content.read(buffer);
+            if (len < 0) {
+                break;
+            }
+            output.write(buffer, 0, len);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * Recorded exchange.
+     * @since 2.0
+     */
+    static final class Exchange {
+        /**
+         * Key of the request.
+         */
+        private final transient String key;
+        /**
+         * HTTP status.
+         */
+        private final transient int status;
+        /**
+         * HTTP reason.
+         */
+        private final transient String reason;
+        /**
+         * Latency, in nanoseconds.
+         */
+        private final transient long nanos;
+        /**
+         * Headers.
+         */
+        private final transient List<Map.Entry<String, String>> headers;
+        /**
+         * Body.
+         */
+        private final transient byte[] body;
+        /**
+         * Ctor.
+         * @param req Key of the request
+         * @param response Response to record
+         * @param latency Latency, in nanoseconds
+         */
+        Exchange(final String req, final Response response,
+            final long latency) {
+            this.key = req;
+            this.status = response.status();
+            this.reason = response.reason();
+            this.nanos = latency;
+            this.headers = new ArrayList<>(response.headers().size());
+            for (final Map.Entry<String, List<String>> entry
+                : response.headers().entrySet()) {
+                for (final String value : entry.getValue()) {
+                    this.headers.add(
+                        new ImmutableHeader(entry.getKey(), value)
+                    );
+                }
+            }
+            this.body = response.binary();
+        }
+        /**
+         * Ctor.
+         * @param input Input to read the exchange from
+         * @throws IOException If fails
+         */
+        Exchange(final DataInputStream input) throws IOException {
+            this.key = input.readUTF();
+            this.status = input.readInt();
+            this.reason = input.readUTF();
+            this.nanos = input.readLong();
+            final int total = input.readInt();
+            this.headers = new ArrayList<>(total);
+            for (int idx = 0; idx < total; ++idx) {
+                this.headers.add(
+                    new ImmutableHeader(input.readUTF(), input.readUTF())
+                );
+            }
+            this.body = new byte[input.readInt()];
+            input.readFully(this.body);
+        }
+        /**
+         * Key of the request.
+         * @return Key
+         */
+        String key() {
+            return this.key;
+        }
+        /**
+         * Latency.
+         * @return Nanoseconds
+         */
+        long nanos() {
+            return this.nanos;
+        }
+        /**
+         * Write it.
+         * @param output Output to write to
+         * @throws IOException If fails
+         */
+        void write(final DataOutputStream output) throws IOException {
+            output.writeUTF(this.key);
+            output.writeInt(this.status);
+            output.writeUTF(this.reason);
+            output.writeLong(this.nanos);
+            output.writeInt(this.headers.size());
+            for (final Map.Entry<String, String> header : this.headers) {
+                output.writeUTF(header.getKey());
+                output.writeUTF(header.getValue());
+            }
+            output.writeInt(this.body.length);
+            output.write(this.body);
+        }
+        /**
+         * Make a response.
+         * @param req Request to return to
+         * @return Response
+         */
+        Response response(final Request req) {
+            return new DefaultResponse(
+                req, this.status, this.reason,
+                new Array<>(this.headers), this.body
+            );
+        }
+    }
+}
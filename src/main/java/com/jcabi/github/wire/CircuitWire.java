@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that stops sending requests to failing routes.
+ *
+ * <p>When Github degrades, requests to a failing endpoint keep waiting
+ * for their full connect and read timeouts, tying up threads and
+ * spending the rate limit. This wire keeps a circuit breaker for every
+ * host and path template in the given {@link Circuits}, and while
+ * a circuit is open, it fails requests right away with
+ * {@link IOException}, without sending them:
+ * <pre>
+ * {@code
+ * Circuits circuits = new Circuits("github");
+ * Github github = new RtGithub(
+ *     new RtGithub(oauth).entry().through(CircuitWire.class, circuits)
+ * );
+ * }
+ * </pre>
+ *
+ * <p>The same {@link Circuits} should be shared by all requests, since
+ * they keep the state. This is the only circuit breaker of the library:
+ * {@link com.jcabi.github.safe.Outage} keeps its state in
+ * {@link Circuits} too.</p>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = { "origin", "circuits" })
+public final class CircuitWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Circuits.
+     */
+    private final transient Circuits circuits;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param crcts Circuits to keep the state in
+     */
+    public CircuitWire(final Wire wire, final Circuits crcts) {
+        this.origin = wire;
+        this.circuits = crcts;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final URI uri = URI.create(home);
+        final String key = String.join(
+            " ", uri.getRawAuthority(), MetricsWire.template(uri.getRawPath())
+        );
+        final Circuits.State admitted = this.circuits.admit(key);
+        if (admitted == Circuits.State.OPEN) {
+            throw new IOException(
+                String.format(
+                    "Circuit %s is open, %s %s is not sent",
+                    key, method, home
+                )
+            );
+        }
+        boolean failed = true;
+        try {
+            final Response resp = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+            failed = resp.status() >= HttpURLConnection.HTTP_INTERNAL_ERROR;
+            return resp;
+        } finally {
+            this.circuits.report(key, admitted, failed);
+        }
+    }
+}
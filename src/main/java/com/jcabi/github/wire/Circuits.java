@@ -0,0 +1,426 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import javax.management.MXBean;
+import lombok.ToString;
+
+/**
+ * Circuit breakers of Github requests, by host and route.
+ *
+ * <p>A circuit is kept for every host and path template, like
+ * {@code api.github.com /repos/{owner}/{repo}/issues/{n}}, as made by
+ * {@link CircuitWire}. A circuit is closed until the share of failed
+ * requests in a window reaches the given rate, provided there were
+ * enough requests in the window to judge. Then it opens and rejects
+ * all requests until the cooldown is over. After that it becomes
+ * half-open and lets only a few probing requests through at a time:
+ * if that many probes succeed in a row, the circuit closes, and if any
+ * of them fails, it opens again for another cooldown.</p>
+ *
+ * <p>A request fails if it throws {@link java.io.IOException} or gets
+ * a 5xx status. Besides wires, {@link com.jcabi.github.safe.Outage}
+ * keeps its state here too, calling {@link #admit(String)} and
+ * {@link #report(String, Circuits.State, boolean)} around its calls.</p>
+ *
+ * <p>States are available through {@link #snapshot()} and, if this
+ * object is created with a name, through JMX, as MXBeans named
+ * {@code com.jcabi.github:type=Circuit,registry=NAME,circuit="KEY"},
+ * until {@link #close()} removes them.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = { "all", "rate", "volume", "window", "cooldown", "probes" })
+public final class Circuits implements Closeable {
+
+    /**
+     * Share of failed requests that opens a circuit.
+     */
+    private final transient double rate;
+
+    /**
+     * Minimum number of requests in a window to judge the rate.
+     */
+    private final transient int volume;
+
+    /**
+     * Length of the window, in nanoseconds.
+     */
+    private final transient long window;
+
+    /**
+     * How long a circuit stays open, in nanoseconds.
+     */
+    private final transient long cooldown;
+
+    /**
+     * Number of probes let through at a time while half-open, and
+     * number of successful ones that close the circuit.
+     */
+    private final transient int probes;
+
+    /**
+     * Circuits.
+     */
+    private final transient MBeans<Circuits.Circuit> all;
+
+    /**
+     * Ctor, opening a circuit when half of at least 20 requests in
+     * 10 seconds fail, for 30 seconds, with 3 probes, and without JMX.
+     */
+    public Circuits() {
+        this("");
+    }
+
+    /**
+     * Ctor, with default thresholds.
+     * @param nme Name of the registry in JMX, empty to not publish
+     */
+    public Circuits(final String nme) {
+        // @checkstyle MagicNumber (1 line)
+        this(nme, 0.5d, 20, 10_000L, 30_000L, 3);
+    }
+
+    /**
+     * Ctor.
+     * @param nme Name of the registry in JMX, empty to not publish
+     * @param share Share of failed requests that opens a circuit
+     * @param min Minimum number of requests in a window to judge
+     * @param msec Length of the window, in milliseconds
+     * @param pause How long a circuit stays open, in milliseconds
+     * @param probe Number of probes while half-open
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    public Circuits(final String nme, final double share, final int min,
+        final long msec, final long pause, final int probe) {
+        if (share <= 0.0d || share > 1.0d) {
+            throw new IllegalArgumentException(
+                String.format("Rate must be in (0, 1]: %f", share)
+            );
+        }
+        if (min < 1 || probe < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Volume and probes must be positive: %d, %d",
+                    min, probe
+                )
+            );
+        }
+        this.rate = share;
+        this.volume = min;
+        this.window = TimeUnit.MILLISECONDS.toNanos(msec);
+        this.cooldown = TimeUnit.MILLISECONDS.toNanos(pause);
+        this.probes = probe;
+        this.all = new MBeans<>(
+            "Circuit", nme, Circuits.Bean.class,
+            key -> new Circuits.Circuit(this, key)
+        );
+    }
+
+    /**
+     * Snapshot of all circuits.
+     * @return States by circuit
+     */
+    public Map<String, Circuits.State> snapshot() {
+        final Map<String, Circuits.State> states = new TreeMap<>();
+        for (final Circuits.Circuit circuit : this.all.values()) {
+            states.put(circuit.getCircuit(), circuit.state());
+        }
+        return Collections.unmodifiableMap(states);
+    }
+
+    /**
+     * Ask the circuit to let a request through.
+     *
+     * <p>Every call that is let through must be followed by
+     * {@link #report(String, Circuits.State, boolean)}.</p>
+     * @param key Circuit
+     * @return State the request was let through in, or
+     *  {@link Circuits.State#OPEN} if it's rejected
+     */
+    public Circuits.State admit(final String key) {
+        return this.all.get(key).admit();
+    }
+
+    /**
+     * Report the outcome of a request that was let through.
+     * @param key Circuit
+     * @param admitted State the request was let through in
+     * @param failed TRUE if it failed
+     */
+    public void report(final String key, final Circuits.State admitted,
+        final boolean failed) {
+        this.all.get(key).report(admitted, failed);
+    }
+
+    /**
+     * Remove all circuits from JMX.
+     *
+     * <p>Circuits keep working after it, and their states are still
+     * in {@link #snapshot()}.</p>
+     */
+    @Override
+    public void close() {
+        this.all.close();
+    }
+
+    /**
+     * State of a circuit.
+     * @since 2.0
+     */
+    public enum State {
+        /**
+         * All requests go through.
+         */
+        CLOSED,
+        /**
+         * All requests are rejected.
+         */
+        OPEN,
+        /**
+         * Only a few probing requests go through.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * Circuit in JMX.
+     * @since 2.0
+     */
+    @MXBean
+    public interface Bean {
+        /**
+         * Circuit.
+         * @return Host and path template
+         */
+        String getCircuit();
+        /**
+         * State.
+         * @return Name of the state
+         */
+        String getState();
+        /**
+         * Number of requests in the current window.
+         * @return Total
+         */
+        long getRequests();
+        /**
+         * Number of failed requests in the current window.
+         * @return Total
+         */
+        long getErrors();
+        /**
+         * Number of requests rejected since the start.
+         * @return Total
+         */
+        long getRejected();
+        /**
+         * How many times the circuit opened since the start.
+         * @return Total
+         */
+        long getOpenings();
+    }
+
+    /**
+     * Live state of a circuit.
+     * @since 2.0
+     */
+    private static final class Circuit implements Circuits.Bean {
+        /**
+         * Registry with thresholds.
+         */
+        private final transient Circuits home;
+        /**
+         * Circuit.
+         */
+        private final transient String key;
+        /**
+         * State.
+         */
+        private transient Circuits.State current;
+        /**
+         * When the current window started, or the circuit opened.
+         */
+        private transient long since;
+        /**
+         * Number of requests in the window.
+         */
+        private transient long requests;
+        /**
+         * Number of failed requests in the window.
+         */
+        private transient long errors;
+        /**
+         * Number of probes in flight.
+         */
+        private transient int flying;
+        /**
+         * Number of successful probes in a row.
+         */
+        private transient int passed;
+        /**
+         * Number of rejected requests.
+         */
+        private transient long rejected;
+        /**
+         * Number of openings.
+         */
+        private transient long openings;
+        /**
+         * Ctor.
+         * @param circuits Registry
+         * @param circuit Circuit
+         */
+        Circuit(final Circuits circuits, final String circuit) {
+            this.home = circuits;
+            this.key = circuit;
+            this.current = Circuits.State.CLOSED;
+            this.since = System.nanoTime();
+        }
+        /**
+         * Let a request through.
+         * @return State it's let through in, or OPEN if rejected
+         */
+        synchronized Circuits.State admit() {
+            final long now = System.nanoTime();
+            if (this.current == Circuits.State.OPEN
+                && now - this.since >= this.home.cooldown) {
+                this.current = Circuits.State.HALF_OPEN;
+                this.flying = 0;
+                this.passed = 0;
+            }
+            if (this.current == Circuits.State.CLOSED
+                && now - this.since >= this.home.window) {
+                this.restart(now);
+            }
+            final Circuits.State admitted;
+            if (this.current == Circuits.State.HALF_OPEN
+                && this.flying < this.home.probes) {
+                ++this.flying;
+                admitted = Circuits.State.HALF_OPEN;
+            } else if (this.current == Circuits.State.CLOSED) {
+                admitted = Circuits.State.CLOSED;
+            } else {
+                ++this.rejected;
+                admitted = Circuits.State.OPEN;
+            }
+            return admitted;
+        }
+        /**
+         * Report the outcome of a request.
+         * @param admitted State it was let through in
+         * @param failed TRUE if it failed
+         */
+        synchronized void report(final Circuits.State admitted,
+            final boolean failed) {
+            if (admitted == this.current
+                && admitted == Circuits.State.CLOSED) {
+                ++this.requests;
+                if (failed) {
+                    ++this.errors;
+                }
+                if (this.requests >= this.home.volume
+                    && this.errors >= this.home.rate * this.requests) {
+                    this.open();
+                }
+            } else if (admitted == this.current
+                && admitted == Circuits.State.HALF_OPEN) {
+                --this.flying;
+                if (failed) {
+                    this.open();
+                } else {
+                    ++this.passed;
+                    if (this.passed >= this.home.probes) {
+                        this.current = Circuits.State.CLOSED;
+                        this.restart(System.nanoTime());
+                    }
+                }
+            }
+        }
+        /**
+         * Current state.
+         * @return State
+         */
+        synchronized Circuits.State state() {
+            return this.current;
+        }
+        @Override
+        public String getCircuit() {
+            return this.key;
+        }
+        @Override
+        public String getState() {
+            return this.state().name();
+        }
+        @Override
+        public synchronized long getRequests() {
+            return this.requests;
+        }
+        @Override
+        public synchronized long getErrors() {
+            return this.errors;
+        }
+        @Override
+        public synchronized long getRejected() {
+            return this.rejected;
+        }
+        @Override
+        public synchronized long getOpenings() {
+            return this.openings;
+        }
+        /**
+         * Open the circuit.
+         */
+        private void open() {
+            this.current = Circuits.State.OPEN;
+            this.since = System.nanoTime();
+            ++this.openings;
+            Logger.warn(
+                this, "Circuit %s is open, rejecting requests for %[nano]s",
+                this.key, this.home.cooldown
+            );
+        }
+        /**
+         * Start a new window.
+         * @param now Current time, in nanoseconds
+         */
+        private void restart(final long now) {
+            this.since = now;
+            this.requests = 0L;
+            this.errors = 0L;
+        }
+    }
+}
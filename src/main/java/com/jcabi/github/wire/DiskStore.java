@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.google.common.hash.Hashing;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Directory of cached bytes, which survives restarts of the JVM.
+ *
+ * <p>Every entry is kept in {@code dir/xx/hash}, where {@code hash} is
+ * the SHA-256 of its key and {@code xx} its first two characters, so
+ * no directory grows too large. An entry is written into a temporary
+ * file first and then atomically moved in place, so readers, including
+ * other processes sharing the directory, never see a half-written one.
+ * An empty path means there is no directory: nothing is saved and
+ * nothing is found.</p>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = "dir")
+public final class DiskStore {
+
+    /**
+     * Directory, empty if there is none.
+     */
+    private final transient String dir;
+
+    /**
+     * Public ctor.
+     * @param path Directory, empty for none
+     */
+    public DiskStore(final String path) {
+        this.dir = path;
+    }
+
+    /**
+     * Bytes saved under the key.
+     * @param key Key
+     * @return Bytes or NULL if absent
+     * @throws IOException If fails
+     */
+    public byte[] load(final String key) throws IOException {
+        byte[] data = null;
+        if (!this.dir.isEmpty()) {
+            final Path file = this.file(key);
+            if (Files.exists(file)) {
+                data = Files.readAllBytes(file);
+            }
+        }
+        return data;
+    }
+
+    /**
+     * Save bytes under the key, replacing what was there.
+     * @param key Key
+     * @param data Bytes
+     * @throws IOException If fails
+     */
+    public void save(final String key, final byte[] data) throws IOException {
+        if (!this.dir.isEmpty()) {
+            final Path file = this.file(key);
+            Files.createDirectories(file.getParent());
+            final Path temp = Files.createTempFile(
+                file.getParent(), file.getFileName().toString(), ".tmp"
+            );
+            try {
+                Files.write(temp, data);
+                Files.move(
+                    temp, file, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE
+                );
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    /**
+     * File of the key.
+     * @param key Key
+     * @return File
+     */
+    private Path file(final String key) {
+        final String hash = Hashing.sha256()
+            .hashString(key, StandardCharsets.UTF_8).toString();
+        return Paths.get(this.dir, hash.substring(0, 2), hash);
+    }
+}
@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+import lombok.ToString;
+
+/**
+ * Bounded map of MXBeans, published in JMX when first made.
+ *
+ * <p>Values are made on first use of their keys. Once there are
+ * {@link #MAX} of them, all new keys share the value of
+ * {@link #OTHER}, so memory stays bounded however many keys there
+ * are. If the map has a name, every value is registered in the
+ * platform MBean server, under a name made of the type, the name and
+ * the key, like
+ * {@code com.jcabi.github:type=Route,registry=NAME,route="KEY"}, and
+ * stays there until {@link #close()} removes it.</p>
+ *
+ * @param <V> Type of values
+ * @since 2.0
+ */
+@ToString(of = { "type", "name" })
+final class MBeans<V> implements Closeable {
+
+    /**
+     * Maximum number of values.
+     */
+    static final int MAX = 1000;
+
+    /**
+     * Key of the value for all keys beyond the maximum.
+     */
+    static final String OTHER = "other";
+
+    /**
+     * Type in JMX, like {@code Route}.
+     */
+    private final transient String type;
+
+    /**
+     * Name in JMX, empty if not published there.
+     */
+    private final transient String name;
+
+    /**
+     * MXBean interface of values.
+     */
+    private final transient Class<? super V> face;
+
+    /**
+     * Maker of a value by its key.
+     */
+    private final transient Function<String, V> maker;
+
+    /**
+     * Values.
+     */
+    private final transient ConcurrentMap<String, V> all;
+
+    /**
+     * Ctor.
+     * @param tpe Type in JMX, like {@code Route}
+     * @param nme Name of the registry in JMX, empty to not publish
+     * @param iface MXBean interface of values
+     * @param make Maker of a value by its key
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    MBeans(final String tpe, final String nme, final Class<? super V> iface,
+        final Function<String, V> make) {
+        this.type = tpe;
+        this.name = nme;
+        this.face = iface;
+        this.maker = make;
+        this.all = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Find or make the value.
+     * @param key Key
+     * @return Value
+     */
+    V get(final String key) {
+        V value = this.all.get(key);
+        if (value == null) {
+            String actual = key;
+            if (this.all.size() >= MBeans.MAX) {
+                actual = MBeans.OTHER;
+            }
+            final V fresh = this.maker.apply(actual);
+            value = this.all.putIfAbsent(actual, fresh);
+            if (value == null) {
+                value = fresh;
+                this.publish(actual, fresh);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * All values made so far.
+     * @return Values
+     */
+    Collection<V> values() {
+        return this.all.values();
+    }
+
+    /**
+     * Remove all values from JMX.
+     *
+     * <p>Values stay in memory and keep working, but only keys seen for
+     * the first time afterwards are published.</p>
+     */
+    @Override
+    public void close() {
+        if (!this.name.isEmpty()) {
+            final MBeanServer server =
+                ManagementFactory.getPlatformMBeanServer();
+            for (final String key : this.all.keySet()) {
+                try {
+                    final ObjectName bean = this.bean(key);
+                    if (server.isRegistered(bean)) {
+                        server.unregisterMBean(bean);
+                    }
+                } catch (final JMException ex) {
+                    Logger.warn(
+                        this, "Can't remove %s %s from JMX: %[exception]s",
+                        this.type, key, ex
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Publish the value in JMX, if this map has a name.
+     * @param key Key
+     * @param value Value
+     */
+    private void publish(final String key, final V value) {
+        if (!this.name.isEmpty()) {
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(
+                    new StandardMBean(value, this.face, true),
+                    this.bean(key)
+                );
+            } catch (final JMException ex) {
+                Logger.warn(
+                    this, "Can't publish %s %s in JMX: %[exception]s",
+                    this.type, key, ex
+                );
+            }
+        }
+    }
+
+    /**
+     * Name of the value in JMX.
+     * @param key Key
+     * @return Name
+     * @throws MalformedObjectNameException If the name is not valid
+     */
+    private ObjectName bean(final String key)
+        throws MalformedObjectNameException {
+        return new ObjectName(
+            String.format(
+                "com.jcabi.github:type=%s,registry=%s,%s=%s",
+                this.type,
+                ObjectName.quote(this.name),
+                this.type.toLowerCase(Locale.ENGLISH),
+                ObjectName.quote(key)
+            )
+        );
+    }
+}
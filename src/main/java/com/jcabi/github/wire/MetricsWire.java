@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.io.CountingInputStream;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import javax.ws.rs.core.HttpHeaders;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that records metrics of every request, by route.
+ *
+ * <p>Paths are turned into templates, so that
+ * {@code GET /repos/jcabi/jcabi-github/issues/42} and
+ * {@code GET /repos/yegor256/rultor/issues/1} make the same route,
+ * {@code GET /repos/{owner}/{repo}/issues/{n}}:
+ * <pre>
+ * {@code
+ * RouteMetrics metrics = new RouteMetrics("github");
+ * Github github = new RtGithub(
+ *     new RtGithub(oauth).entry().through(MetricsWire.class, metrics)
+ * );
+ * }
+ * </pre>
+ *
+ * <p>A request costs one point of the rate limit if its response carries
+ * rate limit headers and is not {@code 304 Not Modified}, since Github
+ * doesn't count conditional requests that hit.</p>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = { "origin", "metrics" })
+public final class MetricsWire implements Wire {
+
+    /**
+     * Numbers.
+     */
+    private static final Pattern NUMBER = Pattern.compile("[0-9]+");
+
+    /**
+     * Full SHAs.
+     */
+    private static final Pattern SHA = Pattern.compile("[0-9a-f]{40}");
+
+    /**
+     * Placeholders of segments that follow the given ones.
+     */
+    private static final Map<String, String> NAMED =
+        new ImmutableMap.Builder<String, String>()
+            .put("users", "{user}")
+            .put("orgs", "{org}")
+            .put("branches", "{branch}")
+            .put("labels", "{name}")
+            .put("collaborators", "{user}")
+            .put("assignees", "{user}")
+            .put("commits", "{ref}")
+            .put("tags", "{tag}")
+            .put("compare", "{range}")
+            .put("gists", "{id}")
+            .build();
+
+    /**
+     * Segments after which the rest of the path is a single placeholder.
+     */
+    private static final Map<String, String> TAILS =
+        new ImmutableMap.Builder<String, String>()
+            .put("contents", "{path}")
+            .put("refs", "{ref}")
+            .put("matching-refs", "{ref}")
+            .build();
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Metrics to record to.
+     */
+    private final transient RouteMetrics metrics;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param mtrcs Metrics to record to
+     */
+    public MetricsWire(final Wire wire, final RouteMetrics mtrcs) {
+        this.origin = wire;
+        this.metrics = mtrcs;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final String route = String.join(
+            " ", method, MetricsWire.template(URI.create(home).getRawPath())
+        );
+        final CountingInputStream input = new CountingInputStream(content);
+        final long start = System.nanoTime();
+        final Response resp;
+        try {
+            resp = this.origin
+                .send(req, home, method, headers, input, connect, read);
+        } catch (final IOException ex) {
+            this.metrics.record(
+                route, 0, System.nanoTime() - start, input.getCount(), 0L
+            );
+            throw ex;
+        }
+        long cost = 0L;
+        if (resp.status() != HttpURLConnection.HTTP_NOT_MODIFIED
+            && MetricsWire.header(resp, "X-RateLimit-Remaining") != null) {
+            cost = 1L;
+        }
+        this.metrics.record(
+            route, resp.status(), System.nanoTime() - start,
+            input.getCount() + MetricsWire.length(resp), cost
+        );
+        return resp;
+    }
+
+    /**
+     * Make a template of the path.
+     * @param path Path of the request
+     * @return Template, like {@code /repos/{owner}/{repo}/issues/{n}}
+     */
+    static String template(final String path) {
+        final StringBuilder template = new StringBuilder(path.length());
+        if (!path.isEmpty()) {
+            final String[] parts = path.split("/");
+            final boolean repos = parts.length > 1 && "repos".equals(parts[1]);
+            String prev = "";
+            for (int idx = 1; idx < parts.length; ++idx) {
+                final String part = parts[idx];
+                template.append('/');
+                if (MetricsWire.TAILS.containsKey(prev)) {
+                    template.append(MetricsWire.TAILS.get(prev));
+                    break;
+                }
+                if (repos && idx == 2) {
+                    template.append("{owner}");
+                } else if (repos && idx == 2 + 1) {
+                    template.append("{repo}");
+                } else if (MetricsWire.NUMBER.matcher(part).matches()) {
+                    template.append("{n}");
+                } else if (MetricsWire.SHA.matcher(part).matches()) {
+                    template.append("{sha}");
+                } else if (MetricsWire.NAMED.containsKey(prev)) {
+                    template.append(MetricsWire.NAMED.get(prev));
+                } else {
+                    template.append(part);
+                }
+                prev = part;
+            }
+        }
+        if (template.length() == 0) {
+            template.append('/');
+        }
+        return template.toString();
+    }
+
+    /**
+     * Length of the response body.
+     * @param resp Response
+     * @return Bytes
+     */
+    private static long length(final Response resp) {
+        final String header = MetricsWire.header(
+            resp, HttpHeaders.CONTENT_LENGTH
+        );
+        final long length;
+        if (header == null) {
+            length = resp.binary().length;
+        } else {
+            length = Long.parseLong(header);
+        }
+        return length;
+    }
+
+    /**
+     * First value of the header.
+     * @param resp Response
+     * @param name Name of the header
+     * @return Value or NULL if absent
+     */
+    private static String header(final Response resp, final String name) {
+        String value = null;
+        for (final Map.Entry<String, List<String>> entry
+            : resp.headers().entrySet()) {
+            if (name.equalsIgnoreCase(entry.getKey())
+                && !entry.getValue().isEmpty()) {
+                value = entry.getValue().get(0);
+                break;
+            }
+        }
+        return value;
+    }
+}
@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RateLimitRegistry;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that feeds rate limit headers of every response to a registry.
+ *
+ * <p>Use it together with {@link com.jcabi.github.Limits.Observed},
+ * to check the budget without calling {@code /rate_limit}:
+ * <pre>
+ * {@code
+ * RateLimitRegistry registry = new RateLimitRegistry();
+ * Github github = new RtGithub(
+ *     new RtGithub().entry().through(RateLimitWire.class, registry)
+ * );
+ * Limits limits = new Limits.Observed(github.limits(), registry);
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ */
+@ToString
+@EqualsAndHashCode(of = { "origin", "registry" })
+public final class RateLimitWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Registry to feed.
+     */
+    private final transient RateLimitRegistry registry;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param reg Registry to feed
+     */
+    public RateLimitWire(final Wire wire, final RateLimitRegistry reg) {
+        this.origin = wire;
+        this.registry = reg;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final Response resp = this.origin
+            .send(req, home, method, headers, content, connect, read);
+        this.registry.update(resp.headers());
+        return resp;
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.aspects.Immutable;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that records all exchanges to a file, to be replayed later by
+ * {@link ReplayWire}.
+ *
+ * <p>Every response is appended to the file as soon as it arrives,
+ * together with its status, headers, body and the time it took, so
+ * that a run against the real Github may be repeated offline with
+ * the same responses and the same latencies:
+ * <pre>
+ * {@code
+ * Github github = new RtGithub(
+ *     new RtGithub(oauth).entry().through(
+ *         RecordingWire.class, "target/github.cassette"
+ *     )
+ * );
+ * }
+ * </pre>
+ *
+ * <p>Requests are told apart by their method, full URI and the SHA-256
+ * of their body. Failed requests, which throw {@link IOException}, are
+ * not recorded.</p>
+ *
+ * @since 2.0
+ */
+@Immutable
+@ToString(of = { "origin", "path" })
+@EqualsAndHashCode(of = { "origin", "path" })
+public final class RecordingWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Path of the file.
+     */
+    private final transient String path;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param file Path of the file to append to
+     */
+    public RecordingWire(final Wire wire, final String file) {
+        this.origin = wire;
+        this.path = file;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final byte[] body = Cassette.body(content);
+        final long start = System.nanoTime();
+        final Response resp = this.origin.send(
+            req, home, method, headers,
+            new ByteArrayInputStream(body), connect, read
+        );
+        new Cassette(this.path).append(
+            new Cassette.Exchange(
+                Cassette.key(method, home, body), resp,
+                System.nanoTime() - start
+            )
+        );
+        return resp;
+    }
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that serves responses recorded by {@link RecordingWire},
+ * without touching the network.
+ *
+ * <p>Responses to the same request are served in the order they were
+ * recorded, and the last one is repeated once they are all used up.
+ * Each response is delayed by its recorded latency multiplied by the
+ * given scale, so {@code 0.0} replays as fast as possible and
+ * {@code 1.0} replays at the original pace:
+ * <pre>
+ * {@code
+ * Github github = new RtGithub(
+ *     new RtGithub().entry().through(
+ *         ReplayWire.class, "target/github.cassette", 0.0d
+ *     )
+ * );
+ * }
+ * </pre>
+ *
+ * <p>Since URIs are recorded in full, {@code Link} headers of paginated
+ * responses point to recorded requests and pagination works as it did
+ * when recording. A request that was never recorded causes
+ * {@link IOException}. The original wire is never used.</p>
+ *
+ * <p>The file is read once, on the first request.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = { "path", "scale" })
+@EqualsAndHashCode(of = { "path", "scale" })
+public final class ReplayWire implements Wire {
+
+    /**
+     * Path of the file.
+     */
+    private final transient String path;
+
+    /**
+     * Scale of latencies.
+     */
+    private final transient double scale;
+
+    /**
+     * Recorded exchanges by keys, loaded lazily.
+     */
+    private transient Map<String, List<Cassette.Exchange>> tape;
+
+    /**
+     * Positions in the lists of exchanges, by keys.
+     */
+    private transient Map<String, AtomicInteger> cursors;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire, not used
+     * @param file Path of the recorded file
+     */
+    public ReplayWire(final Wire wire, final String file) {
+        this(wire, file, 1.0d);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire, not used
+     * @param file Path of the recorded file
+     * @param factor Scale of recorded latencies, zero for no delays
+     */
+    public ReplayWire(final Wire wire, final String file,
+        final double factor) {
+        if (factor < 0.0d) {
+            throw new IllegalArgumentException(
+                String.format("Scale can't be negative: %f", factor)
+            );
+        }
+        this.path = file;
+        this.scale = factor;
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final String key = Cassette.key(method, home, Cassette.body(content));
+        final Cassette.Exchange exchange = this.next(key);
+        final long delay = (long) (exchange.nanos() * this.scale);
+        if (delay > 0L) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(delay);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IOException(ex);
+            }
+        }
+        return exchange.response(req);
+    }
+
+    /**
+     * Take the next recorded exchange for the key.
+     * @param key Key of the request
+     * @return Exchange
+     * @throws IOException If there is no such exchange
+     */
+    private Cassette.Exchange next(final String key) throws IOException {
+        final List<Cassette.Exchange> list;
+        final AtomicInteger cursor;
+        synchronized (this) {
+            if (this.tape == null) {
+                this.load();
+            }
+            list = this.tape.get(key);
+            cursor = this.cursors.get(key);
+        }
+        if (list == null) {
+            throw new IOException(
+                String.format("%s is not recorded in %s", key, this.path)
+            );
+        }
+        return list.get(
+            cursor.getAndUpdate(pos -> Math.min(pos + 1, list.size() - 1))
+        );
+    }
+
+    /**
+     * Read the file.
+     * @throws IOException If fails
+     */
+    private void load() throws IOException {
+        final Map<String, List<Cassette.Exchange>> all = new HashMap<>(0);
+        final Map<String, AtomicInteger> positions = new HashMap<>(0);
+        for (final Cassette.Exchange exchange
+            : new Cassette(this.path).exchanges()) {
+            all.computeIfAbsent(exchange.key(), key -> new ArrayList<>(1))
+                .add(exchange);
+            positions.putIfAbsent(exchange.key(), new AtomicInteger());
+        }
+        this.tape = Collections.unmodifiableMap(all);
+        this.cursors = Collections.unmodifiableMap(positions);
+    }
+}
@@ -0,0 +1,167 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that remembers repository metadata for a while.
+ *
+ * <p>Metadata of a repository, {@code GET /repos/:owner/:repo}, rarely
+ * changes, but is fetched often: for example, {@link
+ * com.jcabi.github.Contents#get(String)} reads the default branch from
+ * it before every file. This wire keeps successful responses to such
+ * requests in memory for the given time, shared by all {@link
+ * com.jcabi.github.Repo} objects made from the same entry, and forgets
+ * a repository as soon as any other method, like {@code PATCH}, is
+ * sent to it:
+ * <pre>
+ * {@code
+ * Github github = new RtGithub(
+ *     new RtGithub(oauth).entry().through(RepoCachingWire.class, 300L)
+ * );
+ * }
+ * </pre>
+ *
+ * <p>Like in {@link ShaCachingWire}, responses are kept apart by host
+ * and {@code Authorization} header, and are returned without
+ * {@code X-RateLimit-*} headers.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = { "origin", "ttl" })
+@EqualsAndHashCode(of = { "origin", "ttl" })
+public final class RepoCachingWire implements Wire {
+
+    /**
+     * Default time to live, in seconds.
+     */
+    private static final long TTL = 300L;
+
+    /**
+     * Path of repository metadata.
+     */
+    private static final Pattern REPO = Pattern.compile(
+        "^/repos/[^/]+/[^/]+/?$"
+    );
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Time to live, in seconds.
+     */
+    private final transient long ttl;
+
+    /**
+     * Remembered responses, by cache key.
+     */
+    private final transient Cache<String, ShaCachingWire.Saved> memory;
+
+    /**
+     * Public ctor, remembering metadata for five minutes.
+     * @param wire Original wire
+     */
+    public RepoCachingWire(final Wire wire) {
+        this(wire, RepoCachingWire.TTL);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param seconds Time to remember metadata for, in seconds
+     */
+    public RepoCachingWire(final Wire wire, final long seconds) {
+        this.origin = wire;
+        this.ttl = seconds;
+        this.memory = CacheBuilder.newBuilder()
+            .expireAfterWrite(seconds, TimeUnit.SECONDS)
+            .build();
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final URI uri = URI.create(home);
+        final Response response;
+        if (uri.getPath() != null
+            && RepoCachingWire.REPO.matcher(uri.getPath()).matches()) {
+            final String key = ShaCachingWire.key(uri, headers);
+            final ShaCachingWire.Saved saved = this.memory.getIfPresent(key);
+            if (Request.GET.equals(method) && saved != null) {
+                response = saved.response(req);
+            } else {
+                this.memory.invalidate(key);
+                response = this.origin.send(
+                    req, home, method, headers, content, connect, read
+                );
+                if (Request.GET.equals(method)
+                    && response.status() == HttpURLConnection.HTTP_OK) {
+                    this.memory.put(key, new ShaCachingWire.Saved(response));
+                }
+            }
+        } else {
+            response = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        }
+        return response;
+    }
+
+    /**
+     * Forget everything.
+     */
+    public void invalidate() {
+        this.memory.invalidateAll();
+    }
+}
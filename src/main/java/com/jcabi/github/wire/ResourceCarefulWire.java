@@ -0,0 +1,233 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.Limits;
+import com.jcabi.github.RateLimitRegistry;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonObject;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that keeps a separate rate limit bucket for each Github resource.
+ *
+ * <p>Github limits {@code core}, {@code search}, {@code code_search}
+ * and {@code graphql} requests independently, and tells which bucket a
+ * response was counted against in the {@code X-RateLimit-Resource}
+ * header. This wire feeds the rate limit headers of every response to a
+ * {@link RateLimitRegistry}, which keeps the latest snapshot of each
+ * bucket and ignores responses that arrive out of order. Before a
+ * request is sent, the wire finds its bucket by path and reads its
+ * snapshot from the registry. If the bucket is down to the threshold,
+ * only that request waits until the bucket resets. Requests to other
+ * buckets go on, so a search-heavy job doesn't slow down the rest of
+ * the REST traffic, unlike {@link CarefulWire}, which makes any request
+ * wait after any response.</p>
+ *
+ * <p>Requests sent but not answered yet are counted against their
+ * bucket, so concurrent requests can't overshoot the limit together.
+ * Pass the same registry to {@link com.jcabi.github.Limits.Observed} to
+ * read the budget it sees:
+ * <pre>
+ * {@code
+ * RateLimitRegistry registry = new RateLimitRegistry();
+ * Github github = new RtGithub(
+ *     new RtGithub().entry().through(
+ *         ResourceCarefulWire.class, 2, registry
+ *     )
+ * );
+ * }
+ * </pre>
+ *
+ * @since 2.0
+ * @see <a href="https://docs.github.com/en/rest/using-the-rest-api/rate-limits-for-the-rest-api">Rate limits</a>
+ */
+@ToString(of = { "origin", "threshold" })
+@EqualsAndHashCode(of = { "origin", "threshold", "registry" })
+public final class ResourceCarefulWire implements Wire {
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Number of remaining requests in a bucket, at which requests
+     * to the bucket wait until it resets.
+     */
+    private final transient int threshold;
+
+    /**
+     * Registry of rate limits seen so far.
+     */
+    private final transient RateLimitRegistry registry;
+
+    /**
+     * Requests in flight, by resource name.
+     */
+    private final transient ConcurrentMap<String, Flight> flights;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param thrshld Number of remaining requests in a bucket, at which
+     *  requests to the bucket wait until it resets
+     */
+    public ResourceCarefulWire(final Wire wire, final int thrshld) {
+        this(wire, thrshld, new RateLimitRegistry());
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param thrshld Number of remaining requests in a bucket, at which
+     *  requests to the bucket wait until it resets
+     * @param reg Registry to read and feed
+     */
+    public ResourceCarefulWire(final Wire wire, final int thrshld,
+        final RateLimitRegistry reg) {
+        this.origin = wire;
+        this.threshold = thrshld;
+        this.registry = reg;
+        this.flights = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final String resource = ResourceCarefulWire.resource(home);
+        final Flight flight = this.flights.computeIfAbsent(
+            resource, key -> new Flight()
+        );
+        try {
+            flight.acquire(this.registry, resource, this.threshold);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        try {
+            final Response resp = this.origin
+                .send(req, home, method, headers, content, connect, read);
+            this.registry.update(resp.headers());
+            return resp;
+        } finally {
+            flight.release();
+        }
+    }
+
+    /**
+     * Resource a request is counted against, by its URI.
+     * @param home URI
+     * @return Resource name
+     */
+    private static String resource(final String home) {
+        final String path = URI.create(home).getPath();
+        final String name;
+        if (path.startsWith("/search/code")) {
+            name = "code_search";
+        } else if (path.startsWith("/search/")) {
+            name = Limits.SEARCH;
+        } else if (path.startsWith("/graphql")) {
+            name = "graphql";
+        } else {
+            name = Limits.CORE;
+        }
+        return name;
+    }
+
+    /**
+     * Requests to one bucket sent but not answered yet.
+     */
+    private static final class Flight {
+        /**
+         * Number of requests in flight.
+         */
+        private transient int count;
+
+        /**
+         * Take one request from the bucket, waiting for a reset if
+         * the bucket is down to the threshold.
+         * @param registry Registry
+         * @param resource Resource name
+         * @param threshold Threshold
+         * @throws InterruptedException If interrupted while waiting
+         */
+        synchronized void acquire(final RateLimitRegistry registry,
+            final String resource, final int threshold)
+            throws InterruptedException {
+            while (true) {
+                final JsonObject snapshot = registry.get(resource);
+                if (snapshot == null) {
+                    break;
+                }
+                final int left = snapshot.getInt("remaining") - this.count;
+                final long wait = TimeUnit.SECONDS.toMillis(
+                    snapshot.getJsonNumber("reset").longValue()
+                ) - System.currentTimeMillis();
+                if (left > threshold || wait <= 0L) {
+                    break;
+                }
+                Logger.info(
+                    this, "%d %s requests left, waiting for %[ms]s",
+                    left, resource, wait
+                );
+                this.wait(wait);
+            }
+            ++this.count;
+        }
+
+        /**
+         * Release one request once it is answered.
+         */
+        synchronized void release() {
+            --this.count;
+            this.notifyAll();
+        }
+    }
+}
@@ -0,0 +1,465 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.MXBean;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Metrics of Github requests, by route.
+ *
+ * <p>A route is the method and the path template of a request, like
+ * {@code GET /repos/{owner}/{repo}/issues/{n}}, as made by
+ * {@link MetricsWire}. For each route the number of requests, their
+ * latency histogram, status codes, bytes transferred and rate limit
+ * cost are recorded. Recording is lock-free: it only increments
+ * counters, so it is cheap enough to stay on in production.</p>
+ *
+ * <p>Latencies are counted in buckets of powers of two microseconds,
+ * so percentiles are upper bounds, precise to a factor of two.</p>
+ *
+ * <p>Metrics are available through {@link #snapshot()} and, if this
+ * object is created with a name, through JMX, as MXBeans named
+ * {@code com.jcabi.github:type=Route,registry=NAME,route="ROUTE"},
+ * until {@link #close()} removes them.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = "routes")
+public final class RouteMetrics implements Closeable {
+
+    /**
+     * Number of histogram buckets.
+     */
+    private static final int BUCKETS = 40;
+
+    /**
+     * Routes.
+     */
+    private final transient MBeans<RouteMetrics.Route> routes;
+
+    /**
+     * Ctor, without JMX.
+     */
+    public RouteMetrics() {
+        this("");
+    }
+
+    /**
+     * Ctor, publishing every route in the platform MBean server.
+     * @param nme Name of the registry in JMX, empty to not publish
+     */
+    public RouteMetrics(final String nme) {
+        this.routes = new MBeans<>(
+            "Route", nme, RouteMetrics.Bean.class, RouteMetrics.Route::new
+        );
+    }
+
+    /**
+     * Snapshot of all routes.
+     * @return Stats by route
+     */
+    public Map<String, RouteMetrics.Stats> snapshot() {
+        final Map<String, RouteMetrics.Stats> stats = new TreeMap<>();
+        for (final RouteMetrics.Route route : this.routes.values()) {
+            stats.put(route.getRoute(), route.stats());
+        }
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Record a request.
+     * @param route Route of it
+     * @param status HTTP status, zero if it failed with no response
+     * @param nanos How long it took, in nanoseconds
+     * @param bytes Bytes sent and received
+     * @param cost Rate limit cost
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    void record(final String route, final int status, final long nanos,
+        final long bytes, final long cost) {
+        this.routes.get(route).record(status, nanos, bytes, cost);
+    }
+
+    /**
+     * Remove all routes from JMX.
+     *
+     * <p>Call it once the metrics are no longer needed. Counters are
+     * still kept in {@link #snapshot()}.</p>
+     */
+    @Override
+    public void close() {
+        this.routes.close();
+    }
+
+    /**
+     * Route in JMX.
+     * @since 2.0
+     */
+    @MXBean
+    public interface Bean {
+        /**
+         * Route.
+         * @return Method and path template
+         */
+        String getRoute();
+        /**
+         * Number of requests.
+         * @return Total
+         */
+        long getRequests();
+        /**
+         * Number of requests failed with 4xx, 5xx or no response at all.
+         * @return Total
+         */
+        long getErrors();
+        /**
+         * Bytes sent and received.
+         * @return Total
+         */
+        long getBytes();
+        /**
+         * Rate limit cost.
+         * @return Total
+         */
+        long getCost();
+        /**
+         * Number of requests by status.
+         * @return Totals by status
+         */
+        Map<String, Long> getStatuses();
+        /**
+         * Mean latency.
+         * @return Microseconds
+         */
+        long getMeanMicros();
+        /**
+         * Median latency.
+         * @return Microseconds
+         */
+        long getP50Micros();
+        /**
+         * 99th percentile of latency.
+         * @return Microseconds
+         */
+        long getP99Micros();
+        /**
+         * Maximum latency.
+         * @return Microseconds
+         */
+        long getMaxMicros();
+    }
+
+    /**
+     * Immutable snapshot of a route.
+     * @since 2.0
+     */
+    @ToString
+    @EqualsAndHashCode
+    public static final class Stats {
+        /**
+         * Number of requests.
+         */
+        private final transient long total;
+        /**
+         * Bytes sent and received.
+         */
+        private final transient long size;
+        /**
+         * Rate limit cost.
+         */
+        private final transient long spent;
+        /**
+         * Sum of latencies, in microseconds.
+         */
+        private final transient long sum;
+        /**
+         * Maximum latency, in microseconds.
+         */
+        private final transient long top;
+        /**
+         * Number of requests by status.
+         */
+        private final transient Map<Integer, Long> codes;
+        /**
+         * Histogram of latencies.
+         */
+        private final transient long[] buckets;
+        /**
+         * Ctor.
+         * @param route Route to take a snapshot of
+         */
+        Stats(final RouteMetrics.Route route) {
+            this.total = route.requests.sum();
+            this.size = route.bytes.sum();
+            this.spent = route.cost.sum();
+            this.sum = route.micros.sum();
+            this.top = route.max.get();
+            final Map<Integer, Long> map = new TreeMap<>();
+            for (final Map.Entry<Integer, LongAdder> entry
+                : route.statuses.entrySet()) {
+                map.put(entry.getKey(), entry.getValue().sum());
+            }
+            this.codes = Collections.unmodifiableMap(map);
+            this.buckets = new long[RouteMetrics.BUCKETS];
+            for (int idx = 0; idx < this.buckets.length; ++idx) {
+                this.buckets[idx] = route.histogram.get(idx);
+            }
+        }
+        /**
+         * Number of requests.
+         * @return Total
+         */
+        public long requests() {
+            return this.total;
+        }
+        /**
+         * Number of requests failed with 4xx, 5xx or no response at all.
+         * @return Total
+         */
+        public long errors() {
+            long errors = 0L;
+            for (final Map.Entry<Integer, Long> entry : this.codes.entrySet()) {
+                // @checkstyle MagicNumber (1 line)
+                if (entry.getKey() == 0 || entry.getKey() >= 400) {
+                    errors += entry.getValue();
+                }
+            }
+            return errors;
+        }
+        /**
+         * Bytes sent and received.
+         * @return Total
+         */
+        public long bytes() {
+            return this.size;
+        }
+        /**
+         * Rate limit cost, in requests counted against the limit.
+         * @return Total
+         */
+        public long cost() {
+            return this.spent;
+        }
+        /**
+         * Number of requests by status, where zero stands for requests
+         * failed with no response at all.
+         * @return Totals by status
+         */
+        public Map<Integer, Long> statuses() {
+            return this.codes;
+        }
+        /**
+         * Mean latency.
+         * @return Microseconds
+         */
+        public long mean() {
+            long mean = 0L;
+            if (this.total > 0L) {
+                mean = this.sum / this.total;
+            }
+            return mean;
+        }
+        /**
+         * Maximum latency.
+         * @return Microseconds
+         */
+        public long max() {
+            return this.top;
+        }
+        /**
+         * Latency percentile, as the upper bound of its bucket.
+         * @param percent Percentile, from 0 to 100
+         * @return Microseconds
+         */
+        public long percentile(final double percent) {
+            long found = 0L;
+            // @checkstyle MagicNumber (1 line)
+            final double rank = Math.ceil(this.total * percent / 100.0d);
+            long seen = 0L;
+            for (int idx = 0; idx < this.buckets.length; ++idx) {
+                seen += this.buckets[idx];
+                if (seen > 0L && seen >= rank) {
+                    found = Math.min((1L << idx) - 1L, this.top);
+                    break;
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * Live counters of a route.
+     * @since 2.0
+     */
+    private static final class Route implements RouteMetrics.Bean {
+        /**
+         * Route.
+         */
+        private final transient String key;
+        /**
+         * Number of requests.
+         */
+        private final transient LongAdder requests;
+        /**
+         * Bytes sent and received.
+         */
+        private final transient LongAdder bytes;
+        /**
+         * Rate limit cost.
+         */
+        private final transient LongAdder cost;
+        /**
+         * Sum of latencies, in microseconds.
+         */
+        private final transient LongAdder micros;
+        /**
+         * Maximum latency, in microseconds.
+         */
+        private final transient AtomicLong max;
+        /**
+         * Number of requests by status.
+         */
+        private final transient ConcurrentMap<Integer, LongAdder> statuses;
+        /**
+         * Histogram of latencies, bucket N counts latencies below
+         * 2^N microseconds and not below 2^(N-1).
+         */
+        private final transient AtomicLongArray histogram;
+        /**
+         * Ctor.
+         * @param route Route
+         */
+        Route(final String route) {
+            this.key = route;
+            this.requests = new LongAdder();
+            this.bytes = new LongAdder();
+            this.cost = new LongAdder();
+            this.micros = new LongAdder();
+            this.max = new AtomicLong();
+            this.statuses = new ConcurrentHashMap<>(0);
+            this.histogram = new AtomicLongArray(RouteMetrics.BUCKETS);
+        }
+        /**
+         * Record a request.
+         * @param status HTTP status
+         * @param nanos How long it took, in nanoseconds
+         * @param size Bytes sent and received
+         * @param spent Rate limit cost
+         */
+        void record(final int status, final long nanos, final long size,
+            final long spent) {
+            final long usec = TimeUnit.NANOSECONDS.toMicros(nanos);
+            this.requests.increment();
+            this.bytes.add(size);
+            this.cost.add(spent);
+            this.micros.add(usec);
+            this.max.accumulateAndGet(usec, Math::max);
+            this.histogram.incrementAndGet(
+                Math.min(
+                    Long.SIZE - Long.numberOfLeadingZeros(usec),
+                    RouteMetrics.BUCKETS - 1
+                )
+            );
+            LongAdder counter = this.statuses.get(status);
+            if (counter == null) {
+                counter = this.statuses.computeIfAbsent(
+                    status, code -> new LongAdder()
+                );
+            }
+            counter.increment();
+        }
+        /**
+         * Take a snapshot.
+         * @return Stats
+         */
+        RouteMetrics.Stats stats() {
+            return new RouteMetrics.Stats(this);
+        }
+        @Override
+        public String getRoute() {
+            return this.key;
+        }
+        @Override
+        public long getRequests() {
+            return this.requests.sum();
+        }
+        @Override
+        public long getErrors() {
+            return this.stats().errors();
+        }
+        @Override
+        public long getBytes() {
+            return this.bytes.sum();
+        }
+        @Override
+        public long getCost() {
+            return this.cost.sum();
+        }
+        @Override
+        public Map<String, Long> getStatuses() {
+            final Map<String, Long> map = new TreeMap<>();
+            for (final Map.Entry<Integer, Long> entry
+                : this.stats().statuses().entrySet()) {
+                map.put(entry.getKey().toString(), entry.getValue());
+            }
+            return map;
+        }
+        @Override
+        public long getMeanMicros() {
+            return this.stats().mean();
+        }
+        @Override
+        public long getP50Micros() {
+            // @checkstyle MagicNumber (1 line)
+            return this.stats().percentile(50.0d);
+        }
+        @Override
+        public long getP99Micros() {
+            // @checkstyle MagicNumber (1 line)
+            return this.stats().percentile(99.0d);
+        }
+        @Override
+        public long getMaxMicros() {
+            return this.max.get();
+        }
+    }
+}
@@ -0,0 +1,376 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.http.request.DefaultResponse;
+import com.jcabi.immutable.Array;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import javax.ws.rs.core.HttpHeaders;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+/**
+ * Wire that permanently caches Git objects addressed by their SHA.
+ *
+ * <p>Blobs, trees, commits and tags never change once created, so
+ * a {@code GET} of {@code /repos/:owner/:repo/git/blobs/:sha} (and
+ * the same for {@code trees}, {@code commits} and {@code tags}), as well
+ * as {@code /repos/:owner/:repo/commits/:sha}, always returns the same
+ * document. Such responses are kept in memory without any expiration,
+ * until the total size of cached bodies reaches the given limit, after
+ * which the least recently used ones are evicted. Only full 40-character
+ * SHAs are cached, since branch names and short SHAs may point to
+ * different objects over time.
+ *
+ * <p>Optionally, responses are also stored in a directory, which
+ * survives restarts of the JVM and may be shared between runs:
+ * <pre>
+ * {@code
+ * Github github = new RtGithub(
+ *     new RtGithub(oauth).entry().through(
+ *         ShaCachingWire.class, 64L << 20, "/var/cache/github"
+ *     )
+ * );
+ * }
+ * </pre>
+ *
+ * <p>Responses are cached separately for every host and every
+ * {@code Authorization} header, since objects of a private repository
+ * must not be served to other clients sharing the directory. Cached
+ * responses don't carry {@code X-RateLimit-*} headers, since they are
+ * not fresh and didn't cost anything.</p>
+ *
+ * @since 2.0
+ */
+@ToString(of = { "origin", "dir" })
+@EqualsAndHashCode(of = { "origin", "dir" })
+public final class ShaCachingWire implements Wire {
+
+    /**
+     * Default maximum size of cached bodies in memory, in bytes.
+     */
+    private static final long MAX = 64L << 20;
+
+    /**
+     * Paths of immutable objects.
+     */
+    private static final Pattern IMMUTABLE = Pattern.compile(
+        String.join(
+            "",
+            "/repos/[^/]+/[^/]+/",
+            "(?:git/(?:blobs|trees|commits|tags)|commits)",
+            "/[0-9a-f]{40}$"
+        )
+    );
+
+    /**
+     * Prefix of rate limit headers, which are not cached.
+     */
+    private static final String RATE = "X-RateLimit-";
+
+    /**
+     * Original wire.
+     */
+    private final transient Wire origin;
+
+    /**
+     * Persistent tier.
+     */
+    private final transient DiskStore dir;
+
+    /**
+     * Memory tier.
+     */
+    private final transient Cache<String, ShaCachingWire.Saved> memory;
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     */
+    public ShaCachingWire(final Wire wire) {
+        this(wire, ShaCachingWire.MAX);
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param bytes Maximum size of cached bodies in memory, in bytes
+     */
+    public ShaCachingWire(final Wire wire, final long bytes) {
+        this(wire, bytes, "");
+    }
+
+    /**
+     * Public ctor.
+     * @param wire Original wire
+     * @param bytes Maximum size of cached bodies in memory, in bytes
+     * @param path Directory for the persistent tier, empty for none
+     */
+    public ShaCachingWire(final Wire wire, final long bytes,
+        final String path) {
+        this.origin = wire;
+        this.dir = new DiskStore(path);
+        this.memory = CacheBuilder.newBuilder()
+            .maximumWeight(bytes)
+            .<String, ShaCachingWire.Saved>weigher(
+                (key, saved) -> saved.body.length + key.length()
+            )
+            .build();
+    }
+
+    @Override
+    // @checkstyle ParameterNumber (8 lines)
+    public Response send(
+        final Request req,
+        final String home,
+        final String method,
+        final Collection<Map.Entry<String, String>> headers,
+        final InputStream content,
+        final int connect, final int read
+    ) throws IOException {
+        final URI uri = URI.create(home);
+        final Response response;
+        if (Request.GET.equals(method) && uri.getPath() != null
+            && ShaCachingWire.IMMUTABLE.matcher(uri.getPath()).find()) {
+            final String key = ShaCachingWire.key(uri, headers);
+            ShaCachingWire.Saved saved = this.memory.getIfPresent(key);
+            if (saved == null) {
+                saved = this.load(key);
+            }
+            if (saved == null) {
+                response = this.origin.send(
+                    req, home, method, headers, content, connect, read
+                );
+                if (response.status() == HttpURLConnection.HTTP_OK) {
+                    this.save(key, new ShaCachingWire.Saved(response));
+                }
+            } else {
+                this.memory.put(key, saved);
+                response = saved.response(req);
+            }
+        } else {
+            response = this.origin.send(
+                req, home, method, headers, content, connect, read
+            );
+        }
+        return response;
+    }
+
+    /**
+     * Remove everything from the memory tier.
+     */
+    public void invalidate() {
+        this.memory.invalidateAll();
+    }
+
+    /**
+     * Load the response from the persistent tier.
+     * @param key Cache key
+     * @return Saved response or NULL if absent
+     * @throws IOException If fails
+     */
+    private ShaCachingWire.Saved load(final String key) throws IOException {
+        final byte[] data = this.dir.load(key);
+        ShaCachingWire.Saved saved = null;
+        if (data != null) {
+            try (DataInputStream input = new DataInputStream(
+                new ByteArrayInputStream(data)
+            )) {
+                saved = new ShaCachingWire.Saved(input);
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Save the response into both tiers.
+     * @param key Cache key
+     * @param saved Response to save
+     * @throws IOException If fails
+     */
+    private void save(final String key, final ShaCachingWire.Saved saved)
+        throws IOException {
+        this.memory.put(key, saved);
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            saved.write(output);
+        }
+        this.dir.save(key, bytes.toByteArray());
+    }
+
+    /**
+     * Make a cache key.
+     * @param uri URI of the request
+     * @param headers Headers of the request
+     * @return Key
+     */
+    static String key(final URI uri,
+        final Collection<Map.Entry<String, String>> headers) {
+        final StringBuilder key = new StringBuilder(0)
+            .append(uri.getRawAuthority())
+            .append(uri.getPath());
+        if (uri.getQuery() != null) {
+            key.append('?').append(uri.getQuery());
+        }
+        for (final Map.Entry<String, String> header : headers) {
+            if (HttpHeaders.ACCEPT.equalsIgnoreCase(header.getKey())) {
+                key.append(' ').append(header.getValue());
+            }
+            if (HttpHeaders.AUTHORIZATION.equalsIgnoreCase(header.getKey())) {
+                key.append(" auth:").append(
+                    Hashing.sha256().hashString(
+                        header.getValue(), StandardCharsets.UTF_8
+                    )
+                );
+            }
+        }
+        return key.toString();
+    }
+
+    /**
+     * Whether the header is only valid in a fresh response.
+     * @param name Name of the header
+     * @return TRUE if it's a rate limit header
+     */
+    static boolean fresh(final String name) {
+        return name.regionMatches(
+            true, 0, ShaCachingWire.RATE, 0, ShaCachingWire.RATE.length()
+        );
+    }
+
+    /**
+     * Saved response, without rate limit headers.
+     * @since 2.0
+     */
+    static final class Saved {
+        /**
+         * HTTP status.
+         */
+        private final transient int status;
+        /**
+         * HTTP reason.
+         */
+        private final transient String reason;
+        /**
+         * Headers.
+         */
+        private final transient List<Map.Entry<String, String>> headers;
+        /**
+         * Body.
+         */
+        private final transient byte[] body;
+        /**
+         * Ctor.
+         * @param response Response to save
+         */
+        Saved(final Response response) {
+            this.status = response.status();
+            this.reason = response.reason();
+            this.headers = new ArrayList<>(response.headers().size());
+            for (final Map.Entry<String, List<String>> entry
+                : response.headers().entrySet()) {
+                if (!ShaCachingWire.fresh(entry.getKey())) {
+                    for (final String value : entry.getValue()) {
+                        this.headers.add(
+                            new ImmutableHeader(entry.getKey(), value)
+                        );
+                    }
+                }
+            }
+            this.body = response.binary();
+        }
+        /**
+         * Ctor.
+         * @param input Input to read the response from
+         * @throws IOException If fails
+         */
+        Saved(final DataInputStream input) throws IOException {
+            this.status = input.readInt();
+            this.reason = input.readUTF();
+            final int total = input.readInt();
+            this.headers = new ArrayList<>(total);
+            for (int idx = 0; idx < total; ++idx) {
+                this.headers.add(
+                    new ImmutableHeader(input.readUTF(), input.readUTF())
+                );
+            }
+            this.body = new byte[input.readInt()];
+            input.readFully(this.body);
+        }
+        /**
+         * Write it.
+         * @param output Output to write to
+         * @throws IOException If fails
+         */
+        void write(final DataOutputStream output) throws IOException {
+            output.writeInt(this.status);
+            output.writeUTF(this.reason);
+            output.writeInt(this.headers.size());
+            for (final Map.Entry<String, String> header : this.headers) {
+                output.writeUTF(header.getKey());
+                output.writeUTF(header.getValue());
+            }
+            output.writeInt(this.body.length);
+            output.write(this.body);
+            output.flush();
+        }
+        /**
+         * Make a response.
+         * @param req Request to return to
+         * @return Response
+         */
+        Response response(final Request req) {
+            return new DefaultResponse(
+                req, this.status, this.reason,
+                new Array<>(this.headers), this.body
+            );
+        }
+    }
+}
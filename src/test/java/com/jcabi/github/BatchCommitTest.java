@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import javax.json.JsonValue;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link BatchCommit}.
+ * @since 2.0
+ */
+public final class BatchCommitTest {
+
+    /**
+     * BatchCommit can write and remove files in one commit.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void commitsManyFiles() throws IOException {
+        final Git git = Mockito.mock(Git.class);
+        final Reference ref = Mockito.mock(Reference.class);
+        Mockito.when(ref.json()).thenReturn(
+            Json.createObjectBuilder().add(
+                "object", Json.createObjectBuilder().add("sha", "parent")
+            ).build()
+        );
+        final References refs = Mockito.mock(References.class);
+        Mockito.when(refs.get("refs/heads/master")).thenReturn(ref);
+        Mockito.when(git.references()).thenReturn(refs);
+        final Commit parent = Mockito.mock(Commit.class);
+        Mockito.when(parent.json()).thenReturn(
+            Json.createObjectBuilder().add(
+                "tree", Json.createObjectBuilder().add("sha", "base")
+            ).build()
+        );
+        final Commit made = Mockito.mock(Commit.class);
+        Mockito.when(made.sha()).thenReturn("made");
+        final Commits commits = Mockito.mock(Commits.class);
+        Mockito.when(commits.get("parent")).thenReturn(parent);
+        Mockito.when(commits.create(Mockito.any())).thenReturn(made);
+        Mockito.when(git.commits()).thenReturn(commits);
+        final Blob blob = Mockito.mock(Blob.class);
+        Mockito.when(blob.sha()).thenReturn("blob");
+        final Blobs blobs = Mockito.mock(Blobs.class);
+        Mockito.when(blobs.create(Mockito.anyString(), Mockito.anyString()))
+            .thenReturn(blob);
+        Mockito.when(git.blobs()).thenReturn(blobs);
+        final Tree tree = Mockito.mock(Tree.class);
+        Mockito.when(tree.sha()).thenReturn("tree");
+        final Trees trees = Mockito.mock(Trees.class);
+        Mockito.when(trees.create(Mockito.any())).thenReturn(tree);
+        Mockito.when(git.trees()).thenReturn(trees);
+        MatcherAssert.assertThat(
+            new BatchCommit(git, "master")
+                .with("a.txt", "a")
+                .with("b.txt", "b")
+                .without("c.txt")
+                .commit("sync")
+                .sha(),
+            Matchers.equalTo("made")
+        );
+        Mockito.verify(blobs, Mockito.times(2))
+            .create(Mockito.anyString(), Mockito.eq("base64"));
+        final ArgumentCaptor<JsonObject> params =
+            ArgumentCaptor.forClass(JsonObject.class);
+        Mockito.verify(trees).create(params.capture());
+        MatcherAssert.assertThat(
+            params.getValue().getString("base_tree"), Matchers.equalTo("base")
+        );
+        final JsonArray entries = params.getValue().getJsonArray("tree");
+        MatcherAssert.assertThat(entries.size(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(
+            entries.getJsonObject(2).get("sha"),
+            Matchers.equalTo(JsonValue.NULL)
+        );
+        Mockito.verify(ref).patch(
+            Json.createObjectBuilder()
+                .add("sha", "made")
+                .add("force", false)
+                .build()
+        );
+    }
+}
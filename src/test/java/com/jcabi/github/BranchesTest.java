@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.util.Arrays;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link Branches}.
+ * @since 2.0
+ */
+public final class BranchesTest {
+
+    /**
+     * Branches.Indexed can look up every name directly only once.
+     */
+    @Test
+    public void findsBranchesByNameOnce() {
+        final Branch first = Mockito.mock(Branch.class);
+        final Branches origin = Mockito.mock(Branches.class);
+        Mockito.when(origin.find("first")).thenReturn(first);
+        final Branches branches = new Branches.Indexed(origin);
+        MatcherAssert.assertThat(
+            branches.find("first"), Matchers.is(first)
+        );
+        MatcherAssert.assertThat(
+            branches.find("first"), Matchers.is(first)
+        );
+        MatcherAssert.assertThat(
+            branches.find("second"), Matchers.nullValue()
+        );
+        Mockito.verify(origin, Mockito.times(1)).find("first");
+        Mockito.verify(origin, Mockito.never()).iterate();
+    }
+
+    /**
+     * Branches.Indexed can list all branches once, when asked to.
+     */
+    @Test
+    public void findsPreloadedBranches() {
+        final Branch first = Mockito.mock(Branch.class);
+        Mockito.when(first.name()).thenReturn("first");
+        final Branch second = Mockito.mock(Branch.class);
+        Mockito.when(second.name()).thenReturn("second");
+        final Branches origin = Mockito.mock(Branches.class);
+        Mockito.when(origin.iterate()).thenReturn(Arrays.asList(first, second));
+        final Branches branches = new Branches.Indexed(origin).preload();
+        MatcherAssert.assertThat(
+            branches.find("second"), Matchers.is(second)
+        );
+        MatcherAssert.assertThat(
+            branches.find("first"), Matchers.is(first)
+        );
+        Mockito.verify(origin, Mockito.times(1)).iterate();
+        Mockito.verify(origin, Mockito.never()).find(Mockito.anyString());
+    }
+}
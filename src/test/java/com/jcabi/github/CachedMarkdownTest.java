@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link CachedMarkdown}.
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (200 lines)
+ */
+public final class CachedMarkdownTest {
+
+    /**
+     * Temporary folder.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient TemporaryFolder temp = new TemporaryFolder();
+
+    /**
+     * CachedMarkdown renders the same text only once.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void rendersSameTextOnce() throws Exception {
+        final Markdown origin = Mockito.mock(Markdown.class);
+        Mockito.when(origin.raw("**a**")).thenReturn("<b>a</b>");
+        final Markdown markdown = new CachedMarkdown(origin);
+        markdown.raw("**a**");
+        MatcherAssert.assertThat(
+            markdown.raw("**a**"), Matchers.equalTo("<b>a</b>")
+        );
+        Mockito.verify(origin, Mockito.times(1)).raw("**a**");
+    }
+
+    /**
+     * CachedMarkdown keys by the options as well as by the text.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void keysByOptions() throws Exception {
+        final Markdown origin = Mockito.mock(Markdown.class);
+        Mockito.when(origin.render(Mockito.any())).thenReturn("<p>x</p>");
+        final Markdown markdown = new CachedMarkdown(origin);
+        markdown.render(
+            Json.createObjectBuilder().add("text", "x").add("mode", "gfm")
+                .add("context", "a/b").build()
+        );
+        markdown.render(
+            Json.createObjectBuilder().add("text", "x").add("mode", "gfm")
+                .add("context", "c/d").build()
+        );
+        markdown.render(
+            Json.createObjectBuilder().add("text", "x").add("mode", "gfm")
+                .add("context", "a/b").build()
+        );
+        Mockito.verify(origin, Mockito.times(2)).render(Mockito.any());
+    }
+
+    /**
+     * CachedMarkdown keys by the options no matter their order.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void ignoresOrderOfOptions() throws Exception {
+        final Markdown origin = Mockito.mock(Markdown.class);
+        Mockito.when(origin.render(Mockito.any())).thenReturn("<p>y</p>");
+        final Markdown markdown = new CachedMarkdown(origin);
+        markdown.render(
+            Json.createObjectBuilder().add("text", "y").add("mode", "gfm")
+                .build()
+        );
+        markdown.render(
+            Json.createObjectBuilder().add("mode", "gfm").add("text", "y")
+                .build()
+        );
+        Mockito.verify(origin, Mockito.times(1)).render(Mockito.any());
+    }
+
+    /**
+     * CachedMarkdown rethrows the AssertionError of the original.
+     * @throws Exception If something goes wrong
+     */
+    @Test(expected = AssertionError.class)
+    public void rethrowsAssertionError() throws Exception {
+        final Markdown origin = Mockito.mock(Markdown.class);
+        Mockito.when(origin.raw("bad")).thenThrow(new AssertionError("500"));
+        new CachedMarkdown(origin).raw("bad");
+    }
+
+    /**
+     * CachedMarkdown evicts the least recently used entries.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void evictsLeastRecentlyUsed() throws Exception {
+        final Markdown origin = Mockito.mock(Markdown.class);
+        Mockito.when(origin.raw(Mockito.anyString())).thenReturn("html");
+        final Markdown markdown = new CachedMarkdown(origin, 1L);
+        markdown.raw("first");
+        markdown.raw("second");
+        markdown.raw("first");
+        Mockito.verify(origin, Mockito.times(2)).raw("first");
+    }
+
+    /**
+     * CachedMarkdown keeps rendered HTML in the persistent tier.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void readsPersistentTier() throws Exception {
+        final Markdown origin = Mockito.mock(Markdown.class);
+        Mockito.when(origin.raw("# t")).thenReturn("<h1>t</h1>");
+        final String dir = this.temp.newFolder().getPath();
+        new CachedMarkdown(origin, 1L, dir).raw("# t");
+        MatcherAssert.assertThat(
+            new CachedMarkdown(origin, 1L, dir).raw("# t"),
+            Matchers.equalTo("<h1>t</h1>")
+        );
+        Mockito.verify(origin, Mockito.times(1)).raw("# t");
+    }
+
+    /**
+     * CachedMarkdown renders once for concurrent calls with the same text.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void rendersOnceConcurrently() throws Exception {
+        final CountDownLatch latch = new CountDownLatch(1);
+        final Markdown origin = Mockito.mock(Markdown.class);
+        Mockito.when(origin.raw("same")).thenAnswer(
+            invocation -> {
+                latch.await(1L, TimeUnit.MINUTES);
+                return "<p>same</p>";
+            }
+        );
+        final Markdown markdown = new CachedMarkdown(origin);
+        final int threads = 8;
+        final ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            final Collection<Future<String>> futures = new ArrayList<>(0);
+            for (int idx = 0; idx < threads; ++idx) {
+                futures.add(
+                    pool.submit((Callable<String>) () -> markdown.raw("same"))
+                );
+            }
+            TimeUnit.MILLISECONDS.sleep(100L);
+            latch.countDown();
+            for (final Future<String> future : futures) {
+                MatcherAssert.assertThat(
+                    future.get(), Matchers.equalTo("<p>same</p>")
+                );
+            }
+        } finally {
+            pool.shutdown();
+        }
+        Mockito.verify(origin, Mockito.times(1)).raw("same");
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link CombinedStates}.
+ *
+ * @since 2.0
+ */
+public final class CombinedStatesTest {
+
+    /**
+     * CombinedStates can fetch states of many refs.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void fetchesStates() throws IOException {
+        final Commits commits = Mockito.mock(Commits.class);
+        final Statuses green = Mockito.mock(Statuses.class);
+        final Statuses red = Mockito.mock(Statuses.class);
+        Mockito.doReturn(green).when(commits).statuses("a1");
+        Mockito.doReturn(red).when(commits).statuses("b2");
+        Mockito.doReturn(
+            Json.createObjectBuilder().add("state", "success").build()
+        ).when(green).combined("a1");
+        Mockito.doReturn(
+            Json.createObjectBuilder().add("state", "failure").build()
+        ).when(red).combined("b2");
+        final Map<String, Status.State> states =
+            new CombinedStates(commits, 2).of(Arrays.asList("b2", "a1"));
+        MatcherAssert.assertThat(
+            states.keySet(),
+            Matchers.contains("b2", "a1")
+        );
+        MatcherAssert.assertThat(
+            states,
+            Matchers.hasEntry("a1", Status.State.SUCCESS)
+        );
+        MatcherAssert.assertThat(
+            states,
+            Matchers.hasEntry("b2", Status.State.FAILURE)
+        );
+    }
+
+    /**
+     * CombinedStates can rethrow I/O problems.
+     * @throws IOException If some problem inside
+     */
+    @Test(expected = IOException.class)
+    public void rethrowsFailures() throws IOException {
+        final Commits commits = Mockito.mock(Commits.class);
+        final Statuses statuses = Mockito.mock(Statuses.class);
+        Mockito.doReturn(statuses).when(commits).statuses("c3");
+        Mockito.doThrow(new IOException("down"))
+            .when(statuses).combined("c3");
+        new CombinedStates(commits).of(Arrays.asList("c3"));
+    }
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.request.FakeRequest;
+import java.util.Iterator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link DiffFiles}.
+ * @since 2.0
+ */
+public final class DiffFilesTest {
+
+    /**
+     * DiffFiles can split a diff into files.
+     */
+    @Test
+    public void iteratesFiles() {
+        final Iterator<DiffFiles.FileDiff> files = new DiffFiles(
+            new RtRepoCommits(
+                new FakeRequest().withBody(
+                    DiffFilesTest.join(
+                        "diff --git a/README.md b/README.md",
+                        "index 1a2b3c4..5d6e7f8 100644",
+                        "--- a/README.md",
+                        "+++ b/README.md",
+                        "@@ -1 +1 @@",
+                        "-old",
+                        "+new",
+                        "diff --git a/src/old.txt b/src/new.txt",
+                        "similarity index 100%"
+                    )
+                ),
+                DiffFilesTest.repo()
+            ),
+            "base", "head"
+        ).iterator();
+        final DiffFiles.FileDiff first = files.next();
+        MatcherAssert.assertThat(first.to(), Matchers.equalTo("README.md"));
+        MatcherAssert.assertThat(
+            first.text().toString(),
+            Matchers.allOf(
+                Matchers.startsWith("diff --git a/README.md"),
+                Matchers.endsWith("+new\n")
+            )
+        );
+        final DiffFiles.FileDiff second = files.next();
+        MatcherAssert.assertThat(
+            second.from(), Matchers.equalTo("src/old.txt")
+        );
+        MatcherAssert.assertThat(
+            second.to(), Matchers.equalTo("src/new.txt")
+        );
+        MatcherAssert.assertThat(files.hasNext(), Matchers.is(false));
+    }
+
+    /**
+     * DiffFiles can skip lines before the first file and handle
+     * an empty diff.
+     */
+    @Test
+    public void skipsPreamble() {
+        MatcherAssert.assertThat(
+            new DiffFiles(
+                new RtRepoCommits(
+                    new FakeRequest().withBody("From 6dcb09b5b\n\n---\n"),
+                    DiffFilesTest.repo()
+                ),
+                "a", "b"
+            ),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * Join lines.
+     * @param lines Lines
+     * @return Text
+     */
+    private static String join(final String... lines) {
+        return String.join("\n", lines);
+    }
+
+    /**
+     * Create repository for tests.
+     * @return Repository
+     */
+    private static Repo repo() {
+        return new RtGithub().repos()
+            .get(new Coordinates.Simple("user", "repo"));
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Assume;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link DirectorySync}.
+ * @since 2.0
+ */
+public final class DirectorySyncTest {
+
+    /**
+     * Git blob SHA of "hello\n".
+     */
+    private static final String HELLO =
+        "ce013625030ba8dba906f756967f9e9ca394464a";
+
+    /**
+     * Temporary folder.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient TemporaryFolder temp = new TemporaryFolder();
+
+    /**
+     * DirectorySync can calculate Git blob SHA.
+     */
+    @Test
+    public void calculatesBlobSha() {
+        MatcherAssert.assertThat(
+            DirectorySync.sha("hello\n".getBytes(StandardCharsets.UTF_8)),
+            Matchers.equalTo(DirectorySyncTest.HELLO)
+        );
+    }
+
+    /**
+     * DirectorySync can upload only changed files and remove missing ones.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void uploadsOnlyChanges() throws IOException {
+        final Path dir = this.temp.newFolder().toPath();
+        Files.write(dir.resolve("same.txt"), "hello\n".getBytes());
+        Files.write(dir.resolve("new.txt"), "x".getBytes());
+        final Git git = DirectorySyncTest.git(
+            Json.createArrayBuilder()
+                .add(DirectorySyncTest.blob("docs/same.txt", HELLO))
+                .add(DirectorySyncTest.blob("docs/old.txt", "0"))
+                .add(DirectorySyncTest.blob("other.txt", "1"))
+                .build()
+        );
+        MatcherAssert.assertThat(
+            new DirectorySync(git, "master", dir, "docs").sync("up")
+                .isPresent(),
+            Matchers.is(true)
+        );
+        Mockito.verify(git.blobs(), Mockito.times(1))
+            .create(Mockito.anyString(), Mockito.anyString());
+        final ArgumentCaptor<JsonObject> params =
+            ArgumentCaptor.forClass(JsonObject.class);
+        Mockito.verify(git.trees()).create(params.capture());
+        final JsonArray entries = params.getValue().getJsonArray("tree");
+        MatcherAssert.assertThat(
+            entries.getJsonObject(0).getString("path"),
+            Matchers.equalTo("docs/new.txt")
+        );
+        MatcherAssert.assertThat(
+            entries.getJsonObject(1).getString("path"),
+            Matchers.equalTo("docs/old.txt")
+        );
+        MatcherAssert.assertThat(entries.size(), Matchers.equalTo(2));
+    }
+
+    /**
+     * DirectorySync can skip the commit if nothing changed.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void skipsCommitWithoutChanges() throws IOException {
+        final Path dir = this.temp.newFolder().toPath();
+        Files.write(dir.resolve("same.txt"), "hello\n".getBytes());
+        final Git git = DirectorySyncTest.git(
+            Json.createArrayBuilder()
+                .add(DirectorySyncTest.blob("same.txt", HELLO))
+                .build()
+        );
+        MatcherAssert.assertThat(
+            new DirectorySync(git, "master", dir).sync("nothing")
+                .isPresent(),
+            Matchers.is(false)
+        );
+        Mockito.verify(git.trees(), Mockito.never())
+            .create(Mockito.any());
+    }
+
+    /**
+     * DirectorySync can sync the executable bit, leave symbolic links
+     * alone and read the branch head only once.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void syncsModesAndSkipsLinks() throws IOException {
+        final Path dir = this.temp.newFolder().toPath();
+        final Path script = dir.resolve("run.sh");
+        Files.write(script, "hello\n".getBytes());
+        Assume.assumeTrue(script.toFile().setExecutable(true));
+        Files.createSymbolicLink(dir.resolve("alias"), script);
+        final Git git = DirectorySyncTest.git(
+            Json.createArrayBuilder()
+                .add(DirectorySyncTest.blob("run.sh", HELLO))
+                .add(
+                    Json.createObjectBuilder()
+                        .add("path", "link")
+                        .add("type", "blob")
+                        .add("mode", "120000")
+                        .add("sha", "2")
+                )
+                .build()
+        );
+        new DirectorySync(git, "master", dir).sync("chmod");
+        final ArgumentCaptor<JsonObject> params =
+            ArgumentCaptor.forClass(JsonObject.class);
+        Mockito.verify(git.trees()).create(params.capture());
+        final JsonArray entries = params.getValue().getJsonArray("tree");
+        MatcherAssert.assertThat(entries.size(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(
+            entries.getJsonObject(0).getString("mode"),
+            Matchers.equalTo("100755")
+        );
+        Mockito.verify(
+            git.references().get("refs/heads/master"), Mockito.times(1)
+        ).json();
+        Mockito.verify(git.commits(), Mockito.times(1)).get("head");
+    }
+
+    /**
+     * Make Git data with the given tree at the branch head.
+     * @param entries Entries of the tree
+     * @return Git
+     * @throws IOException If fails
+     */
+    private static Git git(final JsonArray entries) throws IOException {
+        final Git git = Mockito.mock(Git.class);
+        final Reference ref = Mockito.mock(Reference.class);
+        Mockito.when(ref.json()).thenReturn(
+            Json.createObjectBuilder().add(
+                "object", Json.createObjectBuilder().add("sha", "head")
+            ).build()
+        );
+        final References refs = Mockito.mock(References.class);
+        Mockito.when(refs.get(Mockito.anyString())).thenReturn(ref);
+        Mockito.when(git.references()).thenReturn(refs);
+        final Commit head = Mockito.mock(Commit.class);
+        Mockito.when(head.json()).thenReturn(
+            Json.createObjectBuilder().add(
+                "tree", Json.createObjectBuilder().add("sha", "root")
+            ).build()
+        );
+        final Commit made = Mockito.mock(Commit.class);
+        Mockito.when(made.sha()).thenReturn("made");
+        final Commits commits = Mockito.mock(Commits.class);
+        Mockito.when(commits.get("head")).thenReturn(head);
+        Mockito.when(commits.create(Mockito.any())).thenReturn(made);
+        Mockito.when(git.commits()).thenReturn(commits);
+        final Blob blob = Mockito.mock(Blob.class);
+        Mockito.when(blob.sha()).thenReturn("blob");
+        final Blobs blobs = Mockito.mock(Blobs.class);
+        Mockito.when(blobs.create(Mockito.anyString(), Mockito.anyString()))
+            .thenReturn(blob);
+        Mockito.when(git.blobs()).thenReturn(blobs);
+        final Tree rec = Mockito.mock(Tree.class);
+        Mockito.when(rec.json()).thenReturn(
+            Json.createObjectBuilder().add("tree", entries).build()
+        );
+        final Tree tree = Mockito.mock(Tree.class);
+        Mockito.when(tree.sha()).thenReturn("tree");
+        final Trees trees = Mockito.mock(Trees.class);
+        Mockito.when(trees.getRec("root")).thenReturn(rec);
+        Mockito.when(trees.create(Mockito.any())).thenReturn(tree);
+        Mockito.when(git.trees()).thenReturn(trees);
+        return git;
+    }
+
+    /**
+     * Make a blob entry.
+     * @param path Path
+     * @param sha SHA
+     * @return Entry
+     */
+    private static JsonObject blob(final String path, final String sha) {
+        return Json.createObjectBuilder()
+            .add("path", path)
+            .add("type", "blob")
+            .add("sha", sha)
+            .build();
+    }
+}
@@ -0,0 +1,871 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringReader;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import javax.json.JsonObjectBuilder;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
+import org.glassfish.grizzly.http.server.HttpHandler;
+import org.glassfish.grizzly.http.server.HttpServer;
+import org.glassfish.grizzly.http.server.NetworkListener;
+import org.glassfish.grizzly.http.server.Request;
+import org.glassfish.grizzly.http.server.Response;
+
+/**
+ * Fake Github, a local HTTP server with the core REST routes.
+ *
+ * <p>Unlike {@link com.jcabi.http.mock.MkGrizzlyContainer}, which answers
+ * with canned responses one by one, it keeps repositories, issues and
+ * comments in memory and serves them the way Github does, with
+ * {@code Link} headers for pagination and {@code X-RateLimit-*} headers,
+ * so {@link RtGithub} and the wires can be run against it at thousands
+ * of requests per second:
+ * <pre>
+ * {@code
+ * try (FakeGithub fake = new FakeGithub()
+ *     .withIssues("jeff/test", 1000)
+ *     .withLatency(5L)
+ *     .withErrors(0.01d, HttpURLConnection.HTTP_BAD_GATEWAY)
+ *     .start(port)) {
+ *     Github github = new RtGithub(new JdkRequest(fake.home()));
+ *     // ...
+ * }
+ * }
+ * </pre>
+ *
+ * <p>Routes served: {@code GET /rate_limit}, {@code GET /user},
+ * {@code GET /users/:login}, {@code POST /user/repos},
+ * {@code GET /repos/:owner/:repo}, {@code GET} and {@code POST} of
+ * {@code /repos/:owner/:repo/issues}, {@code GET} and {@code PATCH} of
+ * {@code /repos/:owner/:repo/issues/:number}, {@code GET} and
+ * {@code POST} of {@code /repos/:owner/:repo/issues/:number/comments}.
+ * {@code HEAD} is served wherever {@code GET} is. Everything else
+ * is {@code 404}.</p>
+ *
+ * <p>Since data may be added before the server is started, the
+ * {@code url} properties of repositories, issues and comments are
+ * paths, not absolute URLs.</p>
+ *
+ * @since 2.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (800 lines)
+ * @checkstyle MultipleStringLiteralsCheck (800 lines)
+ */
+@SuppressWarnings({"PMD.TooManyMethods", "PMD.GodClass"})
+public final class FakeGithub implements AutoCloseable {
+
+    /**
+     * Routes, by pattern of path.
+     */
+    private static final Pattern REPO = Pattern.compile(
+        "^/repos/([^/]+)/([^/]+)(?:/issues(?:/([0-9]+)(/comments)?)?)?$"
+    );
+
+    /**
+     * User.
+     */
+    private static final Pattern USER = Pattern.compile("^/users/([^/]+)$");
+
+    /**
+     * Default page size.
+     */
+    private static final int PAGE = 30;
+
+    /**
+     * Maximum page size.
+     */
+    private static final int MAX_PAGE = 100;
+
+    /**
+     * Login of the authenticated user.
+     */
+    private final transient String login;
+
+    /**
+     * Repositories, by full name.
+     */
+    private final transient ConcurrentMap<String, FakeGithub.Repo> repos;
+
+    /**
+     * Requests served.
+     */
+    private final transient AtomicLong served;
+
+    /**
+     * Remaining requests in the current rate limit window.
+     */
+    private final transient AtomicInteger remaining;
+
+    /**
+     * End of the current rate limit window, in epoch seconds.
+     */
+    private final transient AtomicLong reset;
+
+    /**
+     * Rate limit per hour.
+     */
+    private transient volatile int limit;
+
+    /**
+     * Latency of every answer, in milliseconds.
+     */
+    private transient volatile long latency;
+
+    /**
+     * Share of requests answered with an error.
+     */
+    private transient volatile double errors;
+
+    /**
+     * Status of injected errors.
+     */
+    private transient volatile int failure;
+
+    /**
+     * Server, NULL until started.
+     */
+    private transient HttpServer server;
+
+    /**
+     * Timer of delayed answers, NULL until started.
+     */
+    private transient ScheduledExecutorService timer;
+
+    /**
+     * Home, NULL until started.
+     */
+    private transient URI uri;
+
+    /**
+     * Ctor, with {@code jeff} as the authenticated user.
+     */
+    public FakeGithub() {
+        this("jeff");
+    }
+
+    /**
+     * Ctor.
+     * @param user Login of the authenticated user
+     */
+    public FakeGithub(final String user) {
+        this.login = user;
+        this.repos = new ConcurrentHashMap<>(0);
+        this.served = new AtomicLong();
+        // @checkstyle MagicNumber (1 line)
+        this.limit = 5000;
+        this.remaining = new AtomicInteger(this.limit);
+        this.reset = new AtomicLong(FakeGithub.window());
+        this.failure = HttpURLConnection.HTTP_INTERNAL_ERROR;
+    }
+
+    /**
+     * Set the rate limit per hour.
+     * @param max Requests per hour
+     * @return This
+     */
+    public FakeGithub withRateLimit(final int max) {
+        this.limit = max;
+        this.remaining.set(max);
+        return this;
+    }
+
+    /**
+     * Delay every answer.
+     *
+     * <p>The worker thread of the server is not blocked: the response
+     * is suspended and sent later by a timer, so many delayed requests
+     * may be in flight at once, like with real Github.</p>
+     *
+     * @param msec Delay in milliseconds
+     * @return This
+     */
+    public FakeGithub withLatency(final long msec) {
+        this.latency = msec;
+        return this;
+    }
+
+    /**
+     * Answer a random share of requests with an error.
+     * @param share Share of requests, from 0 to 1
+     * @param status HTTP status of errors
+     * @return This
+     */
+    public FakeGithub withErrors(final double share, final int status) {
+        this.errors = share;
+        this.failure = status;
+        return this;
+    }
+
+    /**
+     * Add a repository.
+     * @param name Full name, like {@code jeff/test}
+     * @return This
+     */
+    public FakeGithub withRepo(final String name) {
+        this.repo(name);
+        return this;
+    }
+
+    /**
+     * Add issues to a repository, making it if necessary.
+     * @param name Full name, like {@code jeff/test}
+     * @param count How many issues to add
+     * @return This
+     */
+    public FakeGithub withIssues(final String name, final int count) {
+        final FakeGithub.Repo repo = this.repo(name);
+        for (int idx = 0; idx < count; ++idx) {
+            repo.issue(
+                this.login,
+                Json.createObjectBuilder()
+                    .add("title", String.format("issue #%d", idx))
+                    .add("body", "")
+                    .build()
+            );
+        }
+        return this;
+    }
+
+    /**
+     * Start it.
+     * @param port Port to listen on, or zero for any free one;
+     *  see {@link #home()} for the port actually bound
+     * @return This
+     * @throws IOException If fails
+     */
+    public FakeGithub start(final int port) throws IOException {
+        this.server = new HttpServer();
+        final NetworkListener listener = new NetworkListener(
+            "fake", "localhost", port
+        );
+        this.server.addListener(listener);
+        this.server.getServerConfiguration().addHttpHandler(
+            new HttpHandler() {
+                @Override
+                public void service(final Request req, final Response resp)
+                    throws IOException {
+                    FakeGithub.this.serve(req, resp);
+                }
+            }
+        );
+        this.timer = Executors.newScheduledThreadPool(
+            Runtime.getRuntime().availableProcessors()
+        );
+        this.server.start();
+        this.uri = URI.create(
+            String.format("http://localhost:%d", listener.getPort())
+        );
+        return this;
+    }
+
+    /**
+     * Home URI, to make requests to.
+     * @return URI
+     */
+    public URI home() {
+        return this.uri;
+    }
+
+    /**
+     * Number of requests served so far.
+     * @return Total
+     */
+    public long requests() {
+        return this.served.get();
+    }
+
+    @Override
+    public void close() {
+        if (this.server != null) {
+            this.server.shutdownNow();
+            this.timer.shutdownNow();
+        }
+    }
+
+    /**
+     * Serve a request.
+     * @param req Request
+     * @param resp Response
+     * @throws IOException If fails
+     */
+    private void serve(final Request req, final Response resp)
+        throws IOException {
+        this.served.incrementAndGet();
+        final String path = req.getRequestURI();
+        final String method = req.getMethod().getMethodString();
+        FakeGithub.Answer answer;
+        if ("/rate_limit".equals(path)) {
+            answer = new FakeGithub.Answer(
+                HttpURLConnection.HTTP_OK, this.limits()
+            );
+        } else if (!this.spend()) {
+            answer = FakeGithub.Answer.error(
+                HttpURLConnection.HTTP_FORBIDDEN,
+                "API rate limit exceeded"
+            );
+        } else if (this.errors > 0.0d
+            && ThreadLocalRandom.current().nextDouble() < this.errors) {
+            answer = FakeGithub.Answer.error(this.failure, "Injected error");
+        } else {
+            answer = this.route(req, method, path);
+        }
+        final long delay = this.latency;
+        if (delay > 0L) {
+            resp.suspend();
+            this.timer.schedule(
+                () -> this.delayed(resp, method, answer),
+                delay, TimeUnit.MILLISECONDS
+            );
+        } else {
+            this.reply(resp, method, answer);
+        }
+    }
+
+    /**
+     * Send the answer of a suspended response and resume it.
+     * @param resp Response
+     * @param method HTTP method
+     * @param answer Answer
+     */
+    private void delayed(final Response resp, final String method,
+        final FakeGithub.Answer answer) {
+        try {
+            this.reply(resp, method, answer);
+        } catch (final IOException ex) {
+            Logger.warn(this, "Failed to send a delayed answer: %s", ex);
+        } finally {
+            resp.resume();
+        }
+    }
+
+    /**
+     * Send the answer.
+     * @param resp Response
+     * @param method HTTP method
+     * @param answer Answer
+     * @throws IOException If fails
+     */
+    private void reply(final Response resp, final String method,
+        final FakeGithub.Answer answer) throws IOException {
+        resp.setStatus(answer.status);
+        resp.setHeader("X-RateLimit-Limit", Integer.toString(this.limit));
+        resp.setHeader(
+            "X-RateLimit-Remaining",
+            Integer.toString(Math.max(0, this.remaining.get()))
+        );
+        resp.setHeader("X-RateLimit-Reset", Long.toString(this.reset.get()));
+        resp.setHeader(
+            "X-RateLimit-Used",
+            Integer.toString(this.limit - Math.max(0, this.remaining.get()))
+        );
+        resp.setHeader("X-RateLimit-Resource", "core");
+        if (!answer.link.isEmpty()) {
+            resp.setHeader("Link", answer.link);
+        }
+        final byte[] body = answer.body.toString()
+            .getBytes(StandardCharsets.UTF_8);
+        resp.setContentType("application/json; charset=utf-8");
+        resp.setContentLength(body.length);
+        if (!"HEAD".equals(method)) {
+            try (OutputStream output = resp.getOutputStream()) {
+                output.write(body);
+            }
+        }
+    }
+
+    /**
+     * Route the request.
+     * @param req Request
+     * @param method HTTP method
+     * @param path Path
+     * @return Answer
+     * @throws IOException If fails
+     */
+    private FakeGithub.Answer route(final Request req, final String method,
+        final String path) throws IOException {
+        final boolean read = "GET".equals(method) || "HEAD".equals(method);
+        final Matcher repo = FakeGithub.REPO.matcher(path);
+        final Matcher user = FakeGithub.USER.matcher(path);
+        FakeGithub.Answer answer = FakeGithub.Answer.error(
+            HttpURLConnection.HTTP_NOT_FOUND, "Not Found"
+        );
+        if ("/user".equals(path) && read) {
+            answer = new FakeGithub.Answer(
+                HttpURLConnection.HTTP_OK, FakeGithub.user(this.login)
+            );
+        } else if (user.matches() && read) {
+            answer = new FakeGithub.Answer(
+                HttpURLConnection.HTTP_OK, FakeGithub.user(user.group(1))
+            );
+        } else if ("/user/repos".equals(path) && "POST".equals(method)) {
+            final String name = String.join(
+                "/", this.login, FakeGithub.body(req).getString("name")
+            );
+            answer = new FakeGithub.Answer(
+                HttpURLConnection.HTTP_CREATED, this.repo(name).json
+            );
+        } else if (repo.matches()) {
+            final FakeGithub.Repo found = this.repos.get(
+                String.join("/", repo.group(1), repo.group(2))
+            );
+            if (found != null) {
+                answer = this.route(req, method, found, repo);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Route the request to a repository.
+     * @param req Request
+     * @param method HTTP method
+     * @param repo Repository
+     * @param matcher Matched path
+     * @return Answer
+     * @throws IOException If fails
+     * @checkstyle ParameterNumberCheck (3 lines)
+     */
+    private FakeGithub.Answer route(final Request req, final String method,
+        final FakeGithub.Repo repo, final Matcher matcher) throws IOException {
+        final boolean read = "GET".equals(method) || "HEAD".equals(method);
+        final boolean issues = matcher.group(0).contains("/issues");
+        FakeGithub.Answer answer = FakeGithub.Answer.error(
+            HttpURLConnection.HTTP_NOT_FOUND, "Not Found"
+        );
+        if (!issues && read) {
+            answer = new FakeGithub.Answer(
+                HttpURLConnection.HTTP_OK, repo.json
+            );
+        } else if (matcher.group(2 + 1) == null && read) {
+            answer = this.page(req, new ArrayList<>(repo.issues.values()));
+        } else if (matcher.group(2 + 1) == null && "POST".equals(method)) {
+            answer = new FakeGithub.Answer(
+                HttpURLConnection.HTTP_CREATED,
+                repo.issue(this.login, FakeGithub.body(req))
+            );
+        } else if (matcher.group(2 + 1) != null) {
+            final int number = Integer.parseInt(matcher.group(2 + 1));
+            final JsonObject issue = repo.issues.get(number);
+            // @checkstyle MagicNumber (1 line)
+            final boolean comments = matcher.group(4) != null;
+            if (issue == null) {
+                answer = FakeGithub.Answer.error(
+                    HttpURLConnection.HTTP_NOT_FOUND, "Not Found"
+                );
+            } else if (!comments && read) {
+                answer = new FakeGithub.Answer(
+                    HttpURLConnection.HTTP_OK, issue
+                );
+            } else if (!comments && "PATCH".equals(method)) {
+                answer = new FakeGithub.Answer(
+                    HttpURLConnection.HTTP_OK,
+                    repo.patch(number, FakeGithub.body(req))
+                );
+            } else if (comments && read) {
+                answer = this.page(req, repo.comments(number));
+            } else if (comments && "POST".equals(method)) {
+                answer = new FakeGithub.Answer(
+                    HttpURLConnection.HTTP_CREATED,
+                    repo.comment(
+                        this.login, number,
+                        FakeGithub.body(req).getString("body", "")
+                    )
+                );
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Make a page of a list, with a {@code Link} header.
+     * @param req Request
+     * @param items All items
+     * @return Answer
+     */
+    private FakeGithub.Answer page(final Request req,
+        final List<JsonObject> items) {
+        final int size = Math.min(
+            FakeGithub.param(req, "per_page", FakeGithub.PAGE),
+            FakeGithub.MAX_PAGE
+        );
+        final int page = Math.max(1, FakeGithub.param(req, "page", 1));
+        final int last = Math.max(1, (items.size() + size - 1) / size);
+        final JsonArrayBuilder array = Json.createArrayBuilder();
+        for (int idx = (page - 1) * size;
+            idx < Math.min(page * size, items.size()); ++idx) {
+            array.add(items.get(idx));
+        }
+        final List<String> links = new ArrayList<>(2 + 2);
+        final String base = String.format(
+            "%s%s?per_page=%d&page=", this.uri, req.getRequestURI(), size
+        );
+        if (page < last) {
+            links.add(String.format("<%s%d>; rel=\"next\"", base, page + 1));
+            links.add(String.format("<%s%d>; rel=\"last\"", base, last));
+        }
+        if (page > 1) {
+            links.add(String.format("<%s%d>; rel=\"prev\"", base, page - 1));
+            links.add(String.format("<%s%d>; rel=\"first\"", base, 1));
+        }
+        return new FakeGithub.Answer(
+            HttpURLConnection.HTTP_OK, array.build(), String.join(", ", links)
+        );
+    }
+
+    /**
+     * Spend one request of the rate limit.
+     * @return TRUE if there was one left
+     */
+    private boolean spend() {
+        final long now = FakeGithub.now();
+        final long end = this.reset.get();
+        if (now >= end && this.reset.compareAndSet(end, FakeGithub.window())) {
+            this.remaining.set(this.limit);
+        }
+        return this.remaining.decrementAndGet() >= 0;
+    }
+
+    /**
+     * Rate limits, as in {@code /rate_limit}.
+     * @return JSON
+     */
+    private JsonObject limits() {
+        final JsonObject core = Json.createObjectBuilder()
+            .add("limit", this.limit)
+            .add("remaining", Math.max(0, this.remaining.get()))
+            .add("reset", this.reset.get())
+            .add("used", this.limit - Math.max(0, this.remaining.get()))
+            .build();
+        return Json.createObjectBuilder()
+            .add("resources", Json.createObjectBuilder().add("core", core))
+            .add("rate", core)
+            .build();
+    }
+
+    /**
+     * Find or make a repository.
+     * @param name Full name
+     * @return Repository
+     */
+    private FakeGithub.Repo repo(final String name) {
+        return this.repos.computeIfAbsent(
+            name, FakeGithub.Repo::new
+        );
+    }
+
+    /**
+     * Integer parameter of the query.
+     * @param req Request
+     * @param name Name of it
+     * @param def Default value
+     * @return Value
+     */
+    private static int param(final Request req, final String name,
+        final int def) {
+        final String value = req.getParameter(name);
+        int param = def;
+        if (value != null && !value.isEmpty()) {
+            param = Integer.parseInt(value);
+        }
+        return param;
+    }
+
+    /**
+     * JSON body of the request.
+     * @param req Request
+     * @return JSON object, empty if there is no body
+     * @throws IOException If fails
+     */
+    private static JsonObject body(final Request req) throws IOException {
+        final byte[] bytes = new byte[Math.max(0, req.getContentLength())];
+        int done = 0;
+        while (done < bytes.length) {
+            final int len = req.getInputStream()
+                .read(bytes, done, bytes.length - done);
+            if (len < 0) {
+                break;
+            }
+            done += len;
+        }
+        JsonObject json = JsonValue.EMPTY_JSON_OBJECT;
+        if (done > 0) {
+            json = Json.createReader(
+                new StringReader(
+                    new String(bytes, 0, done, StandardCharsets.UTF_8)
+                )
+            ).readObject();
+        }
+        return json;
+    }
+
+    /**
+     * User.
+     * @param name Login
+     * @return JSON
+     */
+    private static JsonObject user(final String name) {
+        return Json.createObjectBuilder()
+            .add("login", name)
+            .add("name", name)
+            .add("type", "User")
+            .build();
+    }
+
+    /**
+     * Now, in epoch seconds.
+     * @return Seconds
+     */
+    private static long now() {
+        return TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis());
+    }
+
+    /**
+     * End of a rate limit window starting now.
+     * @return Epoch seconds
+     */
+    private static long window() {
+        return FakeGithub.now() + TimeUnit.HOURS.toSeconds(1L);
+    }
+
+    /**
+     * Answer.
+     * @since 2.0
+     */
+    private static final class Answer {
+        /**
+         * HTTP status.
+         */
+        private final transient int status;
+        /**
+         * Body.
+         */
+        private final transient JsonStructure body;
+        /**
+         * Link header, empty if none.
+         */
+        private final transient String link;
+        /**
+         * Ctor.
+         * @param code HTTP status
+         * @param json Body
+         */
+        Answer(final int code, final JsonStructure json) {
+            this(code, json, "");
+        }
+        /**
+         * Ctor.
+         * @param code HTTP status
+         * @param json Body
+         * @param links Link header
+         */
+        Answer(final int code, final JsonStructure json, final String links) {
+            this.status = code;
+            this.body = json;
+            this.link = links;
+        }
+        /**
+         * Error.
+         * @param code HTTP status
+         * @param message Message
+         * @return Answer
+         */
+        static FakeGithub.Answer error(final int code, final String message) {
+            return new FakeGithub.Answer(
+                code,
+                Json.createObjectBuilder().add("message", message).build()
+            );
+        }
+    }
+
+    /**
+     * Repository in memory.
+     * @since 2.0
+     */
+    private static final class Repo {
+        /**
+         * JSON of it.
+         */
+        private final transient JsonObject json;
+        /**
+         * Path of it in the API.
+         */
+        private final transient String url;
+        /**
+         * Issues, by number.
+         */
+        private final transient ConcurrentNavigableMap<Integer, JsonObject>
+            issues;
+        /**
+         * Comments, by number of issue.
+         */
+        private final transient ConcurrentMap<Integer, List<JsonObject>>
+            notes;
+        /**
+         * Last number of an issue.
+         */
+        private final transient AtomicInteger numbers;
+        /**
+         * Last ID of a comment.
+         */
+        private final transient AtomicLong ids;
+        /**
+         * Ctor.
+         * @param name Full name
+         */
+        Repo(final String name) {
+            this.url = String.join("/", "/repos", name);
+            final String[] parts = name.split("/", 2);
+            this.json = Json.createObjectBuilder()
+                .add("name", parts[1])
+                .add("full_name", name)
+                .add("owner", FakeGithub.user(parts[0]))
+                .add("private", false)
+                .add("description", "")
+                .add("default_branch", "master")
+                .add("url", this.url)
+                .build();
+            this.issues = new ConcurrentSkipListMap<>();
+            this.notes = new ConcurrentHashMap<>(0);
+            this.numbers = new AtomicInteger();
+            this.ids = new AtomicLong();
+        }
+        /**
+         * Make an issue.
+         * @param author Login of the author
+         * @param fields Title and body
+         * @return JSON of the issue
+         */
+        JsonObject issue(final String author, final JsonObject fields) {
+            final int number = this.numbers.incrementAndGet();
+            final String now = new Github.Time().toString();
+            final JsonObject issue = Json.createObjectBuilder()
+                .add("number", number)
+                .add("url", String.format("%s/issues/%d", this.url, number))
+                .add("title", fields.getString("title", ""))
+                .add("body", fields.getString("body", ""))
+                .add("state", Issue.OPEN_STATE)
+                .add("locked", false)
+                .add("user", FakeGithub.user(author))
+                .add("labels", Json.createArrayBuilder())
+                .add("comments", 0)
+                .add("created_at", now)
+                .add("updated_at", now)
+                .build();
+            this.issues.put(number, issue);
+            return issue;
+        }
+        /**
+         * Patch an issue.
+         * @param number Number of it
+         * @param fields Fields to change
+         * @return JSON of the issue
+         */
+        JsonObject patch(final int number, final JsonObject fields) {
+            return this.issues.computeIfPresent(
+                number,
+                (key, issue) -> {
+                    final JsonObjectBuilder patched =
+                        Json.createObjectBuilder();
+                    for (final Map.Entry<String, JsonValue> entry
+                        : issue.entrySet()) {
+                        patched.add(entry.getKey(), entry.getValue());
+                    }
+                    for (final Map.Entry<String, JsonValue> entry
+                        : fields.entrySet()) {
+                        patched.add(entry.getKey(), entry.getValue());
+                    }
+                    return patched
+                        .add("updated_at", new Github.Time().toString())
+                        .build();
+                }
+            );
+        }
+        /**
+         * Comments of an issue.
+         * @param number Number of it
+         * @return Comments
+         */
+        List<JsonObject> comments(final int number) {
+            return this.notes.computeIfAbsent(
+                number, key -> new CopyOnWriteArrayList<>()
+            );
+        }
+        /**
+         * Post a comment.
+         * @param author Login of the author
+         * @param number Number of the issue
+         * @param text Text of it
+         * @return JSON of the comment
+         */
+        JsonObject comment(final String author, final int number,
+            final String text) {
+            final long id = this.ids.incrementAndGet();
+            final String now = new Github.Time().toString();
+            final JsonObject comment = Json.createObjectBuilder()
+                .add("id", id)
+                .add(
+                    "url",
+                    String.format("%s/issues/comments/%d", this.url, id)
+                )
+                .add("body", text)
+                .add("user", FakeGithub.user(author))
+                .add("created_at", now)
+                .add("updated_at", now)
+                .build();
+            this.comments(number).add(comment);
+            return comment;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.http.Request;
+import com.jcabi.http.request.ApacheRequest;
+import com.jcabi.http.request.JdkRequest;
+import com.jcabi.http.response.RestResponse;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test case for {@link FakeGithub}.
+ *
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (200 lines)
+ */
+public final class FakeGithubTest {
+
+    /**
+     * The rule for skipping test if there's BindException.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient RandomPort resource = new RandomPort();
+
+    /**
+     * FakeGithub serves issues created by RtGithub, page by page.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void servesIssuesPageByPage() throws Exception {
+        try (FakeGithub fake = new FakeGithub()
+            .withIssues("jeff/seeded", 45)
+            .start(this.resource.port())) {
+            final Github github = new RtGithub(new ApacheRequest(fake.home()));
+            final Repo repo = github.repos().create(
+                new Repos.RepoCreate("test", false)
+            );
+            MatcherAssert.assertThat(
+                repo.coordinates().toString(), Matchers.equalTo("jeff/test")
+            );
+            final Issue issue = repo.issues().create("hello", "world");
+            new Issue.Smart(issue).title("bye");
+            issue.comments().post("first");
+            MatcherAssert.assertThat(
+                new Issue.Smart(issue).title(), Matchers.equalTo("bye")
+            );
+            MatcherAssert.assertThat(
+                issue.comments().iterate(new Date(0L)),
+                Matchers.iterableWithSize(1)
+            );
+            MatcherAssert.assertThat(
+                github.repos().get(new Coordinates.Simple("jeff/seeded"))
+                    .issues().iterate(Collections.emptyMap()),
+                Matchers.iterableWithSize(45)
+            );
+        }
+    }
+
+    /**
+     * FakeGithub enforces the rate limit and reports it in headers.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void enforcesRateLimit() throws Exception {
+        try (FakeGithub fake = new FakeGithub()
+            .withRateLimit(2)
+            .start(this.resource.port())) {
+            final Request req = new JdkRequest(fake.home()).uri()
+                .path("/user").back();
+            req.fetch().as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK)
+                .assertHeader("X-RateLimit-Remaining", "1");
+            req.fetch().as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK);
+            req.fetch().as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_FORBIDDEN)
+                .assertHeader("X-RateLimit-Remaining", "0");
+        }
+    }
+
+    /**
+     * FakeGithub injects errors.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void injectsErrors() throws Exception {
+        try (FakeGithub fake = new FakeGithub()
+            .withErrors(1.0d, HttpURLConnection.HTTP_BAD_GATEWAY)
+            .start(this.resource.port())) {
+            new JdkRequest(fake.home()).uri().path("/user").back()
+                .fetch().as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_BAD_GATEWAY);
+        }
+    }
+
+    /**
+     * FakeGithub serves concurrent clients.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void servesConcurrentClients() throws Exception {
+        final int threads = 8;
+        final int each = 100;
+        try (FakeGithub fake = new FakeGithub()
+            .withIssues("jeff/load", 10)
+            .start(this.resource.port())) {
+            final Repo repo = new RtGithub(new JdkRequest(fake.home()))
+                .repos().get(new Coordinates.Simple("jeff/load"));
+            final ExecutorService pool = Executors.newFixedThreadPool(threads);
+            try {
+                final Collection<Callable<Integer>> tasks = new ArrayList<>(0);
+                for (int thread = 0; thread < threads; ++thread) {
+                    tasks.add(
+                        () -> {
+                            int done = 0;
+                            for (int idx = 0; idx < each; ++idx) {
+                                new Issue.Smart(
+                                    repo.issues().get(idx % 10 + 1)
+                                ).title();
+                                done += 1;
+                            }
+                            return done;
+                        }
+                    );
+                }
+                int total = 0;
+                for (final Future<Integer> future : pool.invokeAll(tasks)) {
+                    total += future.get();
+                }
+                MatcherAssert.assertThat(
+                    total, Matchers.equalTo(threads * each)
+                );
+            } finally {
+                pool.shutdown();
+            }
+            MatcherAssert.assertThat(
+                fake.requests(), Matchers.equalTo((long) threads * each)
+            );
+        }
+    }
+
+    /**
+     * FakeGithub reports the port it is bound to.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void reportsBoundPort() throws Exception {
+        try (FakeGithub fake = new FakeGithub().start(0)) {
+            MatcherAssert.assertThat(
+                fake.home().getPort(), Matchers.greaterThan(0)
+            );
+            new JdkRequest(fake.home()).uri().path("/user").back()
+                .fetch().as(RestResponse.class)
+                .assertStatus(HttpURLConnection.HTTP_OK);
+        }
+    }
+
+    /**
+     * FakeGithub delays answers without holding its worker threads.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void delaysManyAnswersAtOnce() throws Exception {
+        final int clients = 64;
+        final long delay = 500L;
+        try (FakeGithub fake = new FakeGithub()
+            .withLatency(delay)
+            .start(this.resource.port())) {
+            final Request req = new JdkRequest(fake.home()).uri()
+                .path("/user").back();
+            final ExecutorService pool = Executors.newFixedThreadPool(clients);
+            try {
+                final Collection<Callable<Integer>> tasks = new ArrayList<>(0);
+                for (int idx = 0; idx < clients; ++idx) {
+                    tasks.add(() -> req.fetch().status());
+                }
+                final long start = System.nanoTime();
+                for (final Future<Integer> future : pool.invokeAll(tasks)) {
+                    MatcherAssert.assertThat(
+                        future.get(),
+                        Matchers.equalTo(HttpURLConnection.HTTP_OK)
+                    );
+                }
+                final long msec = TimeUnit.NANOSECONDS.toMillis(
+                    System.nanoTime() - start
+                );
+                MatcherAssert.assertThat(
+                    msec, Matchers.greaterThanOrEqualTo(delay)
+                );
+                MatcherAssert.assertThat(
+                    msec, Matchers.lessThan(delay * 8L)
+                );
+            } finally {
+                pool.shutdown();
+            }
+        }
+    }
+}
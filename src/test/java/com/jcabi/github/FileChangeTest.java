@@ -170,6 +170,21 @@ public final class FileChangeTest {
         );
     }
 
+    /**
+     * FileChange.Smart can parse hunks of the file's diff patch string.
+     * @throws IOException If there is an I/O problem
+     */
+    @Test
+    public void getsHunks() throws IOException {
+        MatcherAssert.assertThat(
+            stringFileChange(
+                "patch",
+                "@@ -1,2 +1,2 @@\n-a\n+b\n c\n@@ -9 +9,2 @@\n+d"
+            ).hunks(),
+            Matchers.iterableWithSize(2)
+        );
+    }
+
     /**
      * FileChange.Smart can get the URL for the file's raw content.
      * @throws IOException If there is an I/O problem
@@ -0,0 +1,101 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.util.Iterator;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link Hunks}.
+ * @since 2.0
+ */
+public final class HunksTest {
+
+    /**
+     * Hunks can parse line ranges and count changes.
+     */
+    @Test
+    public void parsesRangesAndCounts() {
+        final Iterator<Hunks.Hunk> hunks = new Hunks(
+            String.join(
+                "\n",
+                "diff --git a/x b/x",
+                "--- a/x",
+                "+++ b/x",
+                "@@ -10,3 +10,4 @@ class Foo",
+                " one",
+                "-two",
+                "+three",
+                "+four",
+                " five",
+                "@@ -40 +41 @@",
+                "-six",
+                "+seven"
+            )
+        ).iterator();
+        final Hunks.Hunk first = hunks.next();
+        MatcherAssert.assertThat(first.oldStart(), Matchers.equalTo(10));
+        MatcherAssert.assertThat(first.oldLines(), Matchers.equalTo(3));
+        MatcherAssert.assertThat(first.newLines(), Matchers.equalTo(4));
+        MatcherAssert.assertThat(first.additions(), Matchers.equalTo(2));
+        MatcherAssert.assertThat(first.deletions(), Matchers.equalTo(1));
+        final Hunks.Hunk second = hunks.next();
+        MatcherAssert.assertThat(second.newStart(), Matchers.equalTo(41));
+        MatcherAssert.assertThat(second.newLines(), Matchers.equalTo(1));
+        MatcherAssert.assertThat(hunks.hasNext(), Matchers.is(false));
+    }
+
+    /**
+     * Hunks can iterate lines of a hunk as views.
+     */
+    @Test
+    public void iteratesLines() {
+        final Iterator<CharSequence> lines = new Hunks(
+            "@@ -1 +1 @@\r\n-old\r\n+new\r\n"
+        ).iterator().next().lines().iterator();
+        MatcherAssert.assertThat(
+            lines.next().toString(), Matchers.equalTo("-old")
+        );
+        MatcherAssert.assertThat(
+            lines.next().toString(), Matchers.equalTo("+new")
+        );
+        MatcherAssert.assertThat(lines.hasNext(), Matchers.is(false));
+    }
+
+    /**
+     * Hunks can handle a text without hunks.
+     */
+    @Test
+    public void handlesEmptyText() {
+        MatcherAssert.assertThat(new Hunks(""), Matchers.emptyIterable());
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.nio.charset.StandardCharsets;
+import javax.json.Json;
+import javax.json.JsonArray;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link JsonBackend}.
+ *
+ * @since 2.0
+ */
+public final class JsonBackendTest {
+
+    /**
+     * Sample document.
+     */
+    private static final String SAMPLE = String.join(
+        "",
+        "{\"id\":1,\"big\":12345678901234567890,\"long\":9876543210,",
+        "\"ratio\":0.25,\"name\":\"h\\u00e9llo \\\"x\\\"\",\"ok\":true,",
+        "\"no\":false,\"none\":null,\"user\":{\"login\":\"jeff\"},",
+        "\"labels\":[1,\"a\",[],{}]}"
+    );
+
+    /**
+     * Jackson backend can parse objects as the standard one does.
+     */
+    @Test
+    public void parsesObjectsLikeStandard() {
+        final byte[] bytes = JsonBackendTest.SAMPLE
+            .getBytes(StandardCharsets.UTF_8);
+        final JsonObject jackson = new JsonBackend.Jackson().object(bytes);
+        MatcherAssert.assertThat(
+            jackson,
+            Matchers.equalTo(new JsonBackend.Standard().object(bytes))
+        );
+        MatcherAssert.assertThat(
+            jackson.getString("name"),
+            Matchers.equalTo("héllo \"x\"")
+        );
+        MatcherAssert.assertThat(
+            jackson.getJsonNumber("big").bigIntegerValue().toString(),
+            Matchers.equalTo("12345678901234567890")
+        );
+    }
+
+    /**
+     * Jackson backend can parse arrays as the standard one does.
+     */
+    @Test
+    public void parsesArraysLikeStandard() {
+        final byte[] bytes = Json.createArrayBuilder()
+            .add(Json.createObjectBuilder().add("number", 1))
+            .add(Json.createObjectBuilder().add("number", 2))
+            .build().toString().getBytes(StandardCharsets.UTF_8);
+        final JsonArray jackson = new JsonBackend.Jackson().array(bytes);
+        MatcherAssert.assertThat(
+            jackson,
+            Matchers.equalTo(new JsonBackend.Standard().array(bytes))
+        );
+        MatcherAssert.assertThat(
+            jackson.getJsonObject(1).getInt("number"),
+            Matchers.is(2)
+        );
+    }
+
+    /**
+     * Jackson backend can reject an array where an object is expected.
+     */
+    @Test(expected = JsonException.class)
+    public void rejectsWrongRoot() {
+        new JsonBackend.Jackson().object(
+            "[]".getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Jackson backend can reject malformed JSON.
+     */
+    @Test(expected = JsonException.class)
+    public void rejectsMalformedJson() {
+        new JsonBackend.Jackson().object(
+            "{\"a\":1} {".getBytes(StandardCharsets.UTF_8)
+        );
+    }
+
+    /**
+     * Default backend can pick Jackson when it is on the classpath.
+     */
+    @Test
+    public void picksJacksonByDefault() {
+        MatcherAssert.assertThat(
+            JsonBackend.DEFAULT,
+            Matchers.hasToString("jackson")
+        );
+    }
+}
@@ -0,0 +1,219 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import javax.json.Json;
+import javax.json.JsonException;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link LazyJson}.
+ *
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (500 lines)
+ */
+public final class LazyJsonTest {
+
+    /**
+     * Sample document, with escapes, nesting and blanks.
+     */
+    private static final String SAMPLE = String.join(
+        "\n",
+        "{",
+        "  \"id\": 42, \"ratio\": -1.5e3,",
+        "  \"title\" : \"café \\\"quoted\\\" \\u0041\\n\\\\\",",
+        "  \"draft\": false, \"merged\": true, \"body\": null,",
+        "  \"head\": {\"sha\": \"abc\", \"repo\": {\"name\": \"x}\"}},",
+        "  \"labels\": [ {\"name\": \"bug\"}, \"[\", 7, [] ],",
+        "  \"empty\": {}",
+        "}  "
+    );
+
+    /**
+     * LazyJson can read values of all types.
+     */
+    @Test
+    public void readsValues() {
+        final JsonObject json = LazyJsonTest.lazy(LazyJsonTest.SAMPLE);
+        MatcherAssert.assertThat(json.getInt("id"), Matchers.is(42));
+        MatcherAssert.assertThat(
+            json.getJsonNumber("ratio").doubleValue(),
+            Matchers.is(-1500.0)
+        );
+        MatcherAssert.assertThat(
+            json.getString("title"),
+            Matchers.equalTo("café \"quoted\" A\n\\")
+        );
+        MatcherAssert.assertThat(json.getBoolean("draft"), Matchers.is(false));
+        MatcherAssert.assertThat(json.getBoolean("merged"), Matchers.is(true));
+        MatcherAssert.assertThat(json.isNull("body"), Matchers.is(true));
+        MatcherAssert.assertThat(
+            json.getJsonObject("head").getJsonObject("repo")
+                .getString("name"),
+            Matchers.equalTo("x}")
+        );
+        MatcherAssert.assertThat(
+            json.getJsonArray("labels").getJsonObject(0).getString("name"),
+            Matchers.equalTo("bug")
+        );
+        MatcherAssert.assertThat(
+            json.getJsonObject("empty").isEmpty(),
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * LazyJson can fall back to defaults.
+     */
+    @Test
+    public void fallsBackToDefaults() {
+        final JsonObject json = LazyJsonTest.lazy(LazyJsonTest.SAMPLE);
+        MatcherAssert.assertThat(
+            json.getString("absent", "none"),
+            Matchers.equalTo("none")
+        );
+        MatcherAssert.assertThat(json.getInt("title", -1), Matchers.is(-1));
+        MatcherAssert.assertThat(
+            json.getBoolean("body", true),
+            Matchers.is(true)
+        );
+        MatcherAssert.assertThat(json.get("absent"), Matchers.nullValue());
+    }
+
+    /**
+     * LazyJson can be equal to the same object parsed eagerly.
+     */
+    @Test
+    public void equalsEagerlyParsedObject() {
+        final JsonObject eager = Json.createReader(
+            new StringReader(LazyJsonTest.SAMPLE)
+        ).readObject();
+        final JsonObject json = LazyJsonTest.lazy(LazyJsonTest.SAMPLE);
+        MatcherAssert.assertThat(json, Matchers.equalTo(eager));
+        MatcherAssert.assertThat(eager, Matchers.equalTo(json));
+        MatcherAssert.assertThat(
+            json.keySet(),
+            Matchers.contains(eager.keySet().toArray())
+        );
+        MatcherAssert.assertThat(
+            Json.createReader(new StringReader(json.toString())).readObject(),
+            Matchers.equalTo(eager)
+        );
+    }
+
+    /**
+     * LazyJson can let the last of repeated fields win.
+     */
+    @Test
+    public void keepsLastRepeatedField() {
+        final JsonObject json = LazyJsonTest.lazy("{\"a\":1,\"b\":2,\"a\":3}");
+        MatcherAssert.assertThat(json.size(), Matchers.is(2));
+        MatcherAssert.assertThat(json.getInt("a"), Matchers.is(3));
+    }
+
+    /**
+     * LazyJson can reject a truncated object.
+     */
+    @Test(expected = JsonException.class)
+    public void rejectsTruncatedObject() {
+        LazyJsonTest.lazy("{\"a\": [1, 2").get("a");
+    }
+
+    /**
+     * LazyJson can reject misspelled literals, not only their first letter.
+     */
+    @Test
+    public void rejectsMisspelledLiterals() {
+        for (final String text : new String[] {
+            "{\"a\":trux}", "{\"a\":nul}", "{\"a\":[fals]}",
+            "{\"a\":truex}", "{\"a\":01}", "{\"a\":1.}",
+        }) {
+            MatcherAssert.assertThat(
+                text,
+                LazyJsonTest.malformed(text),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * LazyJson can reject malformed nested containers.
+     */
+    @Test
+    public void rejectsMalformedNestedContainers() {
+        for (final String text : new String[] {
+            "{\"a\":{\"b\":1,}}", "{\"a\":[1,]}", "{\"a\":{\"b\" 1}}",
+            "{\"a\":[1 2]}", "{\"a\":{\"b\":\"\\x\"}}",
+        }) {
+            MatcherAssert.assertThat(
+                text,
+                LazyJsonTest.malformed(text),
+                Matchers.is(true)
+            );
+        }
+    }
+
+    /**
+     * LazyJson can reject an array instead of an object.
+     */
+    @Test(expected = JsonException.class)
+    public void rejectsArray() {
+        LazyJsonTest.lazy("[1]").size();
+    }
+
+    /**
+     * Is the text rejected?
+     * @param text JSON text
+     * @return TRUE if it is
+     */
+    private static boolean malformed(final String text) {
+        boolean failed = false;
+        try {
+            LazyJsonTest.lazy(text);
+        } catch (final JsonException ex) {
+            failed = true;
+        }
+        return failed;
+    }
+
+    /**
+     * Lazy object from the text.
+     * @param text JSON text
+     * @return Object
+     */
+    private static JsonObject lazy(final String text) {
+        return new LazyJson(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
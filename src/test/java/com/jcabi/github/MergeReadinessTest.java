@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.github.mock.MkChecks;
+import com.jcabi.github.mock.MkGithub;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.mock.MkQueryMatchers;
+import com.jcabi.http.request.JdkRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Map;
+import javax.json.Json;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test case for {@link MergeReadiness}.
+ *
+ * @since 2.0
+ * @checkstyle ClassDataAbstractionCouplingCheck (500 lines)
+ */
+public final class MergeReadinessTest {
+
+    /**
+     * The rule for skipping test if there's BindException.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient RandomPort resource = new RandomPort();
+
+    /**
+     * MergeReadiness can evaluate open pull requests.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void evaluatesOpenPulls() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    Json.createArrayBuilder()
+                        .add(MergeReadinessTest.pull(1, "aaa"))
+                        .add(MergeReadinessTest.pull(2, "bbb"))
+                        .build().toString()
+                ),
+                MkQueryMatchers.hasPath(Matchers.endsWith("/pulls"))
+            )
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    MergeReadinessTest.runs("success")
+                ),
+                MkQueryMatchers.hasPath(Matchers.containsString("/aaa/"))
+            )
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    MergeReadinessTest.runs("failure")
+                ),
+                MkQueryMatchers.hasPath(Matchers.containsString("/bbb/"))
+            )
+            .start(this.resource.port())) {
+            final Map<Integer, Boolean> ready = new MergeReadiness(
+                new RtGithub(new JdkRequest(container.home()))
+                    .repos()
+                    .get(new Coordinates.Simple("user", "repo")),
+                2,
+                Integer.MAX_VALUE
+            ).evaluate();
+            MatcherAssert.assertThat(ready, Matchers.hasEntry(1, true));
+            MatcherAssert.assertThat(ready, Matchers.hasEntry(2, false));
+            MatcherAssert.assertThat(container.queries(), Matchers.is(3));
+        }
+    }
+
+    /**
+     * MergeReadiness can consider a pull request without check runs
+     * not ready.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void needsCheckRuns() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    Json.createArrayBuilder()
+                        .add(MergeReadinessTest.pull(1, "eee"))
+                        .build().toString()
+                )
+            )
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    Json.createObjectBuilder()
+                        .add("total_count", 0)
+                        .add("check_runs", Json.createArrayBuilder())
+                        .build().toString()
+                )
+            )
+            .start(this.resource.port())) {
+            MatcherAssert.assertThat(
+                new MergeReadiness(
+                    new RtGithub(new JdkRequest(container.home()))
+                        .repos()
+                        .get(new Coordinates.Simple("user", "repo"))
+                ).evaluate(),
+                Matchers.hasEntry(1, false)
+            );
+        }
+    }
+
+    /**
+     * MergeReadiness can stay within its cap.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void staysWithinCap() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    Json.createArrayBuilder()
+                        .add(MergeReadinessTest.pull(1, "ccc"))
+                        .add(MergeReadinessTest.pull(2, "ddd"))
+                        .build().toString()
+                )
+            )
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    MergeReadinessTest.runs("success")
+                )
+            )
+            .start(this.resource.port())) {
+            final Map<Integer, Boolean> ready = new MergeReadiness(
+                new RtGithub(new JdkRequest(container.home()))
+                    .repos()
+                    .get(new Coordinates.Simple("user", "repo")),
+                2,
+                1
+            ).evaluate();
+            MatcherAssert.assertThat(ready.keySet(), Matchers.contains(1));
+            MatcherAssert.assertThat(container.queries(), Matchers.is(2));
+        }
+    }
+
+    /**
+     * MergeReadiness can evaluate pull requests of any repo.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void evaluatesMockPulls() throws IOException {
+        final Repo repo = new MkGithub().randomRepo();
+        final Pull green = repo.pulls().create("green", "aaa", "master");
+        ((MkChecks) green.checks()).create(
+            Check.Status.COMPLETED, Check.Conclusion.SUCCESS
+        );
+        final Pull fresh = repo.pulls().create("fresh", "bbb", "master");
+        final Map<Integer, Boolean> ready =
+            new MergeReadiness(repo).evaluate();
+        MatcherAssert.assertThat(
+            ready, Matchers.hasEntry(green.number(), true)
+        );
+        MatcherAssert.assertThat(
+            ready, Matchers.hasEntry(fresh.number(), false)
+        );
+    }
+
+    /**
+     * Pull request in a listing.
+     * @param number Number
+     * @param sha Head SHA
+     * @return JSON
+     */
+    private static JsonObject pull(
+        final int number, final String sha
+    ) {
+        return Json.createObjectBuilder()
+            .add("number", number)
+            .add("head", Json.createObjectBuilder().add("sha", sha))
+            .build();
+    }
+
+    /**
+     * Check runs with a single completed run.
+     * @param conclusion Conclusion of the run
+     * @return JSON
+     */
+    private static String runs(final String conclusion) {
+        return Json.createObjectBuilder()
+            .add("total_count", 1)
+            .add(
+                "check_runs",
+                Json.createArrayBuilder().add(
+                    Json.createObjectBuilder()
+                        .add("id", 1)
+                        .add("status", "completed")
+                        .add("conclusion", conclusion)
+                )
+            )
+            .build().toString();
+    }
+}
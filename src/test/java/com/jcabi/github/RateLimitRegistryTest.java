@@ -0,0 +1,181 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link RateLimitRegistry}.
+ *
+ * @since 2.0
+ */
+public final class RateLimitRegistryTest {
+
+    /**
+     * A reset time far in the future, in epoch seconds (2100-01-01).
+     */
+    private static final long FUTURE = 4_102_444_800L;
+
+    /**
+     * RateLimitRegistry can remember limits from headers.
+     */
+    @Test
+    public void remembersHeaders() {
+        final RateLimitRegistry registry = new RateLimitRegistry();
+        registry.update(
+            RateLimitRegistryTest.headers(
+                "search", 30, 28, RateLimitRegistryTest.FUTURE
+            )
+        );
+        final JsonObject json = registry.get(Limits.SEARCH);
+        MatcherAssert.assertThat(json.getInt("limit"), Matchers.is(30));
+        MatcherAssert.assertThat(json.getInt("remaining"), Matchers.is(28));
+        MatcherAssert.assertThat(json.getInt("used"), Matchers.is(2));
+        MatcherAssert.assertThat(
+            registry.get(Limits.CORE),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * RateLimitRegistry can ignore stale headers.
+     */
+    @Test
+    public void ignoresStaleHeaders() {
+        final RateLimitRegistry registry = new RateLimitRegistry();
+        registry.update(
+            RateLimitRegistryTest.headers(
+                "core", 5000, 10, RateLimitRegistryTest.FUTURE + 1L
+            )
+        );
+        registry.update(
+            RateLimitRegistryTest.headers(
+                "core", 5000, 11, RateLimitRegistryTest.FUTURE + 1L
+            )
+        );
+        registry.update(
+            RateLimitRegistryTest.headers(
+                "core", 5000, 90, RateLimitRegistryTest.FUTURE
+            )
+        );
+        MatcherAssert.assertThat(
+            registry.get(Limits.CORE).getInt("remaining"),
+            Matchers.is(10)
+        );
+        registry.update(
+            RateLimitRegistryTest.headers(
+                "core", 5000, 4999, RateLimitRegistryTest.FUTURE + 2L
+            )
+        );
+        MatcherAssert.assertThat(
+            registry.get(Limits.CORE).getInt("remaining"),
+            Matchers.is(4999)
+        );
+    }
+
+    /**
+     * RateLimitRegistry can forget a snapshot once its window resets.
+     */
+    @Test
+    public void forgetsResetWindow() {
+        final RateLimitRegistry registry = new RateLimitRegistry();
+        registry.update(
+            RateLimitRegistryTest.headers(
+                "core", 5000, 0,
+                TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())
+            )
+        );
+        MatcherAssert.assertThat(
+            registry.get(Limits.CORE),
+            Matchers.nullValue()
+        );
+    }
+
+    /**
+     * Limits.Observed can read limits with no request.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    public void servesObservedLimits() throws Exception {
+        final RateLimitRegistry registry = new RateLimitRegistry();
+        registry.update(
+            RateLimitRegistryTest.headers(
+                "core", 5000, 42, RateLimitRegistryTest.FUTURE
+            )
+        );
+        final Limits origin = Mockito.mock(Limits.class);
+        final Limit fallback = Mockito.mock(Limit.class);
+        Mockito.doReturn(fallback).when(origin).get(Mockito.anyString());
+        final Limits limits = new Limits.Observed(origin, registry);
+        MatcherAssert.assertThat(
+            new Limit.Smart(limits.get(Limits.CORE)).remaining(),
+            Matchers.is(42)
+        );
+        Mockito.verify(fallback, Mockito.never()).json();
+        limits.get(Limits.SEARCH).json();
+        Mockito.verify(fallback).json();
+    }
+
+    /**
+     * Rate limit headers.
+     * @param resource Resource
+     * @param limit Limit
+     * @param remaining Remaining
+     * @param reset Reset
+     * @return Headers
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static Map<String, List<String>> headers(final String resource,
+        final int limit, final int remaining, final long reset) {
+        final Map<String, List<String>> headers = new HashMap<>(0);
+        headers.put(
+            "x-ratelimit-resource", Arrays.asList(resource)
+        );
+        headers.put(
+            "X-RateLimit-Limit", Arrays.asList(String.valueOf(limit))
+        );
+        headers.put(
+            "X-RateLimit-Remaining", Arrays.asList(String.valueOf(remaining))
+        );
+        headers.put(
+            "X-RateLimit-Reset", Arrays.asList(String.valueOf(reset))
+        );
+        return headers;
+    }
+}
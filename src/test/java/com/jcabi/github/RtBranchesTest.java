@@ -112,27 +112,22 @@ public final class RtBranchesTest {
     }
 
     /**
-     * RtBranches can find one branck by name.
+     * RtBranches can find one branch by name with a single request.
      * @throws Exception if there is any error
      */
     @Test
     public void findBranch() throws Exception {
-        final String thirdname = "third";
-        final String thirdsha = "297b87b0b0983a54dd5817a971b1aca044105897";
         final String fourthname = "fourth";
         final String fourthsha = "d0d4e8881eebe04c5d8dc2acf9c952f0cbb249ff";
-        final MkAnswer answer = new MkAnswer.Simple(
-            HttpURLConnection.HTTP_OK,
-            Json.createArrayBuilder()
-                .add(branch(thirdname, thirdsha))
-                .add(branch(fourthname, fourthsha))
-                .build().toString()
-        );
         try (
             final MkContainer container = new MkGrizzlyContainer()
-                .next(answer)
-                .next(answer)
-                .start(this.resource.port());
+                .next(
+                    new MkAnswer.Simple(
+                        HttpURLConnection.HTTP_OK,
+                        branch(fourthname, fourthsha).toString()
+                    )
+                )
+                .start(this.resource.port())
         ) {
             final RtBranches branches = new RtBranches(
                 new JdkRequest(container.home()),
@@ -145,10 +140,30 @@ public final class RtBranchesTest {
                     fourthsha
                 )
             );
+            MatcherAssert.assertThat(
+                container.take().uri().toString(),
+                Matchers.endsWith("/branches/fourth")
+            );
             container.stop();
         }
     }
 
+    /**
+     * RtBranches can return NULL for an absent branch.
+     * @throws Exception if there is any error
+     */
+    @Test
+    public void findsNoBranch() throws Exception {
+        final RtBranches branches = new RtBranches(
+            new FakeRequest().withStatus(HttpURLConnection.HTTP_NOT_FOUND),
+            new MkGithub().randomRepo()
+        );
+        MatcherAssert.assertThat(
+            branches.find("absent"),
+            Matchers.nullValue()
+        );
+    }
+
     /**
      * RtBranches can fetch its repository.
      * @throws IOException If there is any I/O problem
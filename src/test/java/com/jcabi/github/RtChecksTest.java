@@ -258,6 +258,102 @@ public final class RtChecksTest {
         }
     }
 
+    /**
+     * RtChecks can fetch all pages of check runs.
+     * @throws IOException If some I/O problem happens.
+     */
+    @Test
+    public void fetchesAllPages() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    RtChecksTest.jsonWithCheckRuns()
+                ).withHeader("Link", "</p?page=2>; rel=\"next\"")
+            )
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    RtChecksTest.jsonWithCheckRuns()
+                )
+            )
+            .start(this.resource.port())) {
+            MatcherAssert.assertThat(
+                new RtChecks(
+                    new JdkRequest(container.home()),
+                    this.repo().pulls().get(0)
+                ).all(),
+                Matchers.iterableWithSize(2)
+            );
+            MatcherAssert.assertThat(
+                container.take().uri().getQuery(),
+                Matchers.equalTo("per_page=100")
+            );
+            MatcherAssert.assertThat(
+                container.take().uri().toString(),
+                Matchers.endsWith("/p?page=2")
+            );
+        }
+    }
+
+    /**
+     * RtChecks can filter check runs on the server side.
+     * @throws IOException If some I/O problem happens.
+     */
+    @Test
+    public void filtersByNameAndStatus() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    RtChecksTest.jsonWithCheckRuns()
+                )
+            )
+            .start(this.resource.port())) {
+            new RtChecks(
+                new JdkRequest(container.home()),
+                this.repo().pulls().get(0)
+            ).withName("build").withStatus(Check.Status.COMPLETED).all();
+            MatcherAssert.assertThat(
+                container.take().uri().getQuery(),
+                Matchers.allOf(
+                    Matchers.containsString("check_name=build"),
+                    Matchers.containsString("status=completed")
+                )
+            );
+        }
+    }
+
+    /**
+     * RtChecks can resolve the head of the pull request only once.
+     * @throws IOException If some I/O problem happens.
+     */
+    @Test
+    public void resolvesHeadOnce() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    RtChecksTest.jsonWithCheckRuns()
+                )
+            )
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    RtChecksTest.jsonWithCheckRuns()
+                )
+            )
+            .start(this.resource.port())) {
+            final Pull pull = this.repo().pulls().get(0);
+            final Checks checks = new RtChecks(
+                new JdkRequest(container.home()), pull
+            );
+            checks.all();
+            checks.withName("build").all();
+            Mockito.verify(pull, Mockito.times(1)).head();
+        }
+    }
+
     /**
      * Creates json response body.
      *
@@ -192,6 +192,59 @@ public final class RtIssueTest {
         }
     }
 
+    /**
+     * RtIssue can check its existence with a HEAD request.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void checksExistenceWithHead() throws Exception {
+        try (
+            final MkContainer container = new MkGrizzlyContainer()
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK))
+                .next(new MkAnswer.Simple(HttpURLConnection.HTTP_NOT_FOUND))
+                .start(this.resource.port())
+        ) {
+            final RtIssue issue = new RtIssue(
+                new ApacheRequest(container.home()), this.repo(), 1
+            );
+            MatcherAssert.assertThat(issue.exists(), Matchers.is(true));
+            MatcherAssert.assertThat(issue.exists(), Matchers.is(false));
+            MatcherAssert.assertThat(
+                container.take().method(),
+                Matchers.equalTo(Request.HEAD)
+            );
+            container.stop();
+        }
+    }
+
+    /**
+     * RtIssue can read its lock state without changing it.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    public void readsLockStateWithoutLocking() throws Exception {
+        try (
+            final MkContainer container = new MkGrizzlyContainer().next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK, "{\"locked\":true}"
+                )
+            ).start(this.resource.port())
+        ) {
+            final RtIssue issue = new RtIssue(
+                new ApacheRequest(container.home()), this.repo(), 1
+            );
+            MatcherAssert.assertThat(issue.isLocked(), Matchers.is(true));
+            MatcherAssert.assertThat(
+                container.take().method(),
+                Matchers.equalTo(Request.GET)
+            );
+            MatcherAssert.assertThat(
+                container.queries(), Matchers.is(0)
+            );
+            container.stop();
+        }
+    }
+
     /**
      * Mock repo for GhIssue creation.
      * @return The mock repo.
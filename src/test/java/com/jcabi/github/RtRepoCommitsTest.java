@@ -30,6 +30,7 @@
 package com.jcabi.github;
 
 import com.jcabi.http.request.FakeRequest;
+import java.io.BufferedReader;
 import java.util.Collections;
 import javax.json.Json;
 import org.hamcrest.MatcherAssert;
@@ -146,6 +147,29 @@ public final class RtRepoCommitsTest {
         );
     }
 
+    /**
+     * RtRepoCommits can stream comparison of two commits in diff format.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    public void streamsCommitsDiffFormat() throws Exception {
+        final RepoCommits commits = new RtRepoCommits(
+            new FakeRequest().withBody("diff --git a/x b/x\n+line"),
+            RtRepoCommitsTest.repo()
+        );
+        try (BufferedReader reader = new BufferedReader(
+            commits.diffReader(
+                "6dcb09b5b57875f334f61aebed695e2e4193db59",
+                "6dcb09b5b57875f334f61aebed695e2e4193db5a"
+            )
+        )) {
+            MatcherAssert.assertThat(
+                reader.readLine(),
+                Matchers.equalTo("diff --git a/x b/x")
+            );
+        }
+    }
+
     /**
      * RtRepoCommits can read correctly URL.
      */
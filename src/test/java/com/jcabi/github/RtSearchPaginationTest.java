@@ -29,10 +29,18 @@
  */
 package com.jcabi.github;
 
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
 import com.jcabi.http.request.FakeRequest;
+import com.jcabi.http.request.JdkRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
 import javax.json.Json;
+import javax.json.JsonArrayBuilder;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.Rule;
 import org.junit.Test;
 
 /**
@@ -41,6 +49,13 @@ import org.junit.Test;
  */
 public final class RtSearchPaginationTest {
 
+    /**
+     * The rule for skipping test if there's BindException.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient RandomPort resource = new RandomPort();
+
     /**
      * RtSearchPagination can iterate through items.
      */
@@ -64,4 +79,62 @@ public final class RtSearchPaginationTest {
         );
     }
 
+    /**
+     * RtSearchPagination can read totals from the first page it
+     * iterates, without extra requests.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void readsTotalsFromFirstPage() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    RtSearchPaginationTest.page(4, "a", "b")
+                ).withHeader("Link", "</search?page=2>; rel=\"next\"")
+            )
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    RtSearchPaginationTest.page(5, "c", "d")
+                )
+            )
+            .start(this.resource.port())) {
+            final Search.Results<String> results = new RtSearchPagination<>(
+                new JdkRequest(container.home()),
+                "/search/issues", "bug", "created", "desc",
+                object -> object.getString("name")
+            );
+            MatcherAssert.assertThat(results.total(), Matchers.is(4));
+            MatcherAssert.assertThat(results.incomplete(), Matchers.is(true));
+            MatcherAssert.assertThat(
+                results,
+                Matchers.contains("a", "b", "c", "d")
+            );
+            MatcherAssert.assertThat(results.total(), Matchers.is(4));
+            MatcherAssert.assertThat(container.queries(), Matchers.is(2));
+            MatcherAssert.assertThat(
+                container.take().uri().getQuery(),
+                Matchers.not(Matchers.containsString("per_page"))
+            );
+        }
+    }
+
+    /**
+     * Search page.
+     * @param total Total count
+     * @param names Names of items
+     * @return JSON
+     */
+    private static String page(final int total, final String... names) {
+        final JsonArrayBuilder items = Json.createArrayBuilder();
+        for (final String name : names) {
+            items.add(Json.createObjectBuilder().add("name", name));
+        }
+        return Json.createObjectBuilder()
+            .add("total_count", total)
+            .add("incomplete_results", true)
+            .add("items", items)
+            .build().toString();
+    }
 }
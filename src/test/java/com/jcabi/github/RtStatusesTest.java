@@ -47,6 +47,7 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.Rule;
 import org.junit.Test;
+import org.mockito.Mockito;
 
 /**
  * Testcase for {@link RtStatuses}.
@@ -148,4 +149,114 @@ public final class RtStatusesTest {
             container.stop();
         }
     }
+
+    /**
+     * RtStatuses can list statuses of a ref, page by page.
+     * @throws IOException If there is an I/O problem.
+     */
+    @Test
+    public void listsStatuses() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder().add("id", 1))
+                        .build().toString()
+                ).withHeader("Link", "</s?page=2>; rel=\"next\"")
+            )
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder().add("id", 2))
+                        .build().toString()
+                )
+            )
+            .start(this.resource.port())) {
+            final Request entry = new ApacheRequest(container.home());
+            final Statuses statuses = new RtStatuses(
+                entry,
+                new RtCommit(entry, RtStatusesTest.repo(), "a1b2")
+            );
+            MatcherAssert.assertThat(
+                statuses.list("a1b2"),
+                Matchers.iterableWithSize(2)
+            );
+            MatcherAssert.assertThat(
+                container.take().uri().getPath(),
+                Matchers.equalTo("/repos/test/statuses/commits/a1b2/statuses")
+            );
+        }
+    }
+
+    /**
+     * RtStatuses can bind listed statuses to the commit of the ref.
+     * @throws IOException If there is an I/O problem.
+     */
+    @Test
+    public void bindsStatusesToRef() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    Json.createArrayBuilder()
+                        .add(Json.createObjectBuilder().add("id", 1))
+                        .build().toString()
+                )
+            )
+            .start(this.resource.port())) {
+            final Request entry = new ApacheRequest(container.home());
+            MatcherAssert.assertThat(
+                new RtStatuses(
+                    entry,
+                    new RtCommit(entry, RtStatusesTest.repo(), "e5f6")
+                ).list("f7a8").iterator().next().commit().sha(),
+                Matchers.equalTo("f7a8")
+            );
+        }
+    }
+
+    /**
+     * RtStatuses can fetch the combined status of a ref.
+     * @throws IOException If there is an I/O problem.
+     */
+    @Test
+    public void fetchesCombinedStatus() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(
+                    HttpURLConnection.HTTP_OK,
+                    Json.createObjectBuilder()
+                        .add("state", "pending")
+                        .add("total_count", 0)
+                        .build().toString()
+                )
+            )
+            .start(this.resource.port())) {
+            final Request entry = new ApacheRequest(container.home());
+            MatcherAssert.assertThat(
+                new RtStatuses(
+                    entry,
+                    new RtCommit(entry, RtStatusesTest.repo(), "c3d4")
+                ).combined("master").getString("state"),
+                Matchers.equalTo("pending")
+            );
+            MatcherAssert.assertThat(
+                container.take().uri().getPath(),
+                Matchers.equalTo("/repos/test/statuses/commits/master/status")
+            );
+        }
+    }
+
+    /**
+     * Repo for tests.
+     * @return Repo
+     */
+    private static Repo repo() {
+        final Repo repo = Mockito.mock(Repo.class);
+        Mockito.doReturn(new Coordinates.Simple("test", "statuses"))
+            .when(repo).coordinates();
+        return repo;
+    }
 }
@@ -0,0 +1,245 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link ShardedSearch}.
+ *
+ * @since 2.0
+ */
+public final class ShardedSearchTest {
+
+    /**
+     * ShardedSearch can find all items past the cap.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    public void findsAllItemsPastCap() throws Exception {
+        final Instant start = Instant.parse("2020-01-01T00:00:00Z");
+        final List<Instant> items = new ArrayList<>(0);
+        // @checkstyle MagicNumber (3 lines)
+        for (int idx = 0; idx < 2500; ++idx) {
+            items.add(start.plusSeconds(idx * 60L));
+        }
+        final AtomicInteger queries = new AtomicInteger();
+        final Set<Instant> found = new ShardedSearch<>(
+            range -> {
+                queries.incrementAndGet();
+                return new ShardedSearchTest.Capped(items, range);
+            },
+            start, start.plusSeconds(2500L * 60L), 3
+        ).all();
+        MatcherAssert.assertThat(found, Matchers.hasSize(items.size()));
+        MatcherAssert.assertThat(found, Matchers.contains(items.toArray()));
+        MatcherAssert.assertThat(queries.get(), Matchers.greaterThan(2));
+    }
+
+    /**
+     * ShardedSearch can read a small search without splitting.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    public void readsSmallSearchAtOnce() throws Exception {
+        final Instant start = Instant.parse("2021-06-01T00:00:00Z");
+        final List<Instant> items = new ArrayList<>(0);
+        items.add(start.plusSeconds(5L));
+        items.add(start.plusSeconds(7L));
+        final AtomicInteger queries = new AtomicInteger();
+        MatcherAssert.assertThat(
+            new ShardedSearch<>(
+                range -> {
+                    queries.incrementAndGet();
+                    return new ShardedSearchTest.Capped(items, range);
+                },
+                start, start.plusSeconds(60L), 2
+            ).all(),
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(queries.get(), Matchers.is(1));
+    }
+
+    /**
+     * ShardedSearch can wait for the search bucket to reset.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    public void waitsForSearchBucket() throws Exception {
+        final Instant start = Instant.parse("2021-06-01T00:00:00Z");
+        final List<Instant> items = new ArrayList<>(0);
+        items.add(start.plusSeconds(5L));
+        final RateLimitRegistry registry = new RateLimitRegistry();
+        // @checkstyle MagicNumber (12 lines)
+        registry.update(
+            Limits.SEARCH,
+            Json.createObjectBuilder()
+                .add("limit", 30)
+                .add("remaining", 1)
+                .add(
+                    "reset",
+                    TimeUnit.MILLISECONDS.toSeconds(
+                        System.currentTimeMillis()
+                    ) + 2L
+                )
+                .add("used", 29)
+                .build()
+        );
+        final long begin = System.currentTimeMillis();
+        MatcherAssert.assertThat(
+            new ShardedSearch<>(
+                range -> new ShardedSearchTest.Capped(items, range),
+                start, start.plusSeconds(60L), 1, registry
+            ).all(),
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            System.currentTimeMillis() - begin,
+            Matchers.greaterThanOrEqualTo(1000L)
+        );
+    }
+
+    /**
+     * ShardedSearch can put the range into issue qualifiers.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void qualifiesIssuesByRange() throws Exception {
+        final Search search = Mockito.mock(Search.class);
+        Mockito.doReturn(
+            new Search.Results.Simple<>(new ArrayList<Issue>(0))
+        ).when(search).issues(
+            Mockito.anyString(), Mockito.anyString(),
+            Mockito.any(), Mockito.any()
+        );
+        ShardedSearch.issues(
+            search, "org:acme", new EnumMap<>(Search.Qualifier.class),
+            Search.Qualifier.UPDATED,
+            Instant.parse("2022-01-01T00:00:00Z"),
+            Instant.parse("2022-01-31T00:00:00Z"),
+            new RateLimitRegistry()
+        ).all();
+        Mockito.verify(search).issues(
+            Mockito.eq("org:acme"), Mockito.eq("updated"),
+            Mockito.eq(Search.Order.ASC),
+            Mockito.argThat(
+                map -> "2022-01-01T00:00:00Z..2022-01-31T00:00:00Z".equals(
+                    map.get(Search.Qualifier.UPDATED)
+                )
+            )
+        );
+    }
+
+    /**
+     * ShardedSearch can sort repositories by a field Github accepts.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    public void sortsReposByUpdated() throws Exception {
+        final Search search = Mockito.mock(Search.class);
+        Mockito.doReturn(
+            new Search.Results.Simple<>(new ArrayList<Repo>(0))
+        ).when(search).repos(
+            Mockito.anyString(), Mockito.anyString(), Mockito.any()
+        );
+        ShardedSearch.repos(
+            search, "language:java", Search.Qualifier.CREATED,
+            Instant.parse("2022-01-01T00:00:00Z"),
+            Instant.parse("2022-01-31T00:00:00Z"),
+            new RateLimitRegistry()
+        ).all();
+        Mockito.verify(search).repos(
+            Mockito.eq(
+                String.join(
+                    "",
+                    "language:java created:",
+                    "2022-01-01T00:00:00Z..2022-01-31T00:00:00Z"
+                )
+            ),
+            Mockito.eq("updated"),
+            Mockito.eq(Search.Order.ASC)
+        );
+    }
+
+    /**
+     * Results of a range, with no more than the cap returned.
+     */
+    private static final class Capped implements Search.Results<Instant> {
+        /**
+         * Items within the range.
+         */
+        private final transient List<Instant> items;
+
+        /**
+         * Ctor.
+         * @param all All items
+         * @param range Range
+         */
+        Capped(final List<Instant> all, final String range) {
+            final String[] parts = range.split("\\.\\.");
+            final Instant first = Instant.parse(parts[0]);
+            final Instant last = Instant.parse(parts[1]);
+            this.items = all.stream()
+                .filter(item -> !item.isBefore(first) && !item.isAfter(last))
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public Iterator<Instant> iterator() {
+            return this.items.stream()
+                .limit(ShardedSearch.CAP)
+                .iterator();
+        }
+
+        @Override
+        public int total() {
+            return this.items.size();
+        }
+
+        @Override
+        public boolean incomplete() {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import com.jcabi.github.mock.MkGithub;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link Telemetry}.
+ *
+ * <p>Probes are global, while test methods run in parallel, so all
+ * checks are made one after another in a single method.</p>
+ *
+ * @since 2.0
+ */
+public final class TelemetryTest {
+
+    /**
+     * Telemetry counts all calls, times sampled ones and records
+     * nothing when off.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void probesCalls() throws Exception {
+        try {
+            Telemetry.reset();
+            Telemetry.sample(0);
+            new MkGithub().randomRepo().issues().create("title", "body");
+            MatcherAssert.assertThat(
+                Telemetry.STORAGE_APPLY.calls(), Matchers.equalTo(0L)
+            );
+            Telemetry.sample(1);
+            new MkGithub().randomRepo().issues().create("title", "body");
+            MatcherAssert.assertThat(
+                Telemetry.STORAGE_APPLY.calls(), Matchers.greaterThan(0L)
+            );
+            MatcherAssert.assertThat(
+                Telemetry.STORAGE_APPLY.sampled(),
+                Matchers.equalTo(Telemetry.STORAGE_APPLY.calls())
+            );
+            Telemetry.sample(Integer.MAX_VALUE);
+            for (int idx = 0; idx < 10; ++idx) {
+                Telemetry.JSON_PATCH.stop(Telemetry.JSON_PATCH.start());
+            }
+            MatcherAssert.assertThat(
+                Telemetry.JSON_PATCH.calls(), Matchers.equalTo(10L)
+            );
+            MatcherAssert.assertThat(
+                Telemetry.JSON_PATCH.sampled(), Matchers.lessThan(10L)
+            );
+        } finally {
+            Telemetry.sample(0);
+            Telemetry.reset();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import javax.json.Json;
+import javax.json.JsonArrayBuilder;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link TreeWalk}.
+ * @since 2.0
+ */
+public final class TreeWalkTest {
+
+    /**
+     * TreeWalk can return entries of a complete recursive tree.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void returnsCompleteTree() throws IOException {
+        final Trees trees = Mockito.mock(Trees.class);
+        final Tree rec = TreeWalkTest.tree(
+            false, TreeWalkTest.blob("a.txt"), TreeWalkTest.blob("b/c.txt")
+        );
+        Mockito.when(trees.getRec("root")).thenReturn(rec);
+        MatcherAssert.assertThat(
+            TreeWalkTest.paths(new TreeWalk(trees, "root")),
+            Matchers.contains("a.txt", "b/c.txt")
+        );
+        Mockito.verify(trees, Mockito.never()).get(Mockito.anyString());
+    }
+
+    /**
+     * TreeWalk can walk a truncated tree level by level, fetching
+     * identical subtrees only once.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void walksTruncatedTree() throws IOException {
+        final Trees trees = Mockito.mock(Trees.class);
+        final Tree truncated = TreeWalkTest.tree(true);
+        Mockito.when(trees.getRec("top")).thenReturn(truncated);
+        final Tree top = TreeWalkTest.tree(
+            false,
+            TreeWalkTest.blob("readme"),
+            TreeWalkTest.dir("src", "same"),
+            TreeWalkTest.dir("test", "same")
+        );
+        Mockito.when(trees.get("top")).thenReturn(top);
+        final Tree same = TreeWalkTest.tree(false, TreeWalkTest.blob("x"));
+        Mockito.when(trees.get("same")).thenReturn(same);
+        MatcherAssert.assertThat(
+            TreeWalkTest.paths(new TreeWalk(trees, "top", 2)),
+            Matchers.contains("readme", "src", "test", "src/x", "test/x")
+        );
+        Mockito.verify(trees, Mockito.times(1)).get("same");
+    }
+
+    /**
+     * TreeWalk can continue from the entries of a truncated response,
+     * without fetching subtrees it lists in full.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void continuesTruncatedResponse() throws IOException {
+        final Trees trees = Mockito.mock(Trees.class);
+        final Tree truncated = TreeWalkTest.tree(
+            true,
+            TreeWalkTest.dir("a", "full"),
+            TreeWalkTest.blob("a/x"),
+            TreeWalkTest.dir("b", "part"),
+            TreeWalkTest.blob("b/y")
+        );
+        Mockito.when(trees.getRec("root")).thenReturn(truncated);
+        final Tree root = TreeWalkTest.tree(
+            false,
+            TreeWalkTest.dir("a", "full"),
+            TreeWalkTest.dir("b", "part"),
+            TreeWalkTest.blob("c")
+        );
+        Mockito.when(trees.get("root")).thenReturn(root);
+        final Tree part = TreeWalkTest.tree(
+            false, TreeWalkTest.blob("y"), TreeWalkTest.blob("z")
+        );
+        Mockito.when(trees.get("part")).thenReturn(part);
+        MatcherAssert.assertThat(
+            TreeWalkTest.paths(new TreeWalk(trees, "root")),
+            Matchers.contains("a", "a/x", "b", "b/y", "c", "b/z")
+        );
+        Mockito.verify(trees, Mockito.never()).get("full");
+    }
+
+    /**
+     * TreeWalk can stop the walk when its iterator is closed.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void stopsWhenClosed() throws IOException {
+        final Trees trees = Mockito.mock(Trees.class);
+        final Tree rec = TreeWalkTest.tree(
+            false, TreeWalkTest.blob("a"), TreeWalkTest.blob("b")
+        );
+        Mockito.when(trees.getRec("root")).thenReturn(rec);
+        final TreeWalk.Entries entries = new TreeWalk(trees, "root")
+            .iterator();
+        MatcherAssert.assertThat(
+            entries.next().getString("path"), Matchers.equalTo("a")
+        );
+        entries.close();
+        MatcherAssert.assertThat(entries.hasNext(), Matchers.is(false));
+    }
+
+    /**
+     * Collect paths.
+     * @param walk Walk
+     * @return Paths
+     */
+    private static List<String> paths(final Iterable<JsonObject> walk) {
+        final List<String> paths = new ArrayList<>(0);
+        for (final JsonObject entry : walk) {
+            paths.add(entry.getString("path"));
+        }
+        return paths;
+    }
+
+    /**
+     * Make a tree.
+     * @param truncated Whether it is truncated
+     * @param entries Entries
+     * @return Tree
+     * @throws IOException If fails
+     */
+    private static Tree tree(final boolean truncated,
+        final JsonObject... entries) throws IOException {
+        final JsonArrayBuilder array = Json.createArrayBuilder();
+        for (final JsonObject entry : entries) {
+            array.add(entry);
+        }
+        final Tree tree = Mockito.mock(Tree.class);
+        Mockito.when(tree.json()).thenReturn(
+            Json.createObjectBuilder()
+                .add("tree", array)
+                .add("truncated", truncated)
+                .build()
+        );
+        return tree;
+    }
+
+    /**
+     * Make a blob entry.
+     * @param path Path
+     * @return Entry
+     */
+    private static JsonObject blob(final String path) {
+        return Json.createObjectBuilder()
+            .add("path", path)
+            .add("type", "blob")
+            .add("sha", "0")
+            .build();
+    }
+
+    /**
+     * Make a subtree entry.
+     * @param path Path
+     * @param sha SHA of the subtree
+     * @return Entry
+     */
+    private static JsonObject dir(final String path, final String sha) {
+        return Json.createObjectBuilder()
+            .add("path", path)
+            .add("type", "tree")
+            .add("sha", sha)
+            .build();
+    }
+}
@@ -102,4 +102,21 @@ public final class MkBranchesTest {
             Matchers.equalTo(twosha)
         );
     }
+
+    /**
+     * MkBranches can find a branch by name.
+     * @throws IOException if there is any I/O problem
+     */
+    @Test
+    public void findsBranch() throws IOException {
+        final MkBranches branches = (MkBranches) new MkGithub().randomRepo()
+            .branches();
+        branches.create("poit", "0ef7bd4bdd0a3ab8b7e4bc2b3d5b5f0a5a0c1f3e");
+        MatcherAssert.assertThat(
+            branches.find("poit").name(), Matchers.equalTo("poit")
+        );
+        MatcherAssert.assertThat(
+            branches.find("absent"), Matchers.nullValue()
+        );
+    }
 }
@@ -98,4 +98,54 @@ public final class MkChecksTest {
             Matchers.is(true)
         );
     }
+
+    /**
+     * MkChecks can filter checks by name and status.
+     * @throws IOException If some problem with I/O.
+     */
+    @Test
+    public void filtersChecks() throws IOException {
+        final MkChecks checks = (MkChecks) this.pull.checks();
+        checks.create(
+            "build", Check.Status.COMPLETED, Check.Conclusion.SUCCESS
+        );
+        checks.create(
+            "lint", Check.Status.QUEUED, Check.Conclusion.UNDEFINED
+        );
+        checks.create(
+            "lint", Check.Status.COMPLETED, Check.Conclusion.FAILURE
+        );
+        MatcherAssert.assertThat(
+            checks.withName("lint").all(),
+            Matchers.hasSize(2)
+        );
+        MatcherAssert.assertThat(
+            checks.withName("lint")
+                .withStatus(Check.Status.COMPLETED)
+                .all(),
+            Matchers.hasSize(1)
+        );
+        MatcherAssert.assertThat(
+            checks.withStatus(Check.Status.COMPLETED).all(),
+            Matchers.hasSize(2)
+        );
+    }
+
+    /**
+     * MkChecks can filter checks by names with quotes.
+     * @throws IOException If some problem with I/O.
+     */
+    @Test
+    public void filtersByNamesWithQuotes() throws IOException {
+        final MkChecks checks = (MkChecks) this.pull.checks();
+        for (final String name : new String[] {"it's", "say \"hi\"", "'\""}) {
+            checks.create(
+                name, Check.Status.COMPLETED, Check.Conclusion.SUCCESS
+            );
+            MatcherAssert.assertThat(
+                checks.withName(name).all(),
+                Matchers.hasSize(1)
+            );
+        }
+    }
 }
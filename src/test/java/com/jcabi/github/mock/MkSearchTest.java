@@ -62,6 +62,22 @@ public final class MkSearchTest {
         );
     }
 
+    /**
+     * MkSearch can count repos found.
+     *
+     * @throws Exception if a problem occurs
+     */
+    @Test
+    public void countsFoundRepos() throws Exception {
+        final MkGithub github = new MkGithub();
+        github.repos().create(new Repos.RepoCreate("First", false));
+        github.repos().create(new Repos.RepoCreate("Second", false));
+        final Search.Results<Repo> found = github.search()
+            .repos("repo", "updated", Search.Order.ASC);
+        MatcherAssert.assertThat(found.total(), Matchers.is(2));
+        MatcherAssert.assertThat(found.incomplete(), Matchers.is(false));
+    }
+
     /**
      * MkSearch can search for issues.
      *
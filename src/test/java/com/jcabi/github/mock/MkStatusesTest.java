@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.mock;
+
+import com.google.common.base.Optional;
+import com.jcabi.github.Status;
+import com.jcabi.github.Statuses;
+import java.io.IOException;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link MkStatuses}.
+ * @checkstyle MultipleStringLiterals (500 lines)
+ */
+public final class MkStatusesTest {
+
+    /**
+     * MkStatuses can create and list statuses, newest first.
+     * @throws IOException If something goes wrong
+     */
+    @Test
+    public void createsAndListsStatuses() throws IOException {
+        final Statuses statuses = new MkGithub().randomRepo()
+            .git().commits().statuses("a1b2c3");
+        statuses.create(new Statuses.StatusCreate(Status.State.PENDING));
+        statuses.create(
+            new Statuses.StatusCreate(Status.State.SUCCESS)
+                .withDescription("green")
+        );
+        final Status latest = statuses.list("a1b2c3").iterator().next();
+        MatcherAssert.assertThat(
+            latest.json().getString("description"),
+            Matchers.equalTo("green")
+        );
+        MatcherAssert.assertThat(
+            latest.commit().sha(),
+            Matchers.equalTo("a1b2c3")
+        );
+        MatcherAssert.assertThat(
+            statuses.list("a1b2c3"),
+            Matchers.iterableWithSize(2)
+        );
+        MatcherAssert.assertThat(
+            statuses.list("d4e5f6"),
+            Matchers.emptyIterable()
+        );
+    }
+
+    /**
+     * MkStatuses can combine the latest status of every context.
+     * @throws IOException If something goes wrong
+     */
+    @Test
+    public void combinesLatestStatusPerContext() throws IOException {
+        final Statuses statuses = new MkGithub().randomRepo()
+            .git().commits().statuses("b2c3d4");
+        MatcherAssert.assertThat(
+            statuses.combined("b2c3d4").getString("state"),
+            Matchers.equalTo("pending")
+        );
+        statuses.create(
+            new Statuses.StatusCreate(Status.State.FAILURE)
+                .withContext(Optional.of("ci"))
+        );
+        statuses.create(
+            new Statuses.StatusCreate(Status.State.SUCCESS)
+                .withContext(Optional.of("ci"))
+        );
+        statuses.create(
+            new Statuses.StatusCreate(Status.State.SUCCESS)
+                .withContext(Optional.of("lint"))
+        );
+        final JsonObject combined = statuses.combined("b2c3d4");
+        MatcherAssert.assertThat(
+            combined.getString("state"),
+            Matchers.equalTo("success")
+        );
+        MatcherAssert.assertThat(
+            combined.getInt("total_count"),
+            Matchers.equalTo(2)
+        );
+        statuses.create(
+            new Statuses.StatusCreate(Status.State.ERROR)
+                .withContext(Optional.of("lint"))
+        );
+        MatcherAssert.assertThat(
+            statuses.combined("b2c3d4").getString("state"),
+            Matchers.equalTo("failure")
+        );
+    }
+}
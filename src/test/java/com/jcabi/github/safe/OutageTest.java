@@ -0,0 +1,201 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link Outage}.
+ * @since 2.0
+ */
+public final class OutageTest {
+
+    /**
+     * Outage returns the fallback when the call fails.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void returnsFallbackOnFailure() throws Exception {
+        MatcherAssert.assertThat(
+            new Outage().call(
+                "fail",
+                () -> {
+                    throw new AssertionError("down");
+                },
+                "fallback"
+            ),
+            Matchers.equalTo("fallback")
+        );
+    }
+
+    /**
+     * Outage stops calling after consecutive failures.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void opensAfterFailures() throws Exception {
+        final Outage outage = new Outage(2, Long.MAX_VALUE);
+        final AtomicInteger calls = new AtomicInteger();
+        for (int idx = 0; idx < 5; ++idx) {
+            outage.run(
+                "fail",
+                () -> {
+                    calls.incrementAndGet();
+                    throw new AssertionError("down");
+                }
+            );
+        }
+        MatcherAssert.assertThat(outage.open(), Matchers.is(true));
+        MatcherAssert.assertThat(calls.get(), Matchers.equalTo(2));
+    }
+
+    /**
+     * Outage tries again after the cooldown and closes on success.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void closesAfterCooldown() throws Exception {
+        final Outage outage = new Outage(1, 0L);
+        outage.run(
+            "fail",
+            () -> {
+                throw new AssertionError("down");
+            }
+        );
+        MatcherAssert.assertThat(
+            outage.call("succeed", () -> "ok", "fallback"),
+            Matchers.equalTo("ok")
+        );
+        MatcherAssert.assertThat(outage.open(), Matchers.is(false));
+    }
+
+    /**
+     * Outage counts I/O failures too and rethrows them.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void countsIoFailures() throws Exception {
+        final Outage outage = new Outage(1, Long.MAX_VALUE);
+        String thrown = "";
+        try {
+            outage.run(
+                "fail",
+                () -> {
+                    throw new IOException("timeout");
+                }
+            );
+        } catch (final IOException ex) {
+            thrown = ex.getMessage();
+        }
+        MatcherAssert.assertThat(thrown, Matchers.equalTo("timeout"));
+        MatcherAssert.assertThat(outage.open(), Matchers.is(true));
+    }
+
+    /**
+     * Outage lets only one probe through after the cooldown.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void probesWithOneCall() throws Exception {
+        final Outage outage = new Outage(1, 0L);
+        outage.run(
+            "fail",
+            () -> {
+                throw new AssertionError("down");
+            }
+        );
+        final CountDownLatch entered = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            final Future<String> probe = pool.submit(
+                () -> outage.call(
+                    "probe",
+                    () -> {
+                        entered.countDown();
+                        try {
+                            release.await(1L, TimeUnit.MINUTES);
+                        } catch (final InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                            throw new IllegalStateException(ex);
+                        }
+                        return "probed";
+                    },
+                    "fallback"
+                )
+            );
+            entered.await(1L, TimeUnit.MINUTES);
+            final AtomicInteger calls = new AtomicInteger();
+            MatcherAssert.assertThat(
+                outage.call(
+                    "concurrent",
+                    () -> {
+                        calls.incrementAndGet();
+                        return "called";
+                    },
+                    "fallback"
+                ),
+                Matchers.equalTo("fallback")
+            );
+            release.countDown();
+            MatcherAssert.assertThat(probe.get(), Matchers.equalTo("probed"));
+            MatcherAssert.assertThat(calls.get(), Matchers.is(0));
+            MatcherAssert.assertThat(outage.open(), Matchers.is(false));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    /**
+     * Outage never opens if it is NEVER.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void neverOpens() throws Exception {
+        for (int idx = 0; idx < 10; ++idx) {
+            Outage.NEVER.run(
+                "fail",
+                () -> {
+                    throw new AssertionError("down");
+                }
+            );
+        }
+        MatcherAssert.assertThat(Outage.NEVER.open(), Matchers.is(false));
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import com.jcabi.github.Content;
+import com.jcabi.github.Contents;
+import com.jcabi.github.Repo;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link SfContents}.
+ * @since 2.0
+ */
+public final class SfContentsTest {
+
+    /**
+     * SfContents returns a blank content when Github fails.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void fallsBackToBlankContent() throws Exception {
+        final Contents origin = Mockito.mock(Contents.class);
+        Mockito.when(origin.repo()).thenReturn(Mockito.mock(Repo.class));
+        Mockito.when(origin.get("a.txt", "master"))
+            .thenThrow(new AssertionError("down"));
+        final Content content = new SfContents(origin).get("a.txt", "master");
+        MatcherAssert.assertThat(content.path(), Matchers.equalTo("a.txt"));
+        MatcherAssert.assertThat(content.raw().read(), Matchers.is(-1));
+        MatcherAssert.assertThat(
+            new Content.Smart(content).sha(), Matchers.emptyString()
+        );
+    }
+
+    /**
+     * SfContents tells that nothing exists when Github fails.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void doesNotExistOnFailure() throws Exception {
+        final Contents origin = Mockito.mock(Contents.class);
+        Mockito.when(origin.exists("b.txt", "master"))
+            .thenThrow(new AssertionError("down"));
+        MatcherAssert.assertThat(
+            new SfContents(origin).exists("b.txt", "master"),
+            Matchers.is(false)
+        );
+    }
+}
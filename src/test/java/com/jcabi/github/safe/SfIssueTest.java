@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import com.jcabi.github.Issue;
+import com.jcabi.github.Repo;
+import com.jcabi.github.mock.MkGithub;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link SfIssue}.
+ * @since 2.0
+ */
+public final class SfIssueTest {
+
+    /**
+     * SfIssue returns a usable fallback when Github fails.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void fallsBackOnFailure() throws Exception {
+        final Issue origin = Mockito.mock(Issue.class);
+        Mockito.when(origin.json()).thenThrow(new AssertionError("down"));
+        final Issue.Smart issue = new Issue.Smart(new SfIssue(origin));
+        MatcherAssert.assertThat(issue.title(), Matchers.emptyString());
+        MatcherAssert.assertThat(issue.isOpen(), Matchers.is(true));
+        MatcherAssert.assertThat(
+            issue.json().getJsonObject("user").getString("login"),
+            Matchers.emptyString()
+        );
+    }
+
+    /**
+     * SfIssue stops calling Github once the outage is open.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void failsFastDuringOutage() throws Exception {
+        final Issue origin = Mockito.mock(Issue.class);
+        Mockito.when(origin.json()).thenThrow(new AssertionError("down"));
+        final Issue issue = new SfIssue(origin, new Outage(1, Long.MAX_VALUE));
+        issue.json();
+        issue.json();
+        issue.patch(Json.createObjectBuilder().build());
+        Mockito.verify(origin, Mockito.times(1)).json();
+        Mockito.verify(origin, Mockito.never()).patch(Mockito.any());
+    }
+
+    /**
+     * SfIssue returns real data when Github works.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void fetchesRealIssue() throws Exception {
+        final Repo repo = new MkGithub().randomRepo();
+        MatcherAssert.assertThat(
+            new Issue.Smart(
+                new SfIssue(repo.issues().create("hello", "world"))
+            ).title(),
+            Matchers.equalTo("hello")
+        );
+    }
+}
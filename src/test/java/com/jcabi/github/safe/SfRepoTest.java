@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.safe;
+
+import com.jcabi.github.Repo;
+import com.jcabi.github.mock.MkGithub;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link SfRepo}.
+ * @since 2.0
+ */
+public final class SfRepoTest {
+
+    /**
+     * SfRepo returns usable fallbacks when Github fails.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void fallsBackOnFailure() throws Exception {
+        final Repo origin = Mockito.mock(Repo.class);
+        Mockito.when(origin.json()).thenThrow(new AssertionError("down"));
+        Mockito.when(origin.languages()).thenThrow(new AssertionError("down"));
+        final Repo repo = new SfRepo(origin);
+        MatcherAssert.assertThat(
+            repo.json().getString("default_branch"),
+            Matchers.equalTo("master")
+        );
+        MatcherAssert.assertThat(
+            repo.json().getJsonObject("owner").getString("login"),
+            Matchers.emptyString()
+        );
+        MatcherAssert.assertThat(repo.languages(), Matchers.emptyIterable());
+    }
+
+    /**
+     * SfRepo stops calling Github once the outage is open.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void failsFastDuringOutage() throws Exception {
+        final Repo origin = Mockito.mock(Repo.class);
+        Mockito.when(origin.json()).thenThrow(new AssertionError("down"));
+        final Repo repo = new SfRepo(origin, new Outage(1, Long.MAX_VALUE));
+        repo.json();
+        repo.languages();
+        repo.patch(Json.createObjectBuilder().build());
+        Mockito.verify(origin, Mockito.times(1)).json();
+        Mockito.verify(origin, Mockito.never()).languages();
+        Mockito.verify(origin, Mockito.never()).patch(Mockito.any());
+    }
+
+    /**
+     * SfRepo returns real data when Github works.
+     * @throws Exception If something goes wrong
+     */
+    @Test
+    public void fetchesRealRepo() throws Exception {
+        final Repo repo = new MkGithub().randomRepo();
+        MatcherAssert.assertThat(
+            new SfRepo(repo).json().getString("name"),
+            Matchers.equalTo(repo.coordinates().repo())
+        );
+    }
+}
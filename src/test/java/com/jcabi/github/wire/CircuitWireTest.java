@@ -0,0 +1,99 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RandomPort;
+import com.jcabi.http.Request;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.JdkRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test case for {@link CircuitWire}.
+ *
+ * @since 2.0
+ */
+public final class CircuitWireTest {
+
+    /**
+     * The rule for skipping test if there's BindException.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient RandomPort resource = new RandomPort();
+
+    /**
+     * CircuitWire can fail fast on a failing route.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void failsFastWhenOpen() throws IOException {
+        final Circuits circuits = new Circuits(
+            "", 1.0d, 2, 60_000L, 60_000L, 1
+        );
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_UNAVAILABLE))
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_UNAVAILABLE))
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK))
+            .start(this.resource.port())) {
+            final Request req = new JdkRequest(container.home())
+                .through(CircuitWire.class, circuits);
+            final Request issue = req.uri().path("/repos/a/b/issues/1").back();
+            issue.fetch();
+            issue.fetch();
+            try {
+                req.uri().path("/repos/c/d/issues/2").back().fetch();
+                MatcherAssert.assertThat(
+                    "request to an open circuit is sent", false
+                );
+            } catch (final IOException ex) {
+                MatcherAssert.assertThat(
+                    ex.getMessage(), Matchers.containsString("is open")
+                );
+            }
+            MatcherAssert.assertThat(
+                req.uri().path("/repos/a/b/pulls").back().fetch().status(),
+                Matchers.equalTo(HttpURLConnection.HTTP_OK)
+            );
+            MatcherAssert.assertThat(container.queries(), Matchers.is(2 + 1));
+        }
+        MatcherAssert.assertThat(
+            circuits.snapshot().values(),
+            Matchers.hasItem(Circuits.State.OPEN)
+        );
+    }
+}
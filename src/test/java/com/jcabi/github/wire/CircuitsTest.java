@@ -0,0 +1,157 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import javax.management.ObjectName;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link Circuits}.
+ *
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (200 lines)
+ */
+public final class CircuitsTest {
+
+    /**
+     * Circuits can open a circuit when the error rate is reached.
+     */
+    @Test
+    public void opensOnErrorRate() {
+        final Circuits circuits = new Circuits(
+            "", 0.5d, 4, 60_000L, 60_000L, 1
+        );
+        for (final boolean failed : new boolean[] {false, true, false}) {
+            circuits.report("a", circuits.admit("a"), failed);
+        }
+        MatcherAssert.assertThat(
+            circuits.snapshot().get("a"),
+            Matchers.equalTo(Circuits.State.CLOSED)
+        );
+        circuits.report("a", circuits.admit("a"), true);
+        MatcherAssert.assertThat(
+            circuits.snapshot().get("a"),
+            Matchers.equalTo(Circuits.State.OPEN)
+        );
+        MatcherAssert.assertThat(
+            circuits.admit("a"), Matchers.equalTo(Circuits.State.OPEN)
+        );
+        MatcherAssert.assertThat(
+            circuits.admit("b"), Matchers.equalTo(Circuits.State.CLOSED)
+        );
+    }
+
+    /**
+     * Circuits can probe a half-open circuit with limited traffic.
+     * @throws InterruptedException If interrupted
+     */
+    @Test
+    public void probesWhenHalfOpen() throws InterruptedException {
+        final Circuits circuits = new Circuits("", 1.0d, 1, 60_000L, 10L, 2);
+        circuits.report("x", circuits.admit("x"), true);
+        TimeUnit.MILLISECONDS.sleep(20L);
+        final Circuits.State first = circuits.admit("x");
+        final Circuits.State second = circuits.admit("x");
+        MatcherAssert.assertThat(
+            first, Matchers.equalTo(Circuits.State.HALF_OPEN)
+        );
+        MatcherAssert.assertThat(
+            second, Matchers.equalTo(Circuits.State.HALF_OPEN)
+        );
+        MatcherAssert.assertThat(
+            circuits.admit("x"), Matchers.equalTo(Circuits.State.OPEN)
+        );
+        circuits.report("x", first, false);
+        MatcherAssert.assertThat(
+            circuits.snapshot().get("x"),
+            Matchers.equalTo(Circuits.State.HALF_OPEN)
+        );
+        circuits.report("x", second, false);
+        MatcherAssert.assertThat(
+            circuits.snapshot().get("x"),
+            Matchers.equalTo(Circuits.State.CLOSED)
+        );
+    }
+
+    /**
+     * Circuits can open a circuit again when a probe fails.
+     * @throws InterruptedException If interrupted
+     */
+    @Test
+    public void reopensOnFailedProbe() throws InterruptedException {
+        final Circuits circuits = new Circuits("", 1.0d, 1, 60_000L, 10L, 1);
+        circuits.report("y", circuits.admit("y"), true);
+        TimeUnit.MILLISECONDS.sleep(20L);
+        circuits.report("y", circuits.admit("y"), true);
+        MatcherAssert.assertThat(
+            circuits.snapshot().get("y"),
+            Matchers.equalTo(Circuits.State.OPEN)
+        );
+    }
+
+    /**
+     * Circuits can publish circuits in JMX.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    public void publishesInJmx() throws Exception {
+        final Circuits circuits = new Circuits(
+            "test-circuits", 1.0d, 1, 60_000L, 60_000L, 1
+        );
+        circuits.report("api /x", circuits.admit("api /x"), true);
+        circuits.admit("api /x");
+        final ObjectName name = new ObjectName(
+            String.format(
+                "com.jcabi.github:type=Circuit,registry=%s,circuit=%s",
+                ObjectName.quote("test-circuits"),
+                ObjectName.quote("api /x")
+            )
+        );
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(name, "State"),
+            Matchers.equalTo("OPEN")
+        );
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(name, "Rejected"),
+            Matchers.equalTo(1L)
+        );
+        circuits.close();
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer().isRegistered(name),
+            Matchers.is(false)
+        );
+    }
+}
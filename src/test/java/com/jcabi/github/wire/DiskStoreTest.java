@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link DiskStore}.
+ *
+ * @since 2.0
+ */
+public final class DiskStoreTest {
+
+    /**
+     * Temporary folder.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient TemporaryFolder temp = new TemporaryFolder();
+
+    /**
+     * DiskStore can save and load bytes by key.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void savesAndLoads() throws IOException {
+        final DiskStore store = new DiskStore(
+            this.temp.newFolder().getPath()
+        );
+        store.save("key", "first".getBytes(StandardCharsets.UTF_8));
+        store.save("key", "second".getBytes(StandardCharsets.UTF_8));
+        MatcherAssert.assertThat(
+            new String(store.load("key"), StandardCharsets.UTF_8),
+            Matchers.equalTo("second")
+        );
+        MatcherAssert.assertThat(store.load("other"), Matchers.nullValue());
+    }
+
+    /**
+     * DiskStore can do nothing without a directory.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void ignoresEmptyPath() throws IOException {
+        final DiskStore store = new DiskStore("");
+        store.save("key", new byte[] {1});
+        MatcherAssert.assertThat(store.load("key"), Matchers.nullValue());
+    }
+}
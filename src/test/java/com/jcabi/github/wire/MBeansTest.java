@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import java.lang.management.ManagementFactory;
+import javax.management.MXBean;
+import javax.management.ObjectName;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link MBeans}.
+ *
+ * @since 2.0
+ */
+public final class MBeansTest {
+
+    /**
+     * MBeans can share one value among keys beyond the maximum.
+     */
+    @Test
+    public void sharesOtherBeyondMaximum() {
+        final MBeans<MBeansTest.Key> beans = new MBeans<>(
+            "Key", "", MBeansTest.Bean.class, MBeansTest.Key::new
+        );
+        for (int idx = 0; idx < MBeans.MAX; ++idx) {
+            beans.get(String.format("key-%d", idx));
+        }
+        MatcherAssert.assertThat(
+            beans.get("one more").getKey(), Matchers.equalTo(MBeans.OTHER)
+        );
+        MatcherAssert.assertThat(
+            beans.get("and another"),
+            Matchers.sameInstance(beans.get("one more"))
+        );
+        MatcherAssert.assertThat(
+            beans.values(), Matchers.hasSize(MBeans.MAX + 1)
+        );
+    }
+
+    /**
+     * MBeans can publish values in JMX and remove them.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    public void publishesAndRemoves() throws Exception {
+        final MBeans<MBeansTest.Key> beans = new MBeans<>(
+            "Key", "test-beans", MBeansTest.Bean.class, MBeansTest.Key::new
+        );
+        beans.get("a b");
+        final ObjectName name = new ObjectName(
+            String.format(
+                "com.jcabi.github:type=Key,registry=%s,key=%s",
+                ObjectName.quote("test-beans"),
+                ObjectName.quote("a b")
+            )
+        );
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(name, "Key"),
+            Matchers.equalTo("a b")
+        );
+        beans.close();
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer().isRegistered(name),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Bean of a key.
+     * @since 2.0
+     */
+    @MXBean
+    public interface Bean {
+        /**
+         * Key.
+         * @return Key
+         */
+        String getKey();
+    }
+
+    /**
+     * Value that knows its key.
+     * @since 2.0
+     */
+    private static final class Key implements MBeansTest.Bean {
+        /**
+         * Key.
+         */
+        private final transient String key;
+        /**
+         * Ctor.
+         * @param name Key
+         */
+        Key(final String name) {
+            this.key = name;
+        }
+        @Override
+        public String getKey() {
+            return this.key;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RandomPort;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.JdkRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test case for {@link MetricsWire}.
+ *
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (200 lines)
+ */
+public final class MetricsWireTest {
+
+    /**
+     * The rule for skipping test if there's BindException.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient RandomPort resource = new RandomPort();
+
+    /**
+     * MetricsWire can make templates of paths.
+     */
+    @Test
+    public void makesTemplates() {
+        MatcherAssert.assertThat(
+            MetricsWire.template("/repos/jcabi/jcabi-github/issues/42"),
+            Matchers.equalTo("/repos/{owner}/{repo}/issues/{n}")
+        );
+        MatcherAssert.assertThat(
+            MetricsWire.template("/repos/a/b/contents/src/main/Foo.java"),
+            Matchers.equalTo("/repos/{owner}/{repo}/contents/{path}")
+        );
+        MatcherAssert.assertThat(
+            MetricsWire.template(
+                String.join(
+                    "", "/repos/a/b/git/commits/",
+                    "0123456789abcdef0123456789abcdef01234567"
+                )
+            ),
+            Matchers.equalTo("/repos/{owner}/{repo}/git/commits/{sha}")
+        );
+        MatcherAssert.assertThat(
+            MetricsWire.template("/repos/a/b/git/refs/heads/master"),
+            Matchers.equalTo("/repos/{owner}/{repo}/git/refs/{ref}")
+        );
+        MatcherAssert.assertThat(
+            MetricsWire.template("/users/yegor256/repos"),
+            Matchers.equalTo("/users/{user}/repos")
+        );
+        MatcherAssert.assertThat(
+            MetricsWire.template("/search/issues"),
+            Matchers.equalTo("/search/issues")
+        );
+        MatcherAssert.assertThat(
+            MetricsWire.template(""), Matchers.equalTo("/")
+        );
+    }
+
+    /**
+     * MetricsWire can record requests by route.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void recordsByRoute() throws IOException {
+        final RouteMetrics metrics = new RouteMetrics();
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "12345")
+                    .withHeader("X-RateLimit-Remaining", "4999")
+            )
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_NOT_FOUND))
+            .next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_NOT_MODIFIED)
+                    .withHeader("X-RateLimit-Remaining", "4999")
+            )
+            .start(this.resource.port())) {
+            for (final String number : new String[] {"1", "2", "3"}) {
+                new JdkRequest(container.home())
+                    .through(MetricsWire.class, metrics)
+                    .uri().path("/repos/a/b/issues").path(number).back()
+                    .fetch();
+            }
+        }
+        final RouteMetrics.Stats stats = metrics.snapshot()
+            .get("GET /repos/{owner}/{repo}/issues/{n}");
+        MatcherAssert.assertThat(stats.requests(), Matchers.equalTo(3L));
+        MatcherAssert.assertThat(stats.errors(), Matchers.equalTo(1L));
+        MatcherAssert.assertThat(stats.cost(), Matchers.equalTo(1L));
+        MatcherAssert.assertThat(
+            stats.bytes(), Matchers.greaterThanOrEqualTo(5L)
+        );
+        MatcherAssert.assertThat(
+            stats.statuses(),
+            Matchers.hasEntry(HttpURLConnection.HTTP_NOT_FOUND, 1L)
+        );
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RandomPort;
+import com.jcabi.http.Request;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.JdkRequest;
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link RecordingWire}.
+ *
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (200 lines)
+ */
+public final class RecordingWireTest {
+
+    /**
+     * The rule for skipping test if there's BindException.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient RandomPort resource = new RandomPort();
+
+    /**
+     * Temporary folder.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient TemporaryFolder temp = new TemporaryFolder();
+
+    /**
+     * RecordingWire can record exchanges in order.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void recordsExchanges() throws IOException {
+        final String path = new File(this.temp.getRoot(), "a/b.tape")
+            .getPath();
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "first")
+                    .withHeader("X-Test", "yes")
+            )
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_CREATED, "x"))
+            .start(this.resource.port())) {
+            final Request req = new JdkRequest(container.home())
+                .through(RecordingWire.class, path);
+            MatcherAssert.assertThat(
+                req.fetch().body(), Matchers.equalTo("first")
+            );
+            req.method(Request.POST).body().set("hello").back().fetch();
+            MatcherAssert.assertThat(
+                container.take().body(), Matchers.emptyString()
+            );
+            MatcherAssert.assertThat(
+                container.take().body(), Matchers.equalTo("hello")
+            );
+        }
+        final List<Cassette.Exchange> tape = new Cassette(path).exchanges();
+        MatcherAssert.assertThat(tape, Matchers.hasSize(2));
+        MatcherAssert.assertThat(
+            tape.get(0).key(), Matchers.startsWith("GET http://")
+        );
+        MatcherAssert.assertThat(
+            tape.get(1).key(), Matchers.not(Matchers.endsWith(" "))
+        );
+        MatcherAssert.assertThat(
+            tape.get(0).response(new JdkRequest("http://localhost/"))
+                .headers().get("X-Test"),
+            Matchers.contains("yes")
+        );
+        MatcherAssert.assertThat(
+            tape.get(1).response(new JdkRequest("http://localhost/"))
+                .status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_CREATED)
+        );
+    }
+}
@@ -0,0 +1,196 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.RandomPort;
+import com.jcabi.github.RtPagination;
+import com.jcabi.http.Request;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.JdkRequest;
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import javax.json.JsonObject;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Test case for {@link ReplayWire}.
+ *
+ * @since 2.0
+ * @checkstyle MultipleStringLiteralsCheck (300 lines)
+ */
+public final class ReplayWireTest {
+
+    /**
+     * The rule for skipping test if there's BindException.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient RandomPort resource = new RandomPort();
+
+    /**
+     * Temporary folder.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient TemporaryFolder temp = new TemporaryFolder();
+
+    /**
+     * ReplayWire can replay paginated responses offline.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void replaysPagination() throws IOException {
+        final String path = this.tape();
+        final URI home;
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "[{\"n\":1}]")
+                    .withHeader("Link", "</s?page=2>; rel=\"next\"")
+            )
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "[{\"n\":2}]"))
+            .start(this.resource.port())) {
+            home = container.home();
+            MatcherAssert.assertThat(
+                ReplayWireTest.numbers(
+                    new JdkRequest(home).through(RecordingWire.class, path)
+                ),
+                Matchers.contains(1, 2)
+            );
+        }
+        MatcherAssert.assertThat(
+            ReplayWireTest.numbers(
+                new JdkRequest(home).through(ReplayWire.class, path, 0.0d)
+            ),
+            Matchers.contains(1, 2)
+        );
+    }
+
+    /**
+     * ReplayWire can serve repeated requests in the recorded order.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void replaysInOrder() throws IOException {
+        final String path = this.tape();
+        final URI home;
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "one"))
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "two"))
+            .start(this.resource.port())) {
+            home = container.home();
+            final Request req = new JdkRequest(home)
+                .through(RecordingWire.class, path);
+            req.fetch();
+            req.fetch();
+        }
+        final Request req = new JdkRequest(home)
+            .through(ReplayWire.class, path, 0.0d);
+        MatcherAssert.assertThat(req.fetch().body(), Matchers.equalTo("one"));
+        MatcherAssert.assertThat(req.fetch().body(), Matchers.equalTo("two"));
+        MatcherAssert.assertThat(req.fetch().body(), Matchers.equalTo("two"));
+    }
+
+    /**
+     * ReplayWire can scale recorded latencies.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void scalesLatency() throws IOException {
+        final String path = this.tape();
+        final URI home;
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(
+                new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "slow")
+            )
+            .start(this.resource.port())) {
+            home = container.home();
+            new JdkRequest(home).through(RecordingWire.class, path).fetch();
+        }
+        final long nanos = new Cassette(path).exchanges().get(0).nanos();
+        final long start = System.nanoTime();
+        new JdkRequest(home).through(ReplayWire.class, path, 2.0d).fetch();
+        MatcherAssert.assertThat(
+            System.nanoTime() - start,
+            Matchers.greaterThanOrEqualTo(2L * nanos)
+        );
+    }
+
+    /**
+     * ReplayWire can fail on requests that were never recorded.
+     * @throws IOException If some problem inside
+     */
+    @Test(expected = IOException.class)
+    public void failsOnUnknownRequest() throws IOException {
+        final String path = this.tape();
+        final URI home;
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "a"))
+            .start(this.resource.port())) {
+            home = container.home();
+            new JdkRequest(home).through(RecordingWire.class, path).fetch();
+        }
+        new JdkRequest(home).through(ReplayWire.class, path, 0.0d)
+            .uri().path("/unknown").back()
+            .fetch();
+    }
+
+    /**
+     * Make a path of a fresh tape.
+     * @return Path
+     * @throws IOException If fails
+     */
+    private String tape() throws IOException {
+        return new File(this.temp.newFolder(), "github.tape").getPath();
+    }
+
+    /**
+     * Read all numbers through pagination.
+     * @param req Request
+     * @return Numbers
+     */
+    private static List<Integer> numbers(final Request req) {
+        final List<Integer> numbers = new ArrayList<>(2);
+        for (final JsonObject json
+            : new RtPagination<>(req, object -> object)) {
+            numbers.add(json.getInt("n"));
+        }
+        return numbers;
+    }
+}
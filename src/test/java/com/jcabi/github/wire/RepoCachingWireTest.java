@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.Coordinates;
+import com.jcabi.github.Github;
+import com.jcabi.github.RandomPort;
+import com.jcabi.github.RtGithub;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.ApacheRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import javax.json.Json;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test case for {@link RepoCachingWire}.
+ * @since 2.0
+ */
+public final class RepoCachingWireTest {
+
+    /**
+     * The rule for skipping test if there's BindException.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient RandomPort resource = new RandomPort();
+
+    /**
+     * RepoCachingWire can remember the default branch across repos
+     * until the repository is patched.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void remembersDefaultBranch() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(RepoCachingWireTest.repo("main"))
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "{}"))
+            .next(RepoCachingWireTest.repo("trunk"))
+            .start(this.resource.port())) {
+            final Github github = new RtGithub(
+                new ApacheRequest(container.home())
+                    .through(RepoCachingWire.class, 60L)
+            );
+            final Coordinates coords = new Coordinates.Simple("a/b");
+            github.repos().get(coords).defaultBranch();
+            MatcherAssert.assertThat(
+                github.repos().get(coords).defaultBranch().name(),
+                Matchers.equalTo("main")
+            );
+            github.repos().get(coords).patch(
+                Json.createObjectBuilder()
+                    .add("default_branch", "trunk")
+                    .build()
+            );
+            MatcherAssert.assertThat(
+                github.repos().get(coords).defaultBranch().name(),
+                Matchers.equalTo("trunk")
+            );
+            MatcherAssert.assertThat(container.queries(), Matchers.is(2 + 1));
+        }
+    }
+
+    /**
+     * RepoCachingWire can pass other requests through.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void ignoresOtherPaths() throws IOException {
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "{}"))
+            .next(new MkAnswer.Simple(HttpURLConnection.HTTP_OK, "{}"))
+            .start(this.resource.port())) {
+            final Github github = new RtGithub(
+                new ApacheRequest(container.home())
+                    .through(RepoCachingWire.class)
+            );
+            final Coordinates coords = new Coordinates.Simple("a/b");
+            github.repos().get(coords).issues().get(1).json();
+            github.repos().get(coords).issues().get(1).json();
+            MatcherAssert.assertThat(container.queries(), Matchers.is(2));
+        }
+    }
+
+    /**
+     * Answer with the repository JSON.
+     * @param branch Default branch
+     * @return Answer
+     */
+    private static MkAnswer repo(final String branch) {
+        return new MkAnswer.Simple(
+            HttpURLConnection.HTTP_OK,
+            Json.createObjectBuilder()
+                .add("default_branch", branch)
+                .build().toString()
+        );
+    }
+}
@@ -0,0 +1,159 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.github.Limits;
+import com.jcabi.github.RandomPort;
+import com.jcabi.github.RateLimitRegistry;
+import com.jcabi.http.Request;
+import com.jcabi.http.mock.MkAnswer;
+import com.jcabi.http.mock.MkContainer;
+import com.jcabi.http.mock.MkGrizzlyContainer;
+import com.jcabi.http.request.FakeRequest;
+import com.jcabi.http.request.JdkRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+
+/**
+ * Test case for {@link ResourceCarefulWire}.
+ *
+ * @since 2.0
+ */
+public final class ResourceCarefulWireTest {
+
+    /**
+     * The rule for skipping test if there's BindException.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient RandomPort resource = new RandomPort();
+
+    /**
+     * ResourceCarefulWire can hold back only the exhausted bucket.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void holdsBackOnlyExhaustedBucket() throws IOException {
+        final long reset = TimeUnit.MILLISECONDS
+            .toSeconds(System.currentTimeMillis()) + 2L;
+        final MkAnswer answer = new MkAnswer.Simple(HttpURLConnection.HTTP_OK)
+            .withHeader("X-RateLimit-Resource", "search")
+            .withHeader("X-RateLimit-Limit", "30")
+            .withHeader("X-RateLimit-Remaining", "1")
+            .withHeader("X-RateLimit-Reset", String.valueOf(reset));
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(answer).next(answer).next(answer)
+            .start(this.resource.port())) {
+            final Request entry = new JdkRequest(container.home())
+                .through(ResourceCarefulWire.class, 1);
+            final Request search = entry.uri().path("/search/issues").back();
+            search.fetch();
+            long start = System.currentTimeMillis();
+            entry.uri().path("/repos/a/b").back().fetch();
+            MatcherAssert.assertThat(
+                System.currentTimeMillis() - start,
+                Matchers.lessThan(TimeUnit.SECONDS.toMillis(1L))
+            );
+            start = System.currentTimeMillis();
+            search.fetch();
+            MatcherAssert.assertThat(
+                TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis()),
+                Matchers.greaterThanOrEqualTo(reset)
+            );
+            MatcherAssert.assertThat(
+                System.currentTimeMillis() - start,
+                Matchers.greaterThan(0L)
+            );
+        }
+    }
+
+    /**
+     * ResourceCarefulWire can feed the registry and ignore a replayed
+     * response with more requests remaining.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void ignoresReplayedBudget() throws IOException {
+        final String reset = String.valueOf(
+            TimeUnit.MILLISECONDS.toSeconds(System.currentTimeMillis())
+                + TimeUnit.HOURS.toSeconds(1L)
+        );
+        final RateLimitRegistry registry = new RateLimitRegistry();
+        try (final MkContainer container = new MkGrizzlyContainer()
+            .next(ResourceCarefulWireTest.answer("7", reset))
+            .next(ResourceCarefulWireTest.answer("9", reset))
+            .start(this.resource.port())) {
+            final Request entry = new JdkRequest(container.home())
+                .through(ResourceCarefulWire.class, 1, registry);
+            entry.fetch();
+            entry.fetch();
+        }
+        MatcherAssert.assertThat(
+            registry.get(Limits.CORE).getInt("remaining"),
+            Matchers.is(7)
+        );
+    }
+
+    /**
+     * ResourceCarefulWire can tolerate the lack of rate limit headers.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void toleratesMissingHeaders() throws IOException {
+        final Request entry = new FakeRequest()
+            .withStatus(HttpURLConnection.HTTP_OK)
+            .through(ResourceCarefulWire.class, 1);
+        entry.fetch();
+        MatcherAssert.assertThat(
+            entry.fetch().status(),
+            Matchers.is(HttpURLConnection.HTTP_OK)
+        );
+    }
+
+    /**
+     * Answer with core rate limit headers.
+     * @param remaining Requests remaining
+     * @param reset When the bucket resets
+     * @return Answer
+     */
+    private static MkAnswer answer(final String remaining,
+        final String reset) {
+        return new MkAnswer.Simple(HttpURLConnection.HTTP_OK)
+            .withHeader("X-RateLimit-Resource", "core")
+            .withHeader("X-RateLimit-Limit", "5000")
+            .withHeader("X-RateLimit-Remaining", remaining)
+            .withHeader("X-RateLimit-Reset", reset);
+    }
+}
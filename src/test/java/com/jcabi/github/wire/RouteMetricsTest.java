@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import javax.management.ObjectName;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Test;
+
+/**
+ * Test case for {@link RouteMetrics}.
+ *
+ * @since 2.0
+ * @checkstyle MagicNumberCheck (200 lines)
+ */
+public final class RouteMetricsTest {
+
+    /**
+     * RouteMetrics can estimate percentiles.
+     */
+    @Test
+    public void estimatesPercentiles() {
+        final RouteMetrics metrics = new RouteMetrics();
+        for (int idx = 0; idx < 99; ++idx) {
+            metrics.record(
+                "GET /a", 200, TimeUnit.MICROSECONDS.toNanos(100L), 0L, 1L
+            );
+        }
+        metrics.record("GET /a", 200, TimeUnit.SECONDS.toNanos(1L), 0L, 1L);
+        final RouteMetrics.Stats stats = metrics.snapshot().get("GET /a");
+        MatcherAssert.assertThat(
+            stats.percentile(50.0d),
+            Matchers.allOf(
+                Matchers.greaterThanOrEqualTo(100L),
+                Matchers.lessThan(200L)
+            )
+        );
+        MatcherAssert.assertThat(
+            stats.percentile(100.0d), Matchers.equalTo(1_000_000L)
+        );
+        MatcherAssert.assertThat(stats.max(), Matchers.equalTo(1_000_000L));
+        MatcherAssert.assertThat(stats.cost(), Matchers.equalTo(100L));
+    }
+
+    /**
+     * RouteMetrics can publish routes in JMX.
+     * @throws Exception If some problem inside
+     */
+    @Test
+    public void publishesInJmx() throws Exception {
+        final RouteMetrics metrics = new RouteMetrics("test-jmx");
+        metrics.record("GET /rate_limit", 200, 1_000L, 10L, 0L);
+        final ObjectName name = new ObjectName(
+            String.format(
+                "com.jcabi.github:type=Route,registry=%s,route=%s",
+                ObjectName.quote("test-jmx"),
+                ObjectName.quote("GET /rate_limit")
+            )
+        );
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(name, "Requests"),
+            Matchers.equalTo(1L)
+        );
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer()
+                .getAttribute(name, "Bytes"),
+            Matchers.equalTo(10L)
+        );
+        metrics.close();
+        MatcherAssert.assertThat(
+            ManagementFactory.getPlatformMBeanServer().isRegistered(name),
+            Matchers.is(false)
+        );
+    }
+}
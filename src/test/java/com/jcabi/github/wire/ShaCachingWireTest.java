@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2013-2025 Yegor Bugayenko
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions
+ * are met: 1) Redistributions of source code must retain the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer. 2) Redistributions in binary form must reproduce the above
+ * copyright notice, this list of conditions and the following
+ * disclaimer in the documentation and/or other materials provided
+ * with the distribution. 3) Neither the name of the jcabi.com nor
+ * the names of its contributors may be used to endorse or promote
+ * products derived from this software without specific prior written
+ * permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT
+ * NOT LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND
+ * FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL
+ * THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT,
+ * INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT,
+ * STRICT LIABILITY, OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE)
+ * ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE, EVEN IF ADVISED
+ * OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package com.jcabi.github.wire;
+
+import com.jcabi.http.ImmutableHeader;
+import com.jcabi.http.Request;
+import com.jcabi.http.Response;
+import com.jcabi.http.Wire;
+import com.jcabi.http.request.FakeRequest;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import javax.ws.rs.core.HttpHeaders;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+
+/**
+ * Test case for {@link ShaCachingWire}.
+ * @since 2.0
+ */
+public final class ShaCachingWireTest {
+
+    /**
+     * URI of a blob.
+     */
+    private static final String BLOB = String.join(
+        "", "https://api.github.com/repos/a/b/git/blobs/",
+        "6dcb09b5b57875f334f61aebed695e2e4193db5e"
+    );
+
+    /**
+     * Temporary folder.
+     * @checkstyle VisibilityModifierCheck (3 lines)
+     */
+    @Rule
+    public final transient TemporaryFolder temp = new TemporaryFolder();
+
+    /**
+     * ShaCachingWire can fetch an immutable object only once.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void cachesBlobs() throws IOException {
+        final Wire origin = ShaCachingWireTest.origin();
+        final Wire wire = new ShaCachingWire(origin);
+        ShaCachingWireTest.get(wire, ShaCachingWireTest.BLOB);
+        MatcherAssert.assertThat(
+            ShaCachingWireTest.get(wire, ShaCachingWireTest.BLOB).body(),
+            Matchers.equalTo("{}")
+        );
+        Mockito.verify(origin, Mockito.times(1)).send(
+            Mockito.any(), Mockito.anyString(), Mockito.anyString(),
+            Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt()
+        );
+    }
+
+    /**
+     * ShaCachingWire can ignore references which may change.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void ignoresBranches() throws IOException {
+        final Wire origin = ShaCachingWireTest.origin();
+        final Wire wire = new ShaCachingWire(origin);
+        final String uri = "https://api.github.com/repos/a/b/commits/master";
+        ShaCachingWireTest.get(wire, uri);
+        ShaCachingWireTest.get(wire, uri);
+        Mockito.verify(origin, Mockito.times(2)).send(
+            Mockito.any(), Mockito.anyString(), Mockito.anyString(),
+            Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt()
+        );
+    }
+
+    /**
+     * ShaCachingWire can read objects from the persistent tier.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void readsFromDisk() throws IOException {
+        final Wire origin = ShaCachingWireTest.origin();
+        final String dir = this.temp.newFolder().getAbsolutePath();
+        ShaCachingWireTest.get(
+            new ShaCachingWire(origin, 1L << 20, dir), ShaCachingWireTest.BLOB
+        );
+        MatcherAssert.assertThat(
+            ShaCachingWireTest.get(
+                new ShaCachingWire(origin, 1L << 20, dir),
+                ShaCachingWireTest.BLOB
+            ).status(),
+            Matchers.equalTo(HttpURLConnection.HTTP_OK)
+        );
+        Mockito.verify(origin, Mockito.times(1)).send(
+            Mockito.any(), Mockito.anyString(), Mockito.anyString(),
+            Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt()
+        );
+    }
+
+    /**
+     * ShaCachingWire can keep objects of different clients apart.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void separatesCredentials() throws IOException {
+        final Wire origin = ShaCachingWireTest.origin();
+        final Wire wire = new ShaCachingWire(origin);
+        for (final String token : new String[] {"token a", "token b"}) {
+            wire.send(
+                new FakeRequest(), ShaCachingWireTest.BLOB, Request.GET,
+                Collections.singletonList(
+                    new ImmutableHeader(HttpHeaders.AUTHORIZATION, token)
+                ),
+                null, 0, 0
+            );
+        }
+        ShaCachingWireTest.get(
+            wire, ShaCachingWireTest.BLOB.replace("api.github.com", "ghe")
+        );
+        Mockito.verify(origin, Mockito.times(2 + 1)).send(
+            Mockito.any(), Mockito.anyString(), Mockito.anyString(),
+            Mockito.any(), Mockito.any(), Mockito.anyInt(), Mockito.anyInt()
+        );
+    }
+
+    /**
+     * ShaCachingWire can drop rate limit headers from cached responses.
+     * @throws IOException If some problem inside
+     */
+    @Test
+    public void dropsRateLimitHeaders() throws IOException {
+        final Wire origin = Mockito.mock(Wire.class);
+        Mockito.when(
+            origin.send(
+                Mockito.any(), Mockito.anyString(), Mockito.anyString(),
+                Mockito.any(), Mockito.any(), Mockito.anyInt(),
+                Mockito.anyInt()
+            )
+        ).thenReturn(
+            new FakeRequest()
+                .withHeader("X-RateLimit-Remaining", "10")
+                .withHeader("ETag", "abc")
+                .withBody("{}")
+                .fetch()
+        );
+        final Wire wire = new ShaCachingWire(origin);
+        ShaCachingWireTest.get(wire, ShaCachingWireTest.BLOB);
+        final Response cached = ShaCachingWireTest.get(
+            wire, ShaCachingWireTest.BLOB
+        );
+        MatcherAssert.assertThat(
+            cached.headers(),
+            Matchers.allOf(
+                Matchers.hasKey("ETag"),
+                Matchers.not(Matchers.hasKey("X-RateLimit-Remaining"))
+            )
+        );
+    }
+
+    /**
+     * Make a wire that always returns the same JSON.
+     * @return Wire
+     * @throws IOException If fails
+     */
+    private static Wire origin() throws IOException {
+        final Wire wire = Mockito.mock(Wire.class);
+        Mockito.when(
+            wire.send(
+                Mockito.any(), Mockito.anyString(), Mockito.anyString(),
+                Mockito.any(), Mockito.any(), Mockito.anyInt(),
+                Mockito.anyInt()
+            )
+        ).thenReturn(new FakeRequest().withBody("{}").fetch());
+        return wire;
+    }
+
+    /**
+     * Send GET request through the wire.
+     * @param wire Wire
+     * @param uri URI
+     * @return Response
+     * @throws IOException If fails
+     */
+    private static Response get(final Wire wire,
+        final String uri) throws IOException {
+        return wire.send(
+            new FakeRequest(), uri, Request.GET,
+            Collections.emptyList(), null, 0, 0
+        );
+    }
+}